@@ -0,0 +1,36 @@
+package com.pims.backend.actuator;
+
+import java.util.List;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import com.pims.backend.dto.SweepRun;
+import com.pims.backend.service.AppointmentSweeperService;
+
+/**
+ * GET /actuator/appointmentsweeper lists recent sweeper runs, newest first;
+ * POST triggers a run immediately.
+ */
+@Component
+@Endpoint(id = "appointmentsweeper")
+public class AppointmentSweeperEndpoint {
+
+    private final AppointmentSweeperService sweeperService;
+
+    public AppointmentSweeperEndpoint(AppointmentSweeperService sweeperService) {
+        this.sweeperService = sweeperService;
+    }
+
+    @ReadOperation
+    public List<SweepRun> history() {
+        return sweeperService.getHistory();
+    }
+
+    @WriteOperation
+    public SweepRun run() {
+        return sweeperService.sweep("manual");
+    }
+}
@@ -0,0 +1,33 @@
+package com.pims.backend.actuator;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import com.pims.backend.dto.LedgerReconciliation;
+import com.pims.backend.service.LedgerService;
+
+/**
+ * GET /actuator/ledgerreconciliation shows the last balance check; POST runs one now.
+ */
+@Component
+@Endpoint(id = "ledgerreconciliation")
+public class LedgerReconciliationEndpoint {
+
+    private final LedgerService ledgerService;
+
+    public LedgerReconciliationEndpoint(LedgerService ledgerService) {
+        this.ledgerService = ledgerService;
+    }
+
+    @ReadOperation
+    public LedgerReconciliation lastRun() {
+        return ledgerService.getLastReconciliation();
+    }
+
+    @WriteOperation
+    public LedgerReconciliation run() {
+        return ledgerService.reconcile();
+    }
+}
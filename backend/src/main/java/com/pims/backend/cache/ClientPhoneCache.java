@@ -0,0 +1,69 @@
+package com.pims.backend.cache;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+
+import com.pims.backend.entity.Client;
+import com.pims.backend.repository.ClientRepository;
+import com.pims.backend.util.PhoneNumbers;
+
+/**
+ * Caller-ID lookup: E.164 number to client, with pets.
+ *
+ * Recently seen numbers map straight to a client id, so a repeat caller costs one
+ * primary-key probe that also fetches the pets; a first-time number costs one extra
+ * probe on the unique phone_e164 index. The map is LRU-bounded and entries for a
+ * client are dropped whenever that client is written.
+ */
+@Component
+public class ClientPhoneCache {
+
+    private static final int MAX_ENTRIES = 10_000;
+
+    private final ClientRepository clientRepository;
+    private final Map<String, Long> clientIdsByPhone = Collections.synchronizedMap(
+            new LinkedHashMap<>(256, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                    return size() > MAX_ENTRIES;
+                }
+            });
+
+    public ClientPhoneCache(ClientRepository clientRepository) {
+        this.clientRepository = clientRepository;
+    }
+
+    public Optional<Client> findByPhone(String number) {
+        String e164 = PhoneNumbers.toE164(number);
+        if (e164 == null) {
+            return Optional.empty();
+        }
+        Long clientId = clientIdsByPhone.get(e164);
+        if (clientId == null) {
+            Optional<Long> found = clientRepository.findIdByPhoneE164(e164);
+            if (found.isEmpty()) {
+                return Optional.empty();
+            }
+            clientId = found.get();
+            clientIdsByPhone.put(e164, clientId);
+        }
+
+        Optional<Client> client = clientRepository.findWithPetsById(clientId);
+        if (client.isEmpty() || !e164.equals(client.get().getPhoneE164())) {
+            // Stale entry: the client was deleted or changed number since it was cached
+            clientIdsByPhone.remove(e164, clientId);
+            return client.isEmpty() ? Optional.empty() : findByPhone(number);
+        }
+        return client;
+    }
+
+    public void evict(Long clientId) {
+        synchronized (clientIdsByPhone) {
+            clientIdsByPhone.values().removeIf(clientId::equals);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.pims.backend.cache;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import com.pims.backend.dto.AppointmentCalendarItem;
+import com.pims.backend.entity.AppUser;
+import com.pims.backend.index.BookingIndex;
+import com.pims.backend.repository.AppUserRepository;
+import com.pims.backend.repository.AppointmentRepository;
+
+/**
+ * Per-vet queue of the next few upcoming appointments.
+ *
+ * A queue is loaded on first use and then served from memory; entries whose start
+ * time has passed are skipped on read, so the queue advances with the clock and is
+ * only reloaded once it runs dry. Appointment writes evict the affected vets after
+ * commit; a version counter stops a load that raced an eviction from being stored.
+ */
+@Component
+public class NextAppointmentCache {
+
+    private static final int QUEUE_SIZE = 20;
+
+    private final AppointmentRepository appointmentRepository;
+    private final AppUserRepository appUserRepository;
+    private final Map<String, Long> vetIdsByUsername = new ConcurrentHashMap<>();
+    private final Map<Long, Queue> queues = new ConcurrentHashMap<>();
+    private final Map<Long, Long> versions = new ConcurrentHashMap<>();
+
+    public NextAppointmentCache(AppointmentRepository appointmentRepository, AppUserRepository appUserRepository) {
+        this.appointmentRepository = appointmentRepository;
+        this.appUserRepository = appUserRepository;
+    }
+
+    public Optional<AppointmentCalendarItem> next(String username) {
+        Long vetId = vetIdsByUsername.computeIfAbsent(username,
+                u -> appUserRepository.findByUsername(u).map(AppUser::getId).orElse(null));
+        if (vetId == null) {
+            throw new RuntimeException("Vet user not found");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Queue queue = queues.get(vetId);
+        if (queue != null) {
+            AppointmentCalendarItem next = queue.firstAfter(now);
+            if (next != null || queue.exhaustive) {
+                return Optional.ofNullable(next);
+            }
+        }
+        return Optional.ofNullable(load(vetId, now).firstAfter(now));
+    }
+
+    public void evict(Long vetId) {
+        if (vetId == null) {
+            return;
+        }
+        versions.merge(vetId, 1L, Long::sum);
+        queues.remove(vetId);
+    }
+
+    public void evictAll() {
+        versions.replaceAll((vetId, version) -> version + 1);
+        queues.clear();
+        vetIdsByUsername.clear();
+    }
+
+    private Queue load(Long vetId, LocalDateTime now) {
+        Long version = versions.getOrDefault(vetId, 0L);
+        List<AppointmentCalendarItem> upcoming = appointmentRepository.findUpcomingForVet(vetId, now,
+                BookingIndex.INACTIVE_STATUSES, PageRequest.of(0, QUEUE_SIZE));
+        Queue queue = new Queue(upcoming, upcoming.size() < QUEUE_SIZE);
+        queues.put(vetId, queue);
+        if (!version.equals(versions.getOrDefault(vetId, 0L))) {
+            // Evicted while we were loading; the result may predate that write.
+            queues.remove(vetId, queue);
+        }
+        return queue;
+    }
+
+    private static final class Queue {
+        private final List<AppointmentCalendarItem> items;
+        // True when the vet has no upcoming appointments beyond the ones loaded.
+        private final boolean exhaustive;
+
+        Queue(List<AppointmentCalendarItem> items, boolean exhaustive) {
+            this.items = items;
+            this.exhaustive = exhaustive;
+        }
+
+        AppointmentCalendarItem firstAfter(LocalDateTime now) {
+            for (AppointmentCalendarItem item : items) {
+                if (item.getStartTime().isAfter(now)) {
+                    return item;
+                }
+            }
+            return null;
+        }
+    }
+}
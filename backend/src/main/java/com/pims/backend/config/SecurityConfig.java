@@ -19,6 +19,8 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import com.pims.backend.security.JwtAuthenticationFilter;
 import com.pims.backend.security.JwtAuthenticationEntryPoint;
 
+import jakarta.servlet.DispatcherType;
+
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
@@ -42,8 +44,12 @@ public class SecurityConfig {
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
+                        // Async re-dispatches (SSE, streaming bodies) were already authorised on the original request
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers("/api/auth/**").permitAll() // CRITICAL: Allows Login/Register
                         .requestMatchers("/error").permitAll()
+                        // Calendar subscriptions authenticate with the feed token in the URL, checked by the controller
+                        .requestMatchers(HttpMethod.GET, "/api/users/*/calendar.ics").permitAll()
                         .requestMatchers("/api/clients/**").authenticated() // Explicitly allowed for debugging
                         .requestMatchers("/api/patients/**").authenticated()
                         .requestMatchers("/api/dashboard/**").authenticated()
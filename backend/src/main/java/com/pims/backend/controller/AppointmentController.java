@@ -1,13 +1,29 @@
 package com.pims.backend.controller;
 
+import com.pims.backend.dto.AppointmentCalendarItem;
 import com.pims.backend.dto.AppointmentRequest;
+import com.pims.backend.dto.AppointmentSearchPage;
+import com.pims.backend.dto.AppointmentSeriesRequest;
+import com.pims.backend.dto.AppointmentStatusChange;
+import com.pims.backend.dto.AvailabilityResponse;
 import com.pims.backend.entity.Appointment;
+import com.pims.backend.enums.ResourceType;
+import com.pims.backend.event.AppointmentEventStream;
+import com.pims.backend.exception.BookingConflictException;
+import com.pims.backend.exception.InvalidStatusTransitionException;
 import com.pims.backend.service.AppointmentService;
+import com.pims.backend.service.AvailabilityService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -16,9 +32,15 @@ import java.util.List;
 public class AppointmentController {
 
     private final AppointmentService appointmentService;
+    private final AvailabilityService availabilityService;
+    private final AppointmentEventStream appointmentEventStream;
 
-    public AppointmentController(AppointmentService appointmentService) {
+    public AppointmentController(AppointmentService appointmentService,
+            AvailabilityService availabilityService,
+            AppointmentEventStream appointmentEventStream) {
         this.appointmentService = appointmentService;
+        this.availabilityService = availabilityService;
+        this.appointmentEventStream = appointmentEventStream;
     }
 
     @GetMapping
@@ -26,6 +48,34 @@ public class AppointmentController {
         return appointmentService.getAllAppointments();
     }
 
+    /**
+     * Calendar window: GET /api/appointments?from=&to=&vetId=&resourceId=
+     * Returns flat calendar items for appointments starting in [from, to).
+     */
+    @GetMapping(params = { "from", "to" })
+    public ResponseEntity<List<AppointmentCalendarItem>> getCalendar(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) Long vetId,
+            @RequestParam(required = false) Long resourceId) {
+        try {
+            return ResponseEntity.ok(appointmentService.getCalendar(from, to, vetId, resourceId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Change stream: GET /api/appointments/stream (text/event-stream)
+     * Emits created/updated/deleted deltas; honours Last-Event-ID on reconnect,
+     * or sends a "reset" event when the client should reload instead.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamAppointmentChanges(
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return appointmentEventStream.subscribe(lastEventId);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<Appointment> getAppointmentById(@PathVariable Long id) {
         return appointmentService.getAppointmentById(id)
@@ -34,7 +84,7 @@ public class AppointmentController {
     }
 
     @GetMapping("/next")
-    public ResponseEntity<Appointment> getNextAppointment(@AuthenticationPrincipal UserDetails userDetails) {
+    public ResponseEntity<AppointmentCalendarItem> getNextAppointment(@AuthenticationPrincipal UserDetails userDetails) {
         if (userDetails == null) {
             return ResponseEntity.status(401).build();
         }
@@ -43,37 +93,111 @@ public class AppointmentController {
                 .orElse(ResponseEntity.noContent().build());
     }
 
+    /**
+     * Free slots of every vet and resource (optionally one vet / one resource type).
+     * GET /api/appointments/availability?date=&durationMinutes=&type=&vetId=&days=
+     */
+    @GetMapping("/availability")
+    public ResponseEntity<AvailabilityResponse> getAvailability(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam int durationMinutes,
+            @RequestParam(required = false) ResourceType type,
+            @RequestParam(required = false) Long vetId,
+            @RequestParam(defaultValue = "1") int days) {
+        try {
+            return ResponseEntity.ok(availabilityService.findFreeSlots(date, days, durationMinutes, type, vetId));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @GetMapping("/search")
     public List<Appointment> searchAppointments(@RequestParam String query) {
         return appointmentService.searchAppointments(query);
     }
 
+    /**
+     * Paginated search: GET /api/appointments/search?query=&limit=&cursor=
+     * Newest first; pass nextCursor from the previous page to continue.
+     */
+    @GetMapping(value = "/search", params = "limit")
+    public ResponseEntity<AppointmentSearchPage> searchAppointmentsPage(@RequestParam String query,
+            @RequestParam int limit,
+            @RequestParam(required = false) String cursor) {
+        try {
+            return ResponseEntity.ok(appointmentService.searchAppointments(query, cursor, limit));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @GetMapping("/client/{clientId}")
-    public List<Appointment> getAppointmentsByClient(@PathVariable Long clientId) {
+    public List<AppointmentCalendarItem> getAppointmentsByClient(@PathVariable Long clientId) {
         return appointmentService.getAppointmentsByClient(clientId);
     }
 
     @GetMapping("/patient/{patientId}")
-    public List<Appointment> getAppointmentsByPatient(@PathVariable Long patientId) {
+    public List<AppointmentCalendarItem> getAppointmentsByPatient(@PathVariable Long patientId) {
         return appointmentService.getAppointmentsByPatient(patientId);
     }
 
     @PostMapping
-    public ResponseEntity<Appointment> createAppointment(@RequestBody AppointmentRequest request) {
+    public ResponseEntity<?> createAppointment(@RequestBody AppointmentRequest request) {
         try {
             Appointment savedAppointment = appointmentService.createAppointment(request);
             return ResponseEntity.ok(savedAppointment);
+        } catch (BookingConflictException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Create a recurring series in one transaction.
+     * POST /api/appointments/series
+     */
+    @PostMapping("/series")
+    public ResponseEntity<?> createAppointmentSeries(@RequestBody AppointmentSeriesRequest request) {
+        try {
+            List<Appointment> savedAppointments = appointmentService.createAppointmentSeries(request);
+            return ResponseEntity.ok(savedAppointments);
+        } catch (BookingConflictException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
         } catch (RuntimeException e) {
             return ResponseEntity.badRequest().build();
         }
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<Appointment> updateAppointment(@PathVariable Long id,
+    public ResponseEntity<?> updateAppointment(@PathVariable Long id,
             @RequestBody AppointmentRequest request) {
         try {
             Appointment updatedAppointment = appointmentService.updateAppointment(id, request);
             return ResponseEntity.ok(updatedAppointment);
+        } catch (BookingConflictException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    /**
+     * Status-only change: PATCH /api/appointments/{id}/status {"status": "CHECKED_IN"}
+     * Returns the new status, or 409 if the current status does not allow the move
+     * or a reinstated appointment's slot is no longer free.
+     */
+    @PatchMapping("/{id}/status")
+    public ResponseEntity<?> changeStatus(@PathVariable Long id, @RequestBody AppointmentStatusChange request) {
+        try {
+            return ResponseEntity.ok(new AppointmentStatusChange(id,
+                    appointmentService.changeStatus(id, request.getStatus())));
+        } catch (InvalidStatusTransitionException | BookingConflictException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
         } catch (RuntimeException e) {
             return ResponseEntity.notFound().build();
         }
@@ -1,13 +1,30 @@
 package com.pims.backend.controller;
 
+import com.pims.backend.dto.ClientOverview;
 import com.pims.backend.dto.ClientRequest;
+import com.pims.backend.dto.ClientSuggestion;
+import com.pims.backend.dto.ClientSummary;
+import com.pims.backend.dto.DuplicateCandidate;
+import com.pims.backend.dto.DuplicateReport;
+import com.pims.backend.dto.PageResponse;
 import com.pims.backend.dto.PatientRequest;
 import com.pims.backend.entity.Client;
 import com.pims.backend.entity.Patient;
+import com.pims.backend.exception.EntityInUseException;
+import com.pims.backend.index.ClientDuplicateIndex;
+import com.pims.backend.index.ClientSuggestIndex;
+import com.pims.backend.service.ClientImportService;
+import com.pims.backend.service.ClientOverviewService;
 import com.pims.backend.service.ClientService;
 import com.pims.backend.service.PatientService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
 
 import java.util.List;
 
@@ -17,10 +34,20 @@ public class ClientController {
 
     private final ClientService clientService;
     private final PatientService patientService;
+    private final ClientSuggestIndex clientSuggestIndex;
+    private final ClientImportService clientImportService;
+    private final ClientDuplicateIndex clientDuplicateIndex;
+    private final ClientOverviewService clientOverviewService;
 
-    public ClientController(ClientService clientService, PatientService patientService) {
+    public ClientController(ClientService clientService, PatientService patientService,
+            ClientSuggestIndex clientSuggestIndex, ClientImportService clientImportService,
+            ClientDuplicateIndex clientDuplicateIndex, ClientOverviewService clientOverviewService) {
         this.clientService = clientService;
         this.patientService = patientService;
+        this.clientSuggestIndex = clientSuggestIndex;
+        this.clientImportService = clientImportService;
+        this.clientDuplicateIndex = clientDuplicateIndex;
+        this.clientOverviewService = clientOverviewService;
     }
 
     @GetMapping
@@ -28,10 +55,97 @@ public class ClientController {
         return clientService.getAllClients();
     }
 
+    /**
+     * Paged client list: GET /api/clients?page=&size=&sort=lastName,asc
+     * Slim rows with a pet count instead of the pets themselves.
+     */
+    @GetMapping(params = "page")
+    public ResponseEntity<PageResponse<ClientSummary>> getClientPage(@RequestParam int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String sort) {
+        try {
+            return ResponseEntity.ok(clientService.getClientPage(page, size, sort));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Typeahead: GET /api/clients/suggest?q=&limit=
+     * Prefix match on names, email, phone, AFM and pet names, best matches first.
+     */
+    @GetMapping("/suggest")
+    public List<ClientSuggestion> suggestClients(@RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit) {
+        return clientSuggestIndex.suggest(q, Math.min(limit, 50));
+    }
+
+    /**
+     * Caller ID: GET /api/clients/by-phone/{number}
+     * Any common notation is accepted (+30..., 0030..., local); returns the client with pets.
+     */
+    @GetMapping("/by-phone/{number}")
+    public ResponseEntity<Client> getClientByPhone(@PathVariable String number) {
+        return clientService.getClientByPhone(number)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Client 360: GET /api/clients/{id}/overview
+     * Client, pets, upcoming and recent appointments and recent medical records in one response.
+     */
+    @GetMapping("/{id}/overview")
+    public ResponseEntity<ClientOverview> getClientOverview(@PathVariable Long id) {
+        return clientOverviewService.getOverview(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Duplicate report: GET /api/clients/duplicates?limit=
+     * Pairs of clients that are probably the same person, best matches first.
+     */
+    @GetMapping("/duplicates")
+    public DuplicateReport getDuplicates(@RequestParam(defaultValue = "200") int limit) {
+        return clientDuplicateIndex.report(Math.max(1, Math.min(limit, 5000)));
+    }
+
+    /**
+     * With checkDuplicates=true a request that resembles existing clients is refused
+     * with 409 and the list of look-alikes; resend without the flag to create anyway.
+     */
     @PostMapping
-    public ResponseEntity<Client> createClient(@RequestBody ClientRequest request) {
-        Client savedClient = clientService.createClient(request);
-        return ResponseEntity.ok(savedClient);
+    public ResponseEntity<?> createClient(@RequestBody ClientRequest request,
+            @RequestParam(defaultValue = "false") boolean checkDuplicates) {
+        if (checkDuplicates) {
+            List<DuplicateCandidate> duplicates = clientDuplicateIndex.findMatches(request, 10);
+            if (!duplicates.isEmpty()) {
+                return ResponseEntity.status(HttpStatus.CONFLICT).body(duplicates);
+            }
+        }
+        try {
+            Client savedClient = clientService.createClient(request);
+            return ResponseEntity.ok(savedClient);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        }
+    }
+
+    /**
+     * Bulk import: POST /api/clients/import (multipart, field "file")
+     * CSV with a header row named after ClientRequest fields; returns a per-row error report.
+     * A malformed record ends the import early with the partial report ("aborted": true).
+     */
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<?> importClients(@RequestParam("file") MultipartFile file) {
+        try (InputStream csv = file.getInputStream()) {
+            return ResponseEntity.ok(clientImportService.importClients(csv));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (IOException e) {
+            return ResponseEntity.badRequest().body("Could not read the file: " + e.getMessage());
+        }
     }
 
     @PostMapping("/{clientId}/patients")
@@ -45,10 +159,12 @@ public class ClientController {
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteClient(@PathVariable Long id) {
+    public ResponseEntity<?> deleteClient(@PathVariable Long id) {
         try {
             clientService.deleteClient(id);
             return ResponseEntity.noContent().build();
+        } catch (EntityInUseException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
         } catch (RuntimeException e) {
             return ResponseEntity.notFound().build();
         }
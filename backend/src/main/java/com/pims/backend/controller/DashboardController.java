@@ -1,10 +1,9 @@
 package com.pims.backend.controller;
 
 import java.time.DayOfWeek;
-import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.time.temporal.TemporalAdjusters;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -15,7 +14,9 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import com.pims.backend.entity.Appointment;
+import com.pims.backend.dto.AppointmentStatsRow;
+import com.pims.backend.enums.AppointmentStatus;
+import com.pims.backend.enums.AppointmentType;
 import com.pims.backend.repository.AppointmentRepository;
 import com.pims.backend.repository.PatientRepository;
 
@@ -39,25 +40,39 @@ public class DashboardController {
         // Patient stats
         stats.put("totalPatients", patientRepository.count());
 
-        // Appointment stats
-        List<Appointment> appointments = appointmentRepository.findAll();
+        // Appointment stats, aggregated in the database
         LocalDateTime now = LocalDateTime.now();
-        LocalDate today = now.toLocalDate();
+        LocalDateTime startOfDay = now.toLocalDate().atStartOfDay();
+        LocalDateTime startOfWeek = startOfDay.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
 
-        LocalDateTime startOfWeek = now.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).with(LocalTime.MIN);
-        LocalDateTime endOfWeek = now.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY)).with(LocalTime.MAX);
+        List<AppointmentStatsRow> rows = appointmentRepository.aggregateStats(
+                startOfDay, startOfDay.plusDays(1), startOfWeek, startOfWeek.plusWeeks(1));
 
-        long appointmentsToday = appointments.stream()
-                .filter(a -> a.getStartTime().toLocalDate().isEqual(today))
-                .count();
+        Map<AppointmentStatus, Long> byStatus = new EnumMap<>(AppointmentStatus.class);
+        for (AppointmentStatus status : AppointmentStatus.values()) {
+            byStatus.put(status, 0L);
+        }
+        Map<AppointmentType, Long> byType = new EnumMap<>(AppointmentType.class);
+        for (AppointmentType type : AppointmentType.values()) {
+            byType.put(type, 0L);
+        }
 
-        long appointmentsWeek = appointments.stream()
-                .filter(a -> !a.getStartTime().isBefore(startOfWeek) && !a.getStartTime().isAfter(endOfWeek))
-                .count();
+        long totalAppointments = 0;
+        long appointmentsToday = 0;
+        long appointmentsWeek = 0;
+        for (AppointmentStatsRow row : rows) {
+            totalAppointments += row.getTotal();
+            appointmentsToday += row.getToday();
+            appointmentsWeek += row.getWeek();
+            byStatus.merge(row.getStatus(), row.getTotal(), Long::sum);
+            byType.merge(row.getType(), row.getTotal(), Long::sum);
+        }
 
         stats.put("appointmentsToday", appointmentsToday);
         stats.put("appointmentsWeek", appointmentsWeek);
-        stats.put("totalAppointments", appointments.size());
+        stats.put("totalAppointments", totalAppointments);
+        stats.put("appointmentsByStatus", byStatus);
+        stats.put("appointmentsByType", byType);
 
         // Revenue (hardcoded as requested)
         stats.put("totalRevenue", 0.0);
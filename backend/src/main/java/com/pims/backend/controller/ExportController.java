@@ -0,0 +1,55 @@
+package com.pims.backend.controller;
+
+import com.pims.backend.service.ExportService;
+import com.pims.backend.service.ExportService.Dataset;
+import com.pims.backend.service.ExportService.Format;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Locale;
+
+/**
+ * Full-table exports streamed straight from the database:
+ * GET /api/export/{clients|patients|appointments}?format=csv|ndjson
+ * Responses are gzip-compressed on the wire when the client accepts it.
+ */
+@RestController
+@RequestMapping("/api/export")
+@CrossOrigin(origins = "http://localhost:5173", allowCredentials = "true")
+public class ExportController {
+
+    private static final MediaType TEXT_CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private final ExportService exportService;
+
+    public ExportController(ExportService exportService) {
+        this.exportService = exportService;
+    }
+
+    @GetMapping("/{dataset}")
+    public ResponseEntity<StreamingResponseBody> export(@PathVariable String dataset,
+            @RequestParam(defaultValue = "csv") String format) {
+        Dataset target;
+        Format output;
+        try {
+            target = Dataset.valueOf(dataset.toUpperCase(Locale.ROOT));
+            output = Format.valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        String filename = dataset.toLowerCase(Locale.ROOT) + "-" + LocalDate.now() + "."
+                + output.name().toLowerCase(Locale.ROOT);
+        StreamingResponseBody body = out -> exportService.export(target, output, out);
+        return ResponseEntity.ok()
+                .contentType(output == Format.CSV ? TEXT_CSV : NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .body(body);
+    }
+}
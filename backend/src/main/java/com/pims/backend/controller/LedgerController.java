@@ -0,0 +1,48 @@
+package com.pims.backend.controller;
+
+import com.pims.backend.dto.LedgerEntryRequest;
+import com.pims.backend.dto.PageResponse;
+import com.pims.backend.entity.LedgerEntry;
+import com.pims.backend.service.LedgerService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/clients/{clientId}/ledger")
+@CrossOrigin(origins = "http://localhost:5173", allowCredentials = "true")
+public class LedgerController {
+
+    private final LedgerService ledgerService;
+
+    public LedgerController(LedgerService ledgerService) {
+        this.ledgerService = ledgerService;
+    }
+
+    /**
+     * Account history, newest first: GET /api/clients/{clientId}/ledger?page=&size=
+     */
+    @GetMapping
+    public PageResponse<LedgerEntry> getEntries(@PathVariable Long clientId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ledgerService.getEntries(clientId, page, size);
+    }
+
+    /**
+     * Record a charge, payment or adjustment; returns the entry and the new balance.
+     */
+    @PostMapping
+    public ResponseEntity<?> post(@PathVariable Long clientId, @RequestBody LedgerEntryRequest request,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        try {
+            String username = userDetails != null ? userDetails.getUsername() : null;
+            return ResponseEntity.ok(ledgerService.post(clientId, request, username));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+}
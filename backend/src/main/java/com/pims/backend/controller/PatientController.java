@@ -1,21 +1,48 @@
 package com.pims.backend.controller;
 
+import com.pims.backend.dto.MicrochipLookupResult;
+import com.pims.backend.dto.PageResponse;
+import com.pims.backend.dto.PatientFacetResult;
+import com.pims.backend.dto.PatientFilter;
+import com.pims.backend.dto.PatientListItem;
 import com.pims.backend.dto.PatientRequest;
+import com.pims.backend.dto.TimelinePage;
+import com.pims.backend.dto.VitalSeries;
 import com.pims.backend.entity.Patient;
+import com.pims.backend.enums.Sex;
+import com.pims.backend.enums.Species;
+import com.pims.backend.enums.VitalMetric;
+import com.pims.backend.exception.EntityInUseException;
+import com.pims.backend.index.PatientFacetIndex;
 import com.pims.backend.service.PatientService;
+import com.pims.backend.service.PatientTimelineService;
+import com.pims.backend.service.VitalsService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.MultiValueMap;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/patients")
 public class PatientController {
 
     private final PatientService patientService;
+    private final VitalsService vitalsService;
+    private final PatientTimelineService patientTimelineService;
 
-    public PatientController(PatientService patientService) {
+    public PatientController(PatientService patientService, VitalsService vitalsService,
+            PatientTimelineService patientTimelineService) {
         this.patientService = patientService;
+        this.vitalsService = vitalsService;
+        this.patientTimelineService = patientTimelineService;
     }
 
     /**
@@ -26,6 +53,85 @@ public class PatientController {
         return patientService.getAllPatients();
     }
 
+    /**
+     * Patient directory: GET /api/patients?page=&size=&sort=name,asc
+     * Optional filters: species, sex, deceased, sterilized, q (pet name, owner name or phone).
+     */
+    @GetMapping(params = "page")
+    public ResponseEntity<PageResponse<PatientListItem>> getPatientPage(@RequestParam int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String species,
+            @RequestParam(required = false) String sex,
+            @RequestParam(required = false) Boolean deceased,
+            @RequestParam(required = false) Boolean sterilized,
+            @RequestParam(required = false) String q) {
+        try {
+            PatientFilter filter = new PatientFilter(
+                    species != null && !species.isBlank() ? Species.valueOf(species.toUpperCase(Locale.ROOT)) : null,
+                    sex != null && !sex.isBlank() ? Sex.valueOf(sex.toUpperCase(Locale.ROOT)) : null,
+                    deceased, sterilized, q);
+            return ResponseEntity.ok(patientService.getPatientPage(page, size, sort, filter));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Faceted search: GET /api/patients/facets?species=DOG&species=CAT&ageBand=7-10&sterilized=false&page=0
+     * Facets: species, breed, sex, ageBand, sterilized, deceased. Values of one facet may repeat
+     * or be comma separated; they are ORed, facets are ANDed. Returns the page plus per-value counts.
+     */
+    @GetMapping("/facets")
+    public ResponseEntity<PatientFacetResult> searchFacets(@RequestParam MultiValueMap<String, String> params,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        Map<String, List<String>> filters = new HashMap<>();
+        for (String facet : PatientFacetIndex.FACETS) {
+            List<String> raw = params.get(facet);
+            if (raw == null) {
+                continue;
+            }
+            List<String> values = new ArrayList<>();
+            for (String value : raw) {
+                for (String part : value.split(",")) {
+                    if (!part.isBlank()) {
+                        values.add(part);
+                    }
+                }
+            }
+            filters.put(facet, values);
+        }
+        try {
+            return ResponseEntity.ok(patientService.searchFacets(filters, page, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Scanner lookup: GET /api/patients/by-microchip/{chip}
+     * Spaces, dashes and case in the chip number are ignored. Returns the patient with owner name and phone.
+     */
+    @GetMapping("/by-microchip/{chip}")
+    public ResponseEntity<PatientListItem> getPatientByMicrochip(@PathVariable String chip) {
+        return patientService.getPatientByMicrochip(chip)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Batch scanner lookup: POST /api/patients/by-microchip with a JSON array of up to 500 chips.
+     */
+    @PostMapping("/by-microchip")
+    public ResponseEntity<MicrochipLookupResult> lookupMicrochips(@RequestBody List<String> chips) {
+        try {
+            return ResponseEntity.ok(patientService.lookupMicrochips(chips));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     /**
      * Get patient by ID
      */
@@ -36,6 +142,43 @@ public class PatientController {
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    /**
+     * Vitals chart: GET /api/patients/{id}/vitals?metric=WEIGHT|TEMPERATURE&from=&to=&maxPoints=
+     * Measurements from medical records in [from, to), downsampled to at most maxPoints.
+     */
+    @GetMapping("/{id}/vitals")
+    public ResponseEntity<VitalSeries> getVitals(@PathVariable Long id,
+            @RequestParam(defaultValue = "WEIGHT") String metric,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "500") int maxPoints) {
+        try {
+            VitalMetric vitalMetric = VitalMetric.valueOf(metric.toUpperCase(Locale.ROOT));
+            return vitalsService.getVitals(id, vitalMetric, from, to, maxPoints)
+                    .map(ResponseEntity::ok)
+                    .orElse(ResponseEntity.notFound().build());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * History: GET /api/patients/{id}/timeline?cursor=&limit=
+     * Appointments and medical records merged newest first; pass nextCursor back as cursor for the next page.
+     */
+    @GetMapping("/{id}/timeline")
+    public ResponseEntity<TimelinePage> getTimeline(@PathVariable Long id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit) {
+        try {
+            return patientTimelineService.getTimeline(id, cursor, limit)
+                    .map(ResponseEntity::ok)
+                    .orElse(ResponseEntity.notFound().build());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     /**
      * Get all patients by client/owner ID
      * GET /api/patients/owner/{ownerId}
@@ -66,10 +209,12 @@ public class PatientController {
      * DELETE /api/patients/{id}
      */
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deletePatient(@PathVariable Long id) {
+    public ResponseEntity<?> deletePatient(@PathVariable Long id) {
         try {
             patientService.deletePatient(id);
             return ResponseEntity.noContent().build();
+        } catch (EntityInUseException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
         } catch (RuntimeException e) {
             return ResponseEntity.notFound().build();
         }
@@ -1,12 +1,20 @@
 package com.pims.backend.controller;
 
+import com.pims.backend.dto.CalendarFeedVersion;
 import com.pims.backend.dto.auth.RegisterRequest;
 import com.pims.backend.entity.AppUser;
+import com.pims.backend.service.CalendarFeedService;
 import com.pims.backend.service.UserService;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/users")
@@ -14,9 +22,11 @@ import java.util.List;
 public class UserController {
 
     private final UserService userService;
+    private final CalendarFeedService calendarFeedService;
 
-    public UserController(UserService userService) {
+    public UserController(UserService userService, CalendarFeedService calendarFeedService) {
         this.userService = userService;
+        this.calendarFeedService = calendarFeedService;
     }
 
     @GetMapping
@@ -36,6 +46,58 @@ public class UserController {
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    /**
+     * The vet's appointments as an iCalendar feed. Calendar apps poll this, so an unchanged
+     * feed is answered with 304 from a single aggregate query before anything is streamed.
+     * Calendar apps cannot send the app's JWT; they subscribe with ?token= from the vet's feed token.
+     */
+    @GetMapping("/{id}/calendar.ics")
+    public void getCalendarFeed(@PathVariable Long id, @RequestParam(required = false) String token,
+            @AuthenticationPrincipal UserDetails userDetails, WebRequest request, HttpServletResponse response)
+            throws IOException {
+        if (userService.getUserById(id).isEmpty()
+                || (userDetails == null && !calendarFeedService.isFeedTokenValid(id, token))) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        // ETag only: a delete or archival can lower the count without moving MAX(updated_at),
+        // so Last-Modified alone would answer If-Modified-Since with a stale 304
+        CalendarFeedVersion version = calendarFeedService.getFeedVersion(id);
+        String etag = "\"vet-" + id + "-" + version.getCount() + "-" + version.getLastModified() + "\"";
+        if (request.checkNotModified(etag)) {
+            return;
+        }
+
+        response.setContentType("text/calendar; charset=UTF-8");
+        response.setHeader("Cache-Control", "private, no-cache");
+        response.setHeader("Content-Disposition", "inline; filename=\"calendar-" + id + ".ics\"");
+        calendarFeedService.writeFeed(id, response.getWriter());
+    }
+
+    /**
+     * Issues a new calendar subscription token, revoking the previous one.
+     * POST /api/users/{id}/calendar-token
+     */
+    @PostMapping("/{id}/calendar-token")
+    public ResponseEntity<Map<String, String>> issueCalendarToken(@PathVariable Long id) {
+        try {
+            return ResponseEntity.ok(Map.of("token", calendarFeedService.issueFeedToken(id)));
+        } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @DeleteMapping("/{id}/calendar-token")
+    public ResponseEntity<Void> revokeCalendarToken(@PathVariable Long id) {
+        try {
+            calendarFeedService.revokeFeedToken(id);
+            return ResponseEntity.noContent().build();
+        } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
     @PostMapping
     public ResponseEntity<AppUser> createUser(@RequestBody RegisterRequest request) {
         try {
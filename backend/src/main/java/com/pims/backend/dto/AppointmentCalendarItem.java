@@ -0,0 +1,223 @@
+package com.pims.backend.dto;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import com.pims.backend.entity.Appointment;
+import com.pims.backend.entity.AppUser;
+import com.pims.backend.entity.Client;
+import com.pims.backend.entity.Patient;
+import com.pims.backend.entity.Resource;
+import com.pims.backend.enums.AppointmentStatus;
+import com.pims.backend.enums.AppointmentType;
+
+/**
+ * Flat, read-only view of an appointment for calendar rendering.
+ * Built directly by JPQL constructor projections so no entity graph is loaded.
+ */
+public class AppointmentCalendarItem {
+    private Long id;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private AppointmentStatus status;
+    private AppointmentType type;
+    private String reason;
+    private Long clientId;
+    private String clientName;
+    private Long patientId;
+    private String patientName;
+    private Long vetId;
+    private String vetName;
+    private Long resourceId;
+    private String resourceName;
+
+    public AppointmentCalendarItem() {
+    }
+
+    public AppointmentCalendarItem(Long id, LocalDateTime startTime, LocalDateTime endTime, AppointmentStatus status,
+            AppointmentType type, String reason, Long clientId, String clientFirstName, String clientLastName,
+            Long patientId, String patientName, Long vetId, String vetFirstName, String vetLastName,
+            Long resourceId, String resourceName) {
+        this.id = id;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.status = status;
+        this.type = type;
+        this.reason = reason;
+        this.clientId = clientId;
+        this.clientName = joinName(clientFirstName, clientLastName);
+        this.patientId = patientId;
+        this.patientName = patientName;
+        this.vetId = vetId;
+        this.vetName = joinName(vetFirstName, vetLastName);
+        this.resourceId = resourceId;
+        this.resourceName = resourceName;
+    }
+
+    /**
+     * Snapshot of an already loaded entity, for callers that hold one anyway.
+     */
+    public static AppointmentCalendarItem from(Appointment appointment) {
+        Client client = appointment.getClient();
+        Patient patient = appointment.getPatient();
+        AppUser vet = appointment.getVet();
+        Resource resource = appointment.getResource();
+        return new AppointmentCalendarItem(appointment.getId(), appointment.getStartTime(), appointment.getEndTime(),
+                appointment.getStatus(), appointment.getType(), appointment.getReason(),
+                client != null ? client.getId() : null,
+                client != null ? client.getFirstName() : null,
+                client != null ? client.getLastName() : null,
+                patient != null ? patient.getId() : null,
+                patient != null ? patient.getName() : null,
+                vet != null ? vet.getId() : null,
+                vet != null ? vet.getFirstName() : null,
+                vet != null ? vet.getLastName() : null,
+                resource != null ? resource.getId() : null,
+                resource != null ? resource.getName() : null);
+    }
+
+    /**
+     * Row of AppointmentRepository.ARCHIVE_CALENDAR_SELECT, which reads the archive with native SQL.
+     */
+    public static AppointmentCalendarItem fromArchiveRow(Object[] row) {
+        return new AppointmentCalendarItem(toLong(row[0]), toLocalDateTime(row[1]), toLocalDateTime(row[2]),
+                row[3] != null ? AppointmentStatus.valueOf(row[3].toString()) : null,
+                row[4] != null ? AppointmentType.valueOf(row[4].toString()) : null,
+                (String) row[5], toLong(row[6]), (String) row[7], (String) row[8],
+                toLong(row[9]), (String) row[10], toLong(row[11]), (String) row[12], (String) row[13],
+                toLong(row[14]), (String) row[15]);
+    }
+
+    private static Long toLong(Object value) {
+        return value != null ? ((Number) value).longValue() : null;
+    }
+
+    private static LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return (LocalDateTime) value;
+    }
+
+    private static String joinName(String firstName, String lastName) {
+        if (firstName == null && lastName == null) {
+            return null;
+        }
+        if (firstName == null) {
+            return lastName;
+        }
+        return lastName == null ? firstName : firstName + " " + lastName;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public LocalDateTime getStartTime() {
+        return startTime;
+    }
+
+    public void setStartTime(LocalDateTime startTime) {
+        this.startTime = startTime;
+    }
+
+    public LocalDateTime getEndTime() {
+        return endTime;
+    }
+
+    public void setEndTime(LocalDateTime endTime) {
+        this.endTime = endTime;
+    }
+
+    public AppointmentStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(AppointmentStatus status) {
+        this.status = status;
+    }
+
+    public AppointmentType getType() {
+        return type;
+    }
+
+    public void setType(AppointmentType type) {
+        this.type = type;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    public void setReason(String reason) {
+        this.reason = reason;
+    }
+
+    public Long getClientId() {
+        return clientId;
+    }
+
+    public void setClientId(Long clientId) {
+        this.clientId = clientId;
+    }
+
+    public String getClientName() {
+        return clientName;
+    }
+
+    public void setClientName(String clientName) {
+        this.clientName = clientName;
+    }
+
+    public Long getPatientId() {
+        return patientId;
+    }
+
+    public void setPatientId(Long patientId) {
+        this.patientId = patientId;
+    }
+
+    public String getPatientName() {
+        return patientName;
+    }
+
+    public void setPatientName(String patientName) {
+        this.patientName = patientName;
+    }
+
+    public Long getVetId() {
+        return vetId;
+    }
+
+    public void setVetId(Long vetId) {
+        this.vetId = vetId;
+    }
+
+    public String getVetName() {
+        return vetName;
+    }
+
+    public void setVetName(String vetName) {
+        this.vetName = vetName;
+    }
+
+    public Long getResourceId() {
+        return resourceId;
+    }
+
+    public void setResourceId(Long resourceId) {
+        this.resourceId = resourceId;
+    }
+
+    public String getResourceName() {
+        return resourceName;
+    }
+
+    public void setResourceName(String resourceName) {
+        this.resourceName = resourceName;
+    }
+}
@@ -0,0 +1,37 @@
+package com.pims.backend.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One page of appointment search results. Pass {@code nextCursor} back as {@code cursor}
+ * to continue; it is {@code null} on the last page.
+ */
+public class AppointmentSearchPage {
+    private List<AppointmentCalendarItem> items = new ArrayList<>();
+    private String nextCursor;
+
+    public AppointmentSearchPage() {
+    }
+
+    public AppointmentSearchPage(List<AppointmentCalendarItem> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<AppointmentCalendarItem> getItems() {
+        return items;
+    }
+
+    public void setItems(List<AppointmentCalendarItem> items) {
+        this.items = items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
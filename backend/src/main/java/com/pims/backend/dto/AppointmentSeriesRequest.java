@@ -0,0 +1,29 @@
+package com.pims.backend.dto;
+
+/**
+ * A recurring booking: the first occurrence is described by the inherited fields,
+ * the following ones repeat every {@code intervalWeeks} weeks, {@code occurrences} times in total.
+ */
+public class AppointmentSeriesRequest extends AppointmentRequest {
+    private Integer intervalWeeks;
+    private Integer occurrences;
+
+    public AppointmentSeriesRequest() {
+    }
+
+    public Integer getIntervalWeeks() {
+        return intervalWeeks;
+    }
+
+    public void setIntervalWeeks(Integer intervalWeeks) {
+        this.intervalWeeks = intervalWeeks;
+    }
+
+    public Integer getOccurrences() {
+        return occurrences;
+    }
+
+    public void setOccurrences(Integer occurrences) {
+        this.occurrences = occurrences;
+    }
+}
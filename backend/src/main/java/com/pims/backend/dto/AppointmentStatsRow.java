@@ -0,0 +1,66 @@
+package com.pims.backend.dto;
+
+import com.pims.backend.enums.AppointmentStatus;
+import com.pims.backend.enums.AppointmentType;
+
+/**
+ * One (status, type) group of the dashboard aggregate query.
+ */
+public class AppointmentStatsRow {
+    private AppointmentStatus status;
+    private AppointmentType type;
+    private long total;
+    private long today;
+    private long week;
+
+    public AppointmentStatsRow() {
+    }
+
+    public AppointmentStatsRow(AppointmentStatus status, AppointmentType type, Long total, Long today, Long week) {
+        this.status = status;
+        this.type = type;
+        this.total = total != null ? total : 0;
+        this.today = today != null ? today : 0;
+        this.week = week != null ? week : 0;
+    }
+
+    public AppointmentStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(AppointmentStatus status) {
+        this.status = status;
+    }
+
+    public AppointmentType getType() {
+        return type;
+    }
+
+    public void setType(AppointmentType type) {
+        this.type = type;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public long getToday() {
+        return today;
+    }
+
+    public void setToday(long today) {
+        this.today = today;
+    }
+
+    public long getWeek() {
+        return week;
+    }
+
+    public void setWeek(long week) {
+        this.week = week;
+    }
+}
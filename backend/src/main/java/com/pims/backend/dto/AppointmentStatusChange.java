@@ -0,0 +1,35 @@
+package com.pims.backend.dto;
+
+import com.pims.backend.enums.AppointmentStatus;
+
+/**
+ * Body of PATCH /api/appointments/{id}/status, and its response.
+ */
+public class AppointmentStatusChange {
+    private Long id;
+    private AppointmentStatus status;
+
+    public AppointmentStatusChange() {
+    }
+
+    public AppointmentStatusChange(Long id, AppointmentStatus status) {
+        this.id = id;
+        this.status = status;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public AppointmentStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(AppointmentStatus status) {
+        this.status = status;
+    }
+}
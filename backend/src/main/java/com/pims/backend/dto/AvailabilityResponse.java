@@ -0,0 +1,65 @@
+package com.pims.backend.dto;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+public class AvailabilityResponse {
+    private LocalDate date;
+    private int days;
+    private int durationMinutes;
+    private List<ScheduleAvailability> vets = new ArrayList<>();
+    private List<ScheduleAvailability> resources = new ArrayList<>();
+
+    public AvailabilityResponse() {
+    }
+
+    public AvailabilityResponse(LocalDate date, int days, int durationMinutes, List<ScheduleAvailability> vets,
+            List<ScheduleAvailability> resources) {
+        this.date = date;
+        this.days = days;
+        this.durationMinutes = durationMinutes;
+        this.vets = vets;
+        this.resources = resources;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public void setDate(LocalDate date) {
+        this.date = date;
+    }
+
+    public int getDays() {
+        return days;
+    }
+
+    public void setDays(int days) {
+        this.days = days;
+    }
+
+    public int getDurationMinutes() {
+        return durationMinutes;
+    }
+
+    public void setDurationMinutes(int durationMinutes) {
+        this.durationMinutes = durationMinutes;
+    }
+
+    public List<ScheduleAvailability> getVets() {
+        return vets;
+    }
+
+    public void setVets(List<ScheduleAvailability> vets) {
+        this.vets = vets;
+    }
+
+    public List<ScheduleAvailability> getResources() {
+        return resources;
+    }
+
+    public void setResources(List<ScheduleAvailability> resources) {
+        this.resources = resources;
+    }
+}
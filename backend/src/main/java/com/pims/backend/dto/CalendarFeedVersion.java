@@ -0,0 +1,35 @@
+package com.pims.backend.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Cheap fingerprint of a vet's calendar feed, used for ETag / Last-Modified.
+ */
+public class CalendarFeedVersion {
+    private long count;
+    private LocalDateTime lastModified;
+
+    public CalendarFeedVersion() {
+    }
+
+    public CalendarFeedVersion(Long count, LocalDateTime lastModified) {
+        this.count = count != null ? count : 0;
+        this.lastModified = lastModified;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+
+    public LocalDateTime getLastModified() {
+        return lastModified;
+    }
+
+    public void setLastModified(LocalDateTime lastModified) {
+        this.lastModified = lastModified;
+    }
+}
@@ -0,0 +1,105 @@
+package com.pims.backend.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of a CSV client import. Only the first {@code MAX_ERRORS} row errors are listed;
+ * {@code errorCount} is always the full count. {@code aborted} means the file could not be
+ * read to the end; the counts cover the rows before that point.
+ */
+public class ClientImportReport {
+
+    public static final int MAX_ERRORS = 1000;
+
+    private long totalRows;
+    private long importedClients;
+    private long importedPatients;
+    private long errorCount;
+    private boolean aborted;
+    private List<RowError> errors = new ArrayList<>();
+
+    public void addError(long row, String message) {
+        errorCount++;
+        if (errors.size() < MAX_ERRORS) {
+            errors.add(new RowError(row, message));
+        }
+    }
+
+    public long getTotalRows() {
+        return totalRows;
+    }
+
+    public void setTotalRows(long totalRows) {
+        this.totalRows = totalRows;
+    }
+
+    public long getImportedClients() {
+        return importedClients;
+    }
+
+    public void setImportedClients(long importedClients) {
+        this.importedClients = importedClients;
+    }
+
+    public long getImportedPatients() {
+        return importedPatients;
+    }
+
+    public void setImportedPatients(long importedPatients) {
+        this.importedPatients = importedPatients;
+    }
+
+    public long getErrorCount() {
+        return errorCount;
+    }
+
+    public void setErrorCount(long errorCount) {
+        this.errorCount = errorCount;
+    }
+
+    public boolean isAborted() {
+        return aborted;
+    }
+
+    public void setAborted(boolean aborted) {
+        this.aborted = aborted;
+    }
+
+    public List<RowError> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<RowError> errors) {
+        this.errors = errors;
+    }
+
+    public static class RowError {
+        private long row;
+        private String message;
+
+        public RowError() {
+        }
+
+        public RowError(long row, String message) {
+            this.row = row;
+            this.message = message;
+        }
+
+        public long getRow() {
+            return row;
+        }
+
+        public void setRow(long row) {
+            this.row = row;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        public void setMessage(String message) {
+            this.message = message;
+        }
+    }
+}
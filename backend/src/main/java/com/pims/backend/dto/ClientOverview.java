@@ -0,0 +1,70 @@
+package com.pims.backend.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.pims.backend.entity.Client;
+
+/**
+ * Everything the client screen shows when a client is opened, in one response.
+ * The client's lazy pets collection is left unloaded; pets come as summaries.
+ */
+public class ClientOverview {
+    private Client client;
+    private List<PetSummary> pets = new ArrayList<>();
+    private List<AppointmentCalendarItem> upcomingAppointments = new ArrayList<>();
+    private List<AppointmentCalendarItem> recentAppointments = new ArrayList<>();
+    private List<MedicalRecordSummary> recentMedicalRecords = new ArrayList<>();
+
+    public ClientOverview() {
+    }
+
+    public ClientOverview(Client client, List<PetSummary> pets, List<AppointmentCalendarItem> upcomingAppointments,
+            List<AppointmentCalendarItem> recentAppointments, List<MedicalRecordSummary> recentMedicalRecords) {
+        this.client = client;
+        this.pets = pets;
+        this.upcomingAppointments = upcomingAppointments;
+        this.recentAppointments = recentAppointments;
+        this.recentMedicalRecords = recentMedicalRecords;
+    }
+
+    public Client getClient() {
+        return client;
+    }
+
+    public void setClient(Client client) {
+        this.client = client;
+    }
+
+    public List<PetSummary> getPets() {
+        return pets;
+    }
+
+    public void setPets(List<PetSummary> pets) {
+        this.pets = pets;
+    }
+
+    public List<AppointmentCalendarItem> getUpcomingAppointments() {
+        return upcomingAppointments;
+    }
+
+    public void setUpcomingAppointments(List<AppointmentCalendarItem> upcomingAppointments) {
+        this.upcomingAppointments = upcomingAppointments;
+    }
+
+    public List<AppointmentCalendarItem> getRecentAppointments() {
+        return recentAppointments;
+    }
+
+    public void setRecentAppointments(List<AppointmentCalendarItem> recentAppointments) {
+        this.recentAppointments = recentAppointments;
+    }
+
+    public List<MedicalRecordSummary> getRecentMedicalRecords() {
+        return recentMedicalRecords;
+    }
+
+    public void setRecentMedicalRecords(List<MedicalRecordSummary> recentMedicalRecords) {
+        this.recentMedicalRecords = recentMedicalRecords;
+    }
+}
@@ -0,0 +1,80 @@
+package com.pims.backend.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Typeahead hit for the client search dropdown.
+ */
+public class ClientSuggestion {
+    private Long id;
+    private String firstName;
+    private String lastName;
+    private String email;
+    @JsonProperty("phoneNumber")
+    private String phone;
+    private List<String> petNames = new ArrayList<>();
+
+    public ClientSuggestion() {
+    }
+
+    public ClientSuggestion(Long id, String firstName, String lastName, String email, String phone,
+            List<String> petNames) {
+        this.id = id;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.email = email;
+        this.phone = phone;
+        this.petNames = petNames;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public void setFirstName(String firstName) {
+        this.firstName = firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public void setLastName(String lastName) {
+        this.lastName = lastName;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public String getPhone() {
+        return phone;
+    }
+
+    public void setPhone(String phone) {
+        this.phone = phone;
+    }
+
+    public List<String> getPetNames() {
+        return petNames;
+    }
+
+    public void setPetNames(List<String> petNames) {
+        this.petNames = petNames;
+    }
+}
@@ -0,0 +1,87 @@
+package com.pims.backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * One row of the paged client list. Pets are only counted, in SQL.
+ */
+public class ClientSummary {
+    private Long id;
+    private String firstName;
+    private String lastName;
+    private String email;
+    @JsonProperty("phoneNumber")
+    private String phone;
+    private String address;
+    private long petCount;
+
+    public ClientSummary() {
+    }
+
+    public ClientSummary(Long id, String firstName, String lastName, String email, String phone, String address,
+            Long petCount) {
+        this.id = id;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.email = email;
+        this.phone = phone;
+        this.address = address;
+        this.petCount = petCount != null ? petCount : 0;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public void setFirstName(String firstName) {
+        this.firstName = firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public void setLastName(String lastName) {
+        this.lastName = lastName;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public String getPhone() {
+        return phone;
+    }
+
+    public void setPhone(String phone) {
+        this.phone = phone;
+    }
+
+    public String getAddress() {
+        return address;
+    }
+
+    public void setAddress(String address) {
+        this.address = address;
+    }
+
+    public long getPetCount() {
+        return petCount;
+    }
+
+    public void setPetCount(long petCount) {
+        this.petCount = petCount;
+    }
+}
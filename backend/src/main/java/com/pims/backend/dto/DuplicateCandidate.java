@@ -0,0 +1,101 @@
+package com.pims.backend.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * An existing client that looks like the same person as the one being checked,
+ * with the similarity score (0..1) and the fields that matched.
+ */
+public class DuplicateCandidate {
+    private Long id;
+    private String firstName;
+    private String lastName;
+    private String email;
+    @JsonProperty("phoneNumber")
+    private String phone;
+    private String afm;
+    private double score;
+    private List<String> matchedOn = new ArrayList<>();
+
+    public DuplicateCandidate() {
+    }
+
+    public DuplicateCandidate(Long id, String firstName, String lastName, String email, String phone, String afm,
+            double score, List<String> matchedOn) {
+        this.id = id;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.email = email;
+        this.phone = phone;
+        this.afm = afm;
+        this.score = score;
+        this.matchedOn = matchedOn;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public void setFirstName(String firstName) {
+        this.firstName = firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public void setLastName(String lastName) {
+        this.lastName = lastName;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public String getPhone() {
+        return phone;
+    }
+
+    public void setPhone(String phone) {
+        this.phone = phone;
+    }
+
+    public String getAfm() {
+        return afm;
+    }
+
+    public void setAfm(String afm) {
+        this.afm = afm;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    public void setScore(double score) {
+        this.score = score;
+    }
+
+    public List<String> getMatchedOn() {
+        return matchedOn;
+    }
+
+    public void setMatchedOn(List<String> matchedOn) {
+        this.matchedOn = matchedOn;
+    }
+}
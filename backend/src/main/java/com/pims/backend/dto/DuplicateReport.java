@@ -0,0 +1,127 @@
+package com.pims.backend.dto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Likely duplicate clients across the whole client base, best matches first.
+ */
+public class DuplicateReport {
+    private LocalDateTime generatedAt;
+    private int clientsScanned;
+    private long comparisons;
+    private List<Pair> pairs = new ArrayList<>();
+
+    public DuplicateReport() {
+    }
+
+    public DuplicateReport(LocalDateTime generatedAt, int clientsScanned, long comparisons, List<Pair> pairs) {
+        this.generatedAt = generatedAt;
+        this.clientsScanned = clientsScanned;
+        this.comparisons = comparisons;
+        this.pairs = pairs;
+    }
+
+    public LocalDateTime getGeneratedAt() {
+        return generatedAt;
+    }
+
+    public void setGeneratedAt(LocalDateTime generatedAt) {
+        this.generatedAt = generatedAt;
+    }
+
+    public int getClientsScanned() {
+        return clientsScanned;
+    }
+
+    public void setClientsScanned(int clientsScanned) {
+        this.clientsScanned = clientsScanned;
+    }
+
+    public long getComparisons() {
+        return comparisons;
+    }
+
+    public void setComparisons(long comparisons) {
+        this.comparisons = comparisons;
+    }
+
+    public List<Pair> getPairs() {
+        return pairs;
+    }
+
+    public void setPairs(List<Pair> pairs) {
+        this.pairs = pairs;
+    }
+
+    public static class Pair {
+        private Long clientId;
+        private String clientName;
+        private Long otherClientId;
+        private String otherClientName;
+        private double score;
+        private List<String> matchedOn = new ArrayList<>();
+
+        public Pair() {
+        }
+
+        public Pair(Long clientId, String clientName, Long otherClientId, String otherClientName, double score,
+                List<String> matchedOn) {
+            this.clientId = clientId;
+            this.clientName = clientName;
+            this.otherClientId = otherClientId;
+            this.otherClientName = otherClientName;
+            this.score = score;
+            this.matchedOn = matchedOn;
+        }
+
+        public Long getClientId() {
+            return clientId;
+        }
+
+        public void setClientId(Long clientId) {
+            this.clientId = clientId;
+        }
+
+        public String getClientName() {
+            return clientName;
+        }
+
+        public void setClientName(String clientName) {
+            this.clientName = clientName;
+        }
+
+        public Long getOtherClientId() {
+            return otherClientId;
+        }
+
+        public void setOtherClientId(Long otherClientId) {
+            this.otherClientId = otherClientId;
+        }
+
+        public String getOtherClientName() {
+            return otherClientName;
+        }
+
+        public void setOtherClientName(String otherClientName) {
+            this.otherClientName = otherClientName;
+        }
+
+        public double getScore() {
+            return score;
+        }
+
+        public void setScore(double score) {
+            this.score = score;
+        }
+
+        public List<String> getMatchedOn() {
+            return matchedOn;
+        }
+
+        public void setMatchedOn(List<String> matchedOn) {
+            this.matchedOn = matchedOn;
+        }
+    }
+}
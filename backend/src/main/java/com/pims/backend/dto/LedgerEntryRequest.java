@@ -0,0 +1,48 @@
+package com.pims.backend.dto;
+
+import java.math.BigDecimal;
+
+import com.pims.backend.enums.LedgerEntryType;
+
+public class LedgerEntryRequest {
+    private LedgerEntryType type;
+    // Always positive for CHARGE and PAYMENT; signed for ADJUSTMENT
+    private BigDecimal amount;
+    private String description;
+    private Long appointmentId;
+
+    public LedgerEntryRequest() {
+    }
+
+    public LedgerEntryType getType() {
+        return type;
+    }
+
+    public void setType(LedgerEntryType type) {
+        this.type = type;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public Long getAppointmentId() {
+        return appointmentId;
+    }
+
+    public void setAppointmentId(Long appointmentId) {
+        this.appointmentId = appointmentId;
+    }
+}
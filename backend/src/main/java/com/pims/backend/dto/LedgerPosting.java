@@ -0,0 +1,37 @@
+package com.pims.backend.dto;
+
+import java.math.BigDecimal;
+
+import com.pims.backend.entity.LedgerEntry;
+
+/**
+ * A recorded ledger entry together with the client's balance right after it.
+ */
+public class LedgerPosting {
+    private LedgerEntry entry;
+    private BigDecimal balance;
+
+    public LedgerPosting() {
+    }
+
+    public LedgerPosting(LedgerEntry entry, BigDecimal balance) {
+        this.entry = entry;
+        this.balance = balance;
+    }
+
+    public LedgerEntry getEntry() {
+        return entry;
+    }
+
+    public void setEntry(LedgerEntry entry) {
+        this.entry = entry;
+    }
+
+    public BigDecimal getBalance() {
+        return balance;
+    }
+
+    public void setBalance(BigDecimal balance) {
+        this.balance = balance;
+    }
+}
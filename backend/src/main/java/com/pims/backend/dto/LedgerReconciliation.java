@@ -0,0 +1,81 @@
+package com.pims.backend.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Result of comparing every client's stored balance with the sum of its ledger entries.
+ */
+public class LedgerReconciliation {
+    private LocalDateTime checkedAt;
+    private List<Mismatch> mismatches = new ArrayList<>();
+
+    public LedgerReconciliation() {
+    }
+
+    public LedgerReconciliation(LocalDateTime checkedAt, List<Mismatch> mismatches) {
+        this.checkedAt = checkedAt;
+        this.mismatches = mismatches;
+    }
+
+    public boolean isConsistent() {
+        return mismatches.isEmpty();
+    }
+
+    public LocalDateTime getCheckedAt() {
+        return checkedAt;
+    }
+
+    public void setCheckedAt(LocalDateTime checkedAt) {
+        this.checkedAt = checkedAt;
+    }
+
+    public List<Mismatch> getMismatches() {
+        return mismatches;
+    }
+
+    public void setMismatches(List<Mismatch> mismatches) {
+        this.mismatches = mismatches;
+    }
+
+    public static class Mismatch {
+        private Long clientId;
+        private BigDecimal balance;
+        private BigDecimal ledgerTotal;
+
+        public Mismatch() {
+        }
+
+        public Mismatch(Long clientId, BigDecimal balance, BigDecimal ledgerTotal) {
+            this.clientId = clientId;
+            this.balance = balance;
+            this.ledgerTotal = ledgerTotal;
+        }
+
+        public Long getClientId() {
+            return clientId;
+        }
+
+        public void setClientId(Long clientId) {
+            this.clientId = clientId;
+        }
+
+        public BigDecimal getBalance() {
+            return balance;
+        }
+
+        public void setBalance(BigDecimal balance) {
+            this.balance = balance;
+        }
+
+        public BigDecimal getLedgerTotal() {
+            return ledgerTotal;
+        }
+
+        public void setLedgerTotal(BigDecimal ledgerTotal) {
+            this.ledgerTotal = ledgerTotal;
+        }
+    }
+}
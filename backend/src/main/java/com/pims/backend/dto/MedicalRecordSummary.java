@@ -0,0 +1,129 @@
+package com.pims.backend.dto;
+
+import java.time.LocalDateTime;
+
+import com.pims.backend.enums.AppointmentType;
+
+/**
+ * Headline of a medical record, without the entity graph behind it.
+ */
+public class MedicalRecordSummary {
+    private Long id;
+    private LocalDateTime createdAt;
+    private Long patientId;
+    private String patientName;
+    private String diagnosis;
+    private String symptoms;
+    private String treatment;
+    private Double weight;
+    private Double temperature;
+    private Long appointmentId;
+    private AppointmentType appointmentType;
+
+    public MedicalRecordSummary() {
+    }
+
+    public MedicalRecordSummary(Long id, LocalDateTime createdAt, Long patientId, String patientName,
+            String diagnosis, String symptoms, String treatment, Double weight, Double temperature,
+            Long appointmentId, AppointmentType appointmentType) {
+        this.id = id;
+        this.createdAt = createdAt;
+        this.patientId = patientId;
+        this.patientName = patientName;
+        this.diagnosis = diagnosis;
+        this.symptoms = symptoms;
+        this.treatment = treatment;
+        this.weight = weight;
+        this.temperature = temperature;
+        this.appointmentId = appointmentId;
+        this.appointmentType = appointmentType;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public Long getPatientId() {
+        return patientId;
+    }
+
+    public void setPatientId(Long patientId) {
+        this.patientId = patientId;
+    }
+
+    public String getPatientName() {
+        return patientName;
+    }
+
+    public void setPatientName(String patientName) {
+        this.patientName = patientName;
+    }
+
+    public String getDiagnosis() {
+        return diagnosis;
+    }
+
+    public void setDiagnosis(String diagnosis) {
+        this.diagnosis = diagnosis;
+    }
+
+    public String getSymptoms() {
+        return symptoms;
+    }
+
+    public void setSymptoms(String symptoms) {
+        this.symptoms = symptoms;
+    }
+
+    public String getTreatment() {
+        return treatment;
+    }
+
+    public void setTreatment(String treatment) {
+        this.treatment = treatment;
+    }
+
+    public Double getWeight() {
+        return weight;
+    }
+
+    public void setWeight(Double weight) {
+        this.weight = weight;
+    }
+
+    public Double getTemperature() {
+        return temperature;
+    }
+
+    public void setTemperature(Double temperature) {
+        this.temperature = temperature;
+    }
+
+    public Long getAppointmentId() {
+        return appointmentId;
+    }
+
+    public void setAppointmentId(Long appointmentId) {
+        this.appointmentId = appointmentId;
+    }
+
+    public AppointmentType getAppointmentType() {
+        return appointmentType;
+    }
+
+    public void setAppointmentType(AppointmentType appointmentType) {
+        this.appointmentType = appointmentType;
+    }
+}
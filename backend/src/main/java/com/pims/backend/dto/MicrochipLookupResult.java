@@ -0,0 +1,34 @@
+package com.pims.backend.dto;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Batch scanner resolution: patients keyed by the chip as it was sent, in request
+ * order, plus the chips that matched no patient.
+ */
+public class MicrochipLookupResult {
+    private Map<String, PatientListItem> found = new LinkedHashMap<>();
+    private List<String> notFound = new ArrayList<>();
+
+    public MicrochipLookupResult() {
+    }
+
+    public Map<String, PatientListItem> getFound() {
+        return found;
+    }
+
+    public void setFound(Map<String, PatientListItem> found) {
+        this.found = found;
+    }
+
+    public List<String> getNotFound() {
+        return notFound;
+    }
+
+    public void setNotFound(List<String> notFound) {
+        this.notFound = notFound;
+    }
+}
@@ -0,0 +1,37 @@
+package com.pims.backend.dto;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A page of patients matching the selected facet values, plus the number of
+ * matches each facet value would give (counted with the other facets' filters applied).
+ */
+public class PatientFacetResult {
+    private PageResponse<PatientListItem> results;
+    private Map<String, Map<String, Integer>> facets = new LinkedHashMap<>();
+
+    public PatientFacetResult() {
+    }
+
+    public PatientFacetResult(PageResponse<PatientListItem> results, Map<String, Map<String, Integer>> facets) {
+        this.results = results;
+        this.facets = facets;
+    }
+
+    public PageResponse<PatientListItem> getResults() {
+        return results;
+    }
+
+    public void setResults(PageResponse<PatientListItem> results) {
+        this.results = results;
+    }
+
+    public Map<String, Map<String, Integer>> getFacets() {
+        return facets;
+    }
+
+    public void setFacets(Map<String, Map<String, Integer>> facets) {
+        this.facets = facets;
+    }
+}
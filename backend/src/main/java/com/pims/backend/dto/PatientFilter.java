@@ -0,0 +1,66 @@
+package com.pims.backend.dto;
+
+import com.pims.backend.enums.Sex;
+import com.pims.backend.enums.Species;
+
+/**
+ * Optional criteria for the patient directory; a null field does not filter.
+ */
+public class PatientFilter {
+    private Species species;
+    private Sex sex;
+    private Boolean deceased;
+    private Boolean sterilized;
+    private String query;
+
+    public PatientFilter() {
+    }
+
+    public PatientFilter(Species species, Sex sex, Boolean deceased, Boolean sterilized, String query) {
+        this.species = species;
+        this.sex = sex;
+        this.deceased = deceased;
+        this.sterilized = sterilized;
+        this.query = query;
+    }
+
+    public Species getSpecies() {
+        return species;
+    }
+
+    public void setSpecies(Species species) {
+        this.species = species;
+    }
+
+    public Sex getSex() {
+        return sex;
+    }
+
+    public void setSex(Sex sex) {
+        this.sex = sex;
+    }
+
+    public Boolean getDeceased() {
+        return deceased;
+    }
+
+    public void setDeceased(Boolean deceased) {
+        this.deceased = deceased;
+    }
+
+    public Boolean getSterilized() {
+        return sterilized;
+    }
+
+    public void setSterilized(Boolean sterilized) {
+        this.sterilized = sterilized;
+    }
+
+    public String getQuery() {
+        return query;
+    }
+
+    public void setQuery(String query) {
+        this.query = query;
+    }
+}
@@ -0,0 +1,142 @@
+package com.pims.backend.dto;
+
+import java.time.LocalDate;
+
+import com.pims.backend.enums.Sex;
+import com.pims.backend.enums.Species;
+
+/**
+ * One row of the patient directory, with the owner's name and phone joined in.
+ * Built by a JPQL constructor projection.
+ */
+public class PatientListItem {
+    private Long id;
+    private String name;
+    private Species species;
+    private String breed;
+    private Sex sex;
+    private LocalDate birthDate;
+    private Boolean isSterilized;
+    private Boolean isDeceased;
+    private String microchipNumber;
+    private Long ownerId;
+    private String ownerName;
+    private String ownerPhone;
+
+    public PatientListItem() {
+    }
+
+    public PatientListItem(Long id, String name, Species species, String breed, Sex sex, LocalDate birthDate,
+            Boolean isSterilized, Boolean isDeceased, String microchipNumber, Long ownerId, String ownerFirstName,
+            String ownerLastName, String ownerPhone) {
+        this.id = id;
+        this.name = name;
+        this.species = species;
+        this.breed = breed;
+        this.sex = sex;
+        this.birthDate = birthDate;
+        this.isSterilized = isSterilized;
+        this.isDeceased = isDeceased;
+        this.microchipNumber = microchipNumber;
+        this.ownerId = ownerId;
+        this.ownerName = ownerLastName == null ? ownerFirstName
+                : ownerFirstName == null ? ownerLastName : ownerFirstName + " " + ownerLastName;
+        this.ownerPhone = ownerPhone;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Species getSpecies() {
+        return species;
+    }
+
+    public void setSpecies(Species species) {
+        this.species = species;
+    }
+
+    public String getBreed() {
+        return breed;
+    }
+
+    public void setBreed(String breed) {
+        this.breed = breed;
+    }
+
+    public Sex getSex() {
+        return sex;
+    }
+
+    public void setSex(Sex sex) {
+        this.sex = sex;
+    }
+
+    public LocalDate getBirthDate() {
+        return birthDate;
+    }
+
+    public void setBirthDate(LocalDate birthDate) {
+        this.birthDate = birthDate;
+    }
+
+    public Boolean getIsSterilized() {
+        return isSterilized;
+    }
+
+    public void setIsSterilized(Boolean isSterilized) {
+        this.isSterilized = isSterilized;
+    }
+
+    public Boolean getIsDeceased() {
+        return isDeceased;
+    }
+
+    public void setIsDeceased(Boolean isDeceased) {
+        this.isDeceased = isDeceased;
+    }
+
+    public String getMicrochipNumber() {
+        return microchipNumber;
+    }
+
+    public void setMicrochipNumber(String microchipNumber) {
+        this.microchipNumber = microchipNumber;
+    }
+
+    public Long getOwnerId() {
+        return ownerId;
+    }
+
+    public void setOwnerId(Long ownerId) {
+        this.ownerId = ownerId;
+    }
+
+    public String getOwnerName() {
+        return ownerName;
+    }
+
+    public void setOwnerName(String ownerName) {
+        this.ownerName = ownerName;
+    }
+
+    public String getOwnerPhone() {
+        return ownerPhone;
+    }
+
+    public void setOwnerPhone(String ownerPhone) {
+        this.ownerPhone = ownerPhone;
+    }
+}
@@ -0,0 +1,119 @@
+package com.pims.backend.dto;
+
+import java.time.LocalDate;
+
+import com.pims.backend.enums.Sex;
+import com.pims.backend.enums.Species;
+
+/**
+ * A client's pet as listed on the client overview.
+ */
+public class PetSummary {
+    private Long id;
+    private String name;
+    private Species species;
+    private String breed;
+    private Sex sex;
+    private LocalDate birthDate;
+    private Boolean isDateOfBirthApproximate;
+    private Boolean isSterilized;
+    private Boolean isDeceased;
+    private String microchipNumber;
+
+    public PetSummary() {
+    }
+
+    public PetSummary(Long id, String name, Species species, String breed, Sex sex, LocalDate birthDate,
+            Boolean isDateOfBirthApproximate, Boolean isSterilized, Boolean isDeceased, String microchipNumber) {
+        this.id = id;
+        this.name = name;
+        this.species = species;
+        this.breed = breed;
+        this.sex = sex;
+        this.birthDate = birthDate;
+        this.isDateOfBirthApproximate = isDateOfBirthApproximate;
+        this.isSterilized = isSterilized;
+        this.isDeceased = isDeceased;
+        this.microchipNumber = microchipNumber;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Species getSpecies() {
+        return species;
+    }
+
+    public void setSpecies(Species species) {
+        this.species = species;
+    }
+
+    public String getBreed() {
+        return breed;
+    }
+
+    public void setBreed(String breed) {
+        this.breed = breed;
+    }
+
+    public Sex getSex() {
+        return sex;
+    }
+
+    public void setSex(Sex sex) {
+        this.sex = sex;
+    }
+
+    public LocalDate getBirthDate() {
+        return birthDate;
+    }
+
+    public void setBirthDate(LocalDate birthDate) {
+        this.birthDate = birthDate;
+    }
+
+    public Boolean getIsDateOfBirthApproximate() {
+        return isDateOfBirthApproximate;
+    }
+
+    public void setIsDateOfBirthApproximate(Boolean isDateOfBirthApproximate) {
+        this.isDateOfBirthApproximate = isDateOfBirthApproximate;
+    }
+
+    public Boolean getIsSterilized() {
+        return isSterilized;
+    }
+
+    public void setIsSterilized(Boolean isSterilized) {
+        this.isSterilized = isSterilized;
+    }
+
+    public Boolean getIsDeceased() {
+        return isDeceased;
+    }
+
+    public void setIsDeceased(Boolean isDeceased) {
+        this.isDeceased = isDeceased;
+    }
+
+    public String getMicrochipNumber() {
+        return microchipNumber;
+    }
+
+    public void setMicrochipNumber(String microchipNumber) {
+        this.microchipNumber = microchipNumber;
+    }
+}
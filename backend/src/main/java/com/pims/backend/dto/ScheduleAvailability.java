@@ -0,0 +1,57 @@
+package com.pims.backend.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Free time of one vet or resource. Every window is at least the requested duration long,
+ * so any start in [window.start, window.end - duration] fits.
+ */
+public class ScheduleAvailability {
+    private Long id;
+    private String name;
+    private String kind; // VET, ROOM, EQUIPMENT
+    private List<TimeWindow> freeWindows = new ArrayList<>();
+
+    public ScheduleAvailability() {
+    }
+
+    public ScheduleAvailability(Long id, String name, String kind, List<TimeWindow> freeWindows) {
+        this.id = id;
+        this.name = name;
+        this.kind = kind;
+        this.freeWindows = freeWindows;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getKind() {
+        return kind;
+    }
+
+    public void setKind(String kind) {
+        this.kind = kind;
+    }
+
+    public List<TimeWindow> getFreeWindows() {
+        return freeWindows;
+    }
+
+    public void setFreeWindows(List<TimeWindow> freeWindows) {
+        this.freeWindows = freeWindows;
+    }
+}
@@ -0,0 +1,80 @@
+package com.pims.backend.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Outcome of one appointment sweeper run, as shown by the actuator endpoint.
+ */
+public class SweepRun {
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String trigger;
+    private int noShows;
+    private int completed;
+    private int chunks;
+    private String error;
+
+    public SweepRun() {
+    }
+
+    public SweepRun(LocalDateTime startedAt, String trigger) {
+        this.startedAt = startedAt;
+        this.trigger = trigger;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(LocalDateTime finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+
+    public String getTrigger() {
+        return trigger;
+    }
+
+    public void setTrigger(String trigger) {
+        this.trigger = trigger;
+    }
+
+    public int getNoShows() {
+        return noShows;
+    }
+
+    public void setNoShows(int noShows) {
+        this.noShows = noShows;
+    }
+
+    public int getCompleted() {
+        return completed;
+    }
+
+    public void setCompleted(int completed) {
+        this.completed = completed;
+    }
+
+    public int getChunks() {
+        return chunks;
+    }
+
+    public void setChunks(int chunks) {
+        this.chunks = chunks;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
@@ -0,0 +1,181 @@
+package com.pims.backend.dto;
+
+import com.pims.backend.enums.AppointmentStatus;
+import com.pims.backend.enums.AppointmentType;
+import com.pims.backend.enums.TimelineEntryKind;
+
+import java.time.LocalDateTime;
+
+/**
+ * One row of a patient's timeline: an appointment (at its start time) or a medical
+ * record (at its creation time). Fields that do not apply to the kind are null.
+ */
+public class TimelineEntry {
+    private TimelineEntryKind kind;
+    private Long id;
+    private LocalDateTime at;
+
+    // Appointments
+    private LocalDateTime endTime;
+    private AppointmentStatus status;
+    private AppointmentType type;
+    private String reason;
+    private String vetName;
+    private boolean archived;
+
+    // Medical records
+    private String diagnosis;
+    private String treatment;
+    private Double weight;
+    private Double temperature;
+    private Long appointmentId;
+
+    public TimelineEntry() {
+    }
+
+    public TimelineEntry(Long id, LocalDateTime startTime, LocalDateTime endTime, AppointmentStatus status,
+            AppointmentType type, String reason, String vetFirstName, String vetLastName) {
+        this.kind = TimelineEntryKind.APPOINTMENT;
+        this.id = id;
+        this.at = startTime;
+        this.endTime = endTime;
+        this.status = status;
+        this.type = type;
+        this.reason = reason;
+        this.vetName = joinName(vetFirstName, vetLastName);
+    }
+
+    public TimelineEntry(Long id, LocalDateTime createdAt, String diagnosis, String treatment, Double weight,
+            Double temperature, Long appointmentId) {
+        this.kind = TimelineEntryKind.MEDICAL_RECORD;
+        this.id = id;
+        this.at = createdAt;
+        this.diagnosis = diagnosis;
+        this.treatment = treatment;
+        this.weight = weight;
+        this.temperature = temperature;
+        this.appointmentId = appointmentId;
+    }
+
+    private static String joinName(String firstName, String lastName) {
+        if (firstName == null && lastName == null) {
+            return null;
+        }
+        if (firstName == null) {
+            return lastName;
+        }
+        return lastName == null ? firstName : firstName + " " + lastName;
+    }
+
+    public TimelineEntryKind getKind() {
+        return kind;
+    }
+
+    public void setKind(TimelineEntryKind kind) {
+        this.kind = kind;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public LocalDateTime getAt() {
+        return at;
+    }
+
+    public void setAt(LocalDateTime at) {
+        this.at = at;
+    }
+
+    public LocalDateTime getEndTime() {
+        return endTime;
+    }
+
+    public void setEndTime(LocalDateTime endTime) {
+        this.endTime = endTime;
+    }
+
+    public AppointmentStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(AppointmentStatus status) {
+        this.status = status;
+    }
+
+    public AppointmentType getType() {
+        return type;
+    }
+
+    public void setType(AppointmentType type) {
+        this.type = type;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    public void setReason(String reason) {
+        this.reason = reason;
+    }
+
+    public String getVetName() {
+        return vetName;
+    }
+
+    public void setVetName(String vetName) {
+        this.vetName = vetName;
+    }
+
+    public boolean isArchived() {
+        return archived;
+    }
+
+    public void setArchived(boolean archived) {
+        this.archived = archived;
+    }
+
+    public String getDiagnosis() {
+        return diagnosis;
+    }
+
+    public void setDiagnosis(String diagnosis) {
+        this.diagnosis = diagnosis;
+    }
+
+    public String getTreatment() {
+        return treatment;
+    }
+
+    public void setTreatment(String treatment) {
+        this.treatment = treatment;
+    }
+
+    public Double getWeight() {
+        return weight;
+    }
+
+    public void setWeight(Double weight) {
+        this.weight = weight;
+    }
+
+    public Double getTemperature() {
+        return temperature;
+    }
+
+    public void setTemperature(Double temperature) {
+        this.temperature = temperature;
+    }
+
+    public Long getAppointmentId() {
+        return appointmentId;
+    }
+
+    public void setAppointmentId(Long appointmentId) {
+        this.appointmentId = appointmentId;
+    }
+}
@@ -0,0 +1,47 @@
+package com.pims.backend.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One page of a patient's timeline, newest first. Pass {@code nextCursor} back as
+ * {@code cursor} to continue; it is {@code null} on the last page.
+ */
+public class TimelinePage {
+    private Long patientId;
+    private List<TimelineEntry> entries = new ArrayList<>();
+    private String nextCursor;
+
+    public TimelinePage() {
+    }
+
+    public TimelinePage(Long patientId, List<TimelineEntry> entries, String nextCursor) {
+        this.patientId = patientId;
+        this.entries = entries;
+        this.nextCursor = nextCursor;
+    }
+
+    public Long getPatientId() {
+        return patientId;
+    }
+
+    public void setPatientId(Long patientId) {
+        this.patientId = patientId;
+    }
+
+    public List<TimelineEntry> getEntries() {
+        return entries;
+    }
+
+    public void setEntries(List<TimelineEntry> entries) {
+        this.entries = entries;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
@@ -0,0 +1,35 @@
+package com.pims.backend.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * One measurement of a vital sign: when it was recorded and its value.
+ */
+public class VitalPoint {
+    private LocalDateTime at;
+    private Double value;
+
+    public VitalPoint() {
+    }
+
+    public VitalPoint(LocalDateTime at, Double value) {
+        this.at = at;
+        this.value = value;
+    }
+
+    public LocalDateTime getAt() {
+        return at;
+    }
+
+    public void setAt(LocalDateTime at) {
+        this.at = at;
+    }
+
+    public Double getValue() {
+        return value;
+    }
+
+    public void setValue(Double value) {
+        this.value = value;
+    }
+}
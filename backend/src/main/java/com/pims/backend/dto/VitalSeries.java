@@ -0,0 +1,80 @@
+package com.pims.backend.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.pims.backend.enums.VitalMetric;
+
+/**
+ * A patient's vital sign over time, downsampled to at most the requested number of points.
+ * {@code totalPoints} is the number of measurements before downsampling.
+ */
+public class VitalSeries {
+    private Long patientId;
+    private VitalMetric metric;
+    private String unit;
+    private Double currentValue;
+    private int totalPoints;
+    private List<VitalPoint> points = new ArrayList<>();
+
+    public VitalSeries() {
+    }
+
+    public VitalSeries(Long patientId, VitalMetric metric, Double currentValue, int totalPoints,
+            List<VitalPoint> points) {
+        this.patientId = patientId;
+        this.metric = metric;
+        this.unit = metric.getUnit();
+        this.currentValue = currentValue;
+        this.totalPoints = totalPoints;
+        this.points = points;
+    }
+
+    public Long getPatientId() {
+        return patientId;
+    }
+
+    public void setPatientId(Long patientId) {
+        this.patientId = patientId;
+    }
+
+    public VitalMetric getMetric() {
+        return metric;
+    }
+
+    public void setMetric(VitalMetric metric) {
+        this.metric = metric;
+    }
+
+    public String getUnit() {
+        return unit;
+    }
+
+    public void setUnit(String unit) {
+        this.unit = unit;
+    }
+
+    public Double getCurrentValue() {
+        return currentValue;
+    }
+
+    public void setCurrentValue(Double currentValue) {
+        this.currentValue = currentValue;
+    }
+
+    public int getTotalPoints() {
+        return totalPoints;
+    }
+
+    public void setTotalPoints(int totalPoints) {
+        this.totalPoints = totalPoints;
+    }
+
+    public List<VitalPoint> getPoints() {
+        return points;
+    }
+
+    public void setPoints(List<VitalPoint> points) {
+        this.points = points;
+    }
+}
@@ -8,6 +8,8 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -47,6 +49,11 @@ public class AppUser implements UserDetails {
     @JoinColumn(name = "role_id")
     private Role role;
 
+    // Secret in the vet's calendar subscription URL; replacing or clearing it revokes old links
+    @JsonIgnore
+    @Column(name = "calendar_feed_token", unique = true)
+    private String calendarFeedToken;
+
     public AppUser() {
     }
 
@@ -120,4 +127,7 @@ public class AppUser implements UserDetails {
 
     public Role getRole() { return role; }
     public void setRole(Role role) { this.role = role; }
+
+    public String getCalendarFeedToken() { return calendarFeedToken; }
+    public void setCalendarFeedToken(String calendarFeedToken) { this.calendarFeedToken = calendarFeedToken; }
 }
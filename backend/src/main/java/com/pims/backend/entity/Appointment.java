@@ -12,16 +12,28 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 
 @Entity
-@Table(name = "appointments")
+@Table(name = "appointments", indexes = {
+        @Index(name = "idx_appointments_start_time", columnList = "start_time"),
+        @Index(name = "idx_appointments_vet_start_time", columnList = "vet_id, start_time"),
+        @Index(name = "idx_appointments_resource_start_time", columnList = "resource_id, start_time"),
+        @Index(name = "idx_appointments_client_start_time", columnList = "client_id, start_time"),
+        @Index(name = "idx_appointments_patient_start_time", columnList = "patient_id, start_time")
+})
 public class Appointment {
 
+    // Sequence ids (pooled in blocks of 50) keep Hibernate's JDBC insert batching available
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "appointment_seq")
+    @SequenceGenerator(name = "appointment_seq", sequenceName = "appointments_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -59,6 +71,9 @@ public class Appointment {
     @JoinColumn(name = "resource_id")
     private Resource resource;
 
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
     public Appointment() {
     }
 
@@ -76,6 +91,12 @@ public class Appointment {
         this.resource = resource;
     }
 
+    @PrePersist
+    @PreUpdate
+    public void touch() {
+        updatedAt = LocalDateTime.now();
+    }
+
     public Long getId() {
         return id;
     }
@@ -163,4 +184,12 @@ public class Appointment {
     public void setResource(Resource resource) {
         this.resource = resource;
     }
-}
\ No newline at end of file
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -6,6 +6,9 @@ import java.util.List;
 
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.pims.backend.util.PhoneNumbers;
+
+import org.hibernate.Hibernate;
 
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
@@ -49,15 +52,20 @@ public class Client {
     @JsonProperty("phoneNumber") // Serialize as phoneNumber for frontend compatibility
     private String phone;
 
+    // Derived from phone; backs caller-ID lookup. NULL when the number cannot be normalised.
+    @Column(name = "phone_e164", unique = true, length = 16)
+    private String phoneE164;
+
     private String address;
 
     @Column(name = "gdpr_consent")
     private Boolean gdprConsent;
 
-    @Column(nullable = false)
+    // Maintained only by LedgerService's atomic increment; entity saves never write it back
+    @Column(nullable = false, updatable = false, precision = 12, scale = 2)
     private BigDecimal balance = BigDecimal.ZERO;
 
-    @OneToMany(mappedBy = "owner", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "owner", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     @JsonManagedReference
     private List<Patient> pets = new ArrayList<>();
 
@@ -90,6 +98,7 @@ public class Client {
         if (balance == null) {
             balance = BigDecimal.ZERO;
         }
+        phoneE164 = PhoneNumbers.toE164(phone);
     }
 
     public void addPatient(Patient patient) {
@@ -102,9 +111,10 @@ public class Client {
         patient.setOwner(null);
     }
 
+    // Only counted when the pets are already loaded, so serializing a client never triggers the lazy fetch
     @JsonProperty("petCount")
-    public int getPetCount() {
-        return pets != null ? pets.size() : 0;
+    public Integer getPetCount() {
+        return pets != null && Hibernate.isInitialized(pets) ? pets.size() : null;
     }
 
     // Getters and Setters
@@ -162,6 +172,15 @@ public class Client {
 
     public void setPhone(String phone) {
         this.phone = phone;
+        this.phoneE164 = PhoneNumbers.toE164(phone);
+    }
+
+    public String getPhoneE164() {
+        return phoneE164;
+    }
+
+    public void setPhoneE164(String phoneE164) {
+        this.phoneE164 = phoneE164;
     }
 
     public String getAddress() {
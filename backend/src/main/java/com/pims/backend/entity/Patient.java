@@ -10,7 +10,9 @@ import jakarta.validation.constraints.NotNull;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "patients")
+@Table(name = "patients", indexes = {
+        @Index(name = "idx_patients_client_id", columnList = "client_id")
+})
 public class Patient {
 
     @Id
@@ -1,9 +1,26 @@
 package com.pims.backend.enums;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public enum AppointmentStatus {
     SCHEDULED,
     CHECKED_IN,
     COMPLETED,
     CANCELLED,
-    NO_SHOW
+    NO_SHOW;
+
+    /**
+     * Statuses an appointment may move to this one from. Moving a cancelled or no-show
+     * appointment back to SCHEDULED reinstates it and has to win its slot again.
+     */
+    public Set<AppointmentStatus> allowedPredecessors() {
+        return switch (this) {
+            case SCHEDULED -> EnumSet.of(CHECKED_IN, CANCELLED, NO_SHOW);
+            case CHECKED_IN -> EnumSet.of(SCHEDULED);
+            case COMPLETED -> EnumSet.of(SCHEDULED, CHECKED_IN);
+            case CANCELLED -> EnumSet.of(SCHEDULED, CHECKED_IN);
+            case NO_SHOW -> EnumSet.of(SCHEDULED);
+        };
+    }
 }
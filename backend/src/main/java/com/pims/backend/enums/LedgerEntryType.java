@@ -0,0 +1,10 @@
+package com.pims.backend.enums;
+
+/**
+ * Balance is what the client owes: charges raise it, payments lower it, adjustments carry their own sign.
+ */
+public enum LedgerEntryType {
+    CHARGE,
+    PAYMENT,
+    ADJUSTMENT
+}
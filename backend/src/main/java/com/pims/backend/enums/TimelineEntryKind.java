@@ -0,0 +1,10 @@
+package com.pims.backend.enums;
+
+/**
+ * What a patient timeline entry is. Entries at the same instant are ordered by kind,
+ * medical records before appointments.
+ */
+public enum TimelineEntryKind {
+    APPOINTMENT,
+    MEDICAL_RECORD
+}
@@ -0,0 +1,19 @@
+package com.pims.backend.enums;
+
+/**
+ * Vital signs recorded on medical records, charted as time series.
+ */
+public enum VitalMetric {
+    WEIGHT("kg"),
+    TEMPERATURE("°C");
+
+    private final String unit;
+
+    VitalMetric(String unit) {
+        this.unit = unit;
+    }
+
+    public String getUnit() {
+        return unit;
+    }
+}
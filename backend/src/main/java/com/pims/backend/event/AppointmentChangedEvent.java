@@ -0,0 +1,90 @@
+package com.pims.backend.event;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import com.pims.backend.dto.AppointmentCalendarItem;
+
+/**
+ * Published by the appointment services after a write. Carries only what changed:
+ * the full flat item on create, the differing fields on update, nothing on delete.
+ */
+public class AppointmentChangedEvent {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    private final ChangeType type;
+    private final Long appointmentId;
+    private final Map<String, Object> fields;
+
+    public AppointmentChangedEvent(ChangeType type, Long appointmentId, Map<String, Object> fields) {
+        this.type = type;
+        this.appointmentId = appointmentId;
+        this.fields = fields;
+    }
+
+    public static AppointmentChangedEvent created(AppointmentCalendarItem item) {
+        return new AppointmentChangedEvent(ChangeType.CREATED, item.getId(), toFields(item));
+    }
+
+    public static AppointmentChangedEvent updated(AppointmentCalendarItem before, AppointmentCalendarItem after) {
+        Map<String, Object> previous = toFields(before);
+        Map<String, Object> changed = new LinkedHashMap<>();
+        toFields(after).forEach((name, value) -> {
+            if (!Objects.equals(previous.get(name), value)) {
+                changed.put(name, value);
+            }
+        });
+        return new AppointmentChangedEvent(ChangeType.UPDATED, after.getId(), changed);
+    }
+
+    public static AppointmentChangedEvent updated(Long appointmentId, Map<String, Object> changed) {
+        return new AppointmentChangedEvent(ChangeType.UPDATED, appointmentId, changed);
+    }
+
+    public static AppointmentChangedEvent deleted(Long appointmentId) {
+        return new AppointmentChangedEvent(ChangeType.DELETED, appointmentId, Map.of());
+    }
+
+    private static Map<String, Object> toFields(AppointmentCalendarItem item) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("startTime", item.getStartTime());
+        fields.put("endTime", item.getEndTime());
+        fields.put("status", item.getStatus());
+        fields.put("type", item.getType());
+        fields.put("reason", item.getReason());
+        fields.put("clientId", item.getClientId());
+        fields.put("clientName", item.getClientName());
+        fields.put("patientId", item.getPatientId());
+        fields.put("patientName", item.getPatientName());
+        fields.put("vetId", item.getVetId());
+        fields.put("vetName", item.getVetName());
+        fields.put("resourceId", item.getResourceId());
+        fields.put("resourceName", item.getResourceName());
+        return fields;
+    }
+
+    public ChangeType getType() {
+        return type;
+    }
+
+    public Long getAppointmentId() {
+        return appointmentId;
+    }
+
+    public Map<String, Object> getFields() {
+        return fields;
+    }
+
+    /**
+     * No change worth sending, e.g. an update that rewrote identical values.
+     */
+    public boolean isEmpty() {
+        return type == ChangeType.UPDATED && fields.isEmpty();
+    }
+}
@@ -0,0 +1,203 @@
+package com.pims.backend.event;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Fans committed appointment changes out to Server-Sent Events subscribers.
+ *
+ * Event ids are "{boot}-{sequence}"; the last {@value #BUFFER_SIZE} events are kept so
+ * a reconnecting client that sends Last-Event-ID gets exactly what it missed. If the
+ * id is from a previous run or has already left the buffer, the client is told to
+ * reload instead.
+ *
+ * Publishing only appends to the buffer and to each subscriber's queue; the network
+ * writes happen on a virtual thread per subscriber, outside the lock, so a stalled
+ * connection never holds up the request that made the change. A subscriber that falls
+ * a whole buffer behind is disconnected and catches up through Last-Event-ID.
+ */
+@Component
+public class AppointmentEventStream {
+
+    private static final int BUFFER_SIZE = 1000;
+    private static final long EMITTER_TIMEOUT_MS = 30 * 60 * 1000L;
+
+    private final String bootId = Long.toString(System.currentTimeMillis(), 36);
+    private final Deque<BufferedEvent> buffer = new ArrayDeque<>();
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+    private long sequence;
+
+    public SseEmitter subscribe(String lastEventId) {
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MS);
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(e -> subscriber.close());
+
+        // Replay and registration happen under the same lock as publishing so no event is missed or doubled.
+        synchronized (buffer) {
+            if (lastEventId != null && !lastEventId.isBlank()) {
+                replay(subscriber, lastEventId);
+            }
+            subscribers.add(subscriber);
+        }
+        return emitter;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAppointmentChanged(AppointmentChangedEvent event) {
+        if (event.isEmpty()) {
+            return;
+        }
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("type", event.getType());
+        payload.put("id", event.getAppointmentId());
+        payload.put("fields", event.getFields());
+
+        synchronized (buffer) {
+            BufferedEvent buffered = new BufferedEvent(++sequence, event.getType().name().toLowerCase(), payload);
+            buffer.addLast(buffered);
+            if (buffer.size() > BUFFER_SIZE) {
+                buffer.removeFirst();
+            }
+            for (Subscriber subscriber : subscribers) {
+                subscriber.enqueue(toSse(buffered));
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        senders.shutdownNow();
+    }
+
+    // Caller holds the buffer lock
+    private void replay(Subscriber subscriber, String lastEventId) {
+        long lastSequence = parseSequence(lastEventId);
+        BufferedEvent oldest = buffer.peekFirst();
+        boolean gap = lastSequence < 0 || (oldest != null && oldest.sequence > lastSequence + 1);
+        if (gap) {
+            subscriber.enqueue(SseEmitter.event().id(eventId(sequence)).name("reset").data(Map.of()));
+            return;
+        }
+        for (BufferedEvent event : buffer) {
+            if (event.sequence > lastSequence) {
+                subscriber.enqueue(toSse(event));
+            }
+        }
+    }
+
+    // Returns -1 when the id does not belong to this run
+    private long parseSequence(String lastEventId) {
+        int dash = lastEventId.lastIndexOf('-');
+        if (dash < 0 || !lastEventId.substring(0, dash).equals(bootId)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(lastEventId.substring(dash + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private SseEmitter.SseEventBuilder toSse(BufferedEvent event) {
+        return SseEmitter.event()
+                .id(eventId(event.sequence))
+                .name(event.name)
+                .data(event.payload, MediaType.APPLICATION_JSON);
+    }
+
+    private String eventId(long seq) {
+        return bootId + "-" + seq;
+    }
+
+    private static final class BufferedEvent {
+        private final long sequence;
+        private final String name;
+        private final Map<String, Object> payload;
+
+        BufferedEvent(long sequence, String name, Map<String, Object> payload) {
+            this.sequence = sequence;
+            this.name = name;
+            this.payload = payload;
+        }
+    }
+
+    /**
+     * One connected client: events waiting to be written, sent in order by at most one
+     * sender at a time.
+     */
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        // All guarded by this
+        private final Deque<SseEmitter.SseEventBuilder> pending = new ArrayDeque<>();
+        private boolean sending;
+        private boolean closed;
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        synchronized void enqueue(SseEmitter.SseEventBuilder event) {
+            if (closed) {
+                return;
+            }
+            if (pending.size() >= BUFFER_SIZE) {
+                // Too far behind to be worth queueing for; it reconnects with its Last-Event-ID
+                closed = true;
+                pending.clear();
+                subscribers.remove(this);
+                senders.execute(emitter::complete);
+                return;
+            }
+            pending.addLast(event);
+            if (!sending) {
+                sending = true;
+                senders.execute(this::drain);
+            }
+        }
+
+        void close() {
+            synchronized (this) {
+                closed = true;
+                pending.clear();
+            }
+            subscribers.remove(this);
+        }
+
+        private void drain() {
+            while (true) {
+                SseEmitter.SseEventBuilder next;
+                synchronized (this) {
+                    next = closed ? null : pending.pollFirst();
+                    if (next == null) {
+                        sending = false;
+                        return;
+                    }
+                }
+                try {
+                    emitter.send(next);
+                } catch (IOException | IllegalStateException e) {
+                    close();
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.pims.backend.exception;
+
+/**
+ * Thrown when an appointment would overlap another booking of the same vet or resource.
+ */
+public class BookingConflictException extends RuntimeException {
+
+    private final Long conflictingAppointmentId;
+
+    public BookingConflictException(String message, Long conflictingAppointmentId) {
+        super(message);
+        this.conflictingAppointmentId = conflictingAppointmentId;
+    }
+
+    public Long getConflictingAppointmentId() {
+        return conflictingAppointmentId;
+    }
+}
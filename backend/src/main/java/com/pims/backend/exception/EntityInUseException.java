@@ -0,0 +1,11 @@
+package com.pims.backend.exception;
+
+/**
+ * Thrown when a record cannot be deleted because other records still refer to it.
+ */
+public class EntityInUseException extends RuntimeException {
+
+    public EntityInUseException(String message) {
+        super(message);
+    }
+}
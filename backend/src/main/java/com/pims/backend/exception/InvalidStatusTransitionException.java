@@ -0,0 +1,26 @@
+package com.pims.backend.exception;
+
+import com.pims.backend.enums.AppointmentStatus;
+
+/**
+ * Thrown when an appointment's current status does not allow the requested transition.
+ */
+public class InvalidStatusTransitionException extends RuntimeException {
+
+    private final AppointmentStatus currentStatus;
+    private final AppointmentStatus requestedStatus;
+
+    public InvalidStatusTransitionException(AppointmentStatus currentStatus, AppointmentStatus requestedStatus) {
+        super("Cannot change status from " + currentStatus + " to " + requestedStatus);
+        this.currentStatus = currentStatus;
+        this.requestedStatus = requestedStatus;
+    }
+
+    public AppointmentStatus getCurrentStatus() {
+        return currentStatus;
+    }
+
+    public AppointmentStatus getRequestedStatus() {
+        return requestedStatus;
+    }
+}
@@ -0,0 +1,49 @@
+package com.pims.backend.index;
+
+import java.time.LocalDateTime;
+
+/**
+ * Immutable time slot held by one appointment in the {@link BookingIndex}.
+ */
+public class Booking {
+    private final Long appointmentId;
+    private final Long vetId;
+    private final Long resourceId;
+    private final LocalDateTime startTime;
+    private final LocalDateTime endTime;
+
+    public Booking(Long appointmentId, Long vetId, Long resourceId, LocalDateTime startTime, LocalDateTime endTime) {
+        this.appointmentId = appointmentId;
+        this.vetId = vetId;
+        this.resourceId = resourceId;
+        this.startTime = startTime;
+        this.endTime = endTime;
+    }
+
+    /**
+     * Half-open overlap test: back-to-back slots (10:00-10:30, 10:30-11:00) do not clash.
+     */
+    public boolean overlaps(LocalDateTime start, LocalDateTime end) {
+        return startTime.isBefore(end) && endTime.isAfter(start);
+    }
+
+    public Long getAppointmentId() {
+        return appointmentId;
+    }
+
+    public Long getVetId() {
+        return vetId;
+    }
+
+    public Long getResourceId() {
+        return resourceId;
+    }
+
+    public LocalDateTime getStartTime() {
+        return startTime;
+    }
+
+    public LocalDateTime getEndTime() {
+        return endTime;
+    }
+}
@@ -0,0 +1,392 @@
+package com.pims.backend.index;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.pims.backend.enums.AppointmentStatus;
+import com.pims.backend.exception.BookingConflictException;
+import com.pims.backend.repository.AppointmentRepository;
+
+/**
+ * In-memory schedule of every active booking, keyed per vet and per resource.
+ *
+ * Each schedule is a start-time ordered map; an overlap query only walks the
+ * entries that start within one "longest booking" before the requested end, so
+ * checks are O(log n + k). Writers lock the affected schedules in a fixed order,
+ * which makes check-and-reserve atomic across concurrent front-desk requests.
+ * The index is process-local and rebuilt from the database on startup.
+ */
+@Component
+public class BookingIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(BookingIndex.class);
+
+    /** Statuses that no longer occupy the vet or the room. */
+    public static final Set<AppointmentStatus> INACTIVE_STATUSES =
+            EnumSet.of(AppointmentStatus.CANCELLED, AppointmentStatus.NO_SHOW);
+
+    private final AppointmentRepository appointmentRepository;
+    private final Map<String, Schedule> schedules = new ConcurrentHashMap<>();
+    private final Map<Long, Booking> bookings = new ConcurrentHashMap<>();
+
+    public BookingIndex(AppointmentRepository appointmentRepository) {
+        this.appointmentRepository = appointmentRepository;
+    }
+
+    /**
+     * Loads every active booking from the database, replacing the whole index. Startup only:
+     * it cannot see reservations of transactions still in flight, so running it while the
+     * application serves requests would drop their slots.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        // Only today and the future matter for conflicts; older slots are added back as they are edited.
+        LocalDateTime since = LocalDate.now().atStartOfDay();
+        List<Booking> active = appointmentRepository.findActiveBookings(since, INACTIVE_STATUSES);
+
+        List<Schedule> locked = lock(new TreeSet<>(schedules.keySet()));
+        try {
+            schedules.values().forEach(Schedule::clear);
+            bookings.clear();
+            for (Booking booking : active) {
+                for (String key : keysOf(booking)) {
+                    schedules.computeIfAbsent(key, k -> new Schedule()).add(booking);
+                }
+                bookings.put(booking.getAppointmentId(), booking);
+            }
+        } finally {
+            unlock(locked);
+        }
+        log.info("Booking index loaded {} active appointments", active.size());
+    }
+
+    /**
+     * Places (or moves) the appointment's slot, rejecting it if the vet or the
+     * resource is already booked for any part of the interval.
+     *
+     * @return the slot the appointment held before, or {@code null}
+     */
+    public Booking reserve(Booking booking) {
+        return swap(booking.getAppointmentId(), booking, true);
+    }
+
+    /**
+     * Places a batch of new bookings atomically: either every slot is free (against the
+     * index and against each other) and all are taken, or a BookingConflictException is
+     * thrown and nothing changes. Intended for freshly created appointments.
+     */
+    public void reserveAll(List<Booking> batch) {
+        Set<String> keys = new TreeSet<>();
+        for (Booking booking : batch) {
+            keys.addAll(keysOf(booking));
+        }
+
+        List<Schedule> locked = lock(keys);
+        try {
+            for (int i = 0; i < batch.size(); i++) {
+                Booking candidate = batch.get(i);
+                checkConflicts(candidate);
+                for (int j = 0; j < i; j++) {
+                    Booking other = batch.get(j);
+                    if (sharesSchedule(candidate, other)
+                            && other.overlaps(candidate.getStartTime(), candidate.getEndTime())) {
+                        throw new BookingConflictException("Bookings in the same request overlap at "
+                                + candidate.getStartTime(), other.getAppointmentId());
+                    }
+                }
+            }
+            for (Booking booking : batch) {
+                for (String key : keysOf(booking)) {
+                    schedules.get(key).add(booking);
+                }
+                bookings.put(booking.getAppointmentId(), booking);
+            }
+        } finally {
+            unlock(locked);
+        }
+    }
+
+    /**
+     * Moves every booking of one vet to another, e.g. to the placeholder vet after a vet is
+     * deleted. Only the two vets' schedules and the resources of the moved bookings are
+     * locked; the moved slots are not checked for conflicts, matching the reassignment
+     * already committed to the database.
+     *
+     * @return the number of bookings moved
+     */
+    public int reassignVet(Long fromVetId, Long toVetId) {
+        String fromKey = vetKey(fromVetId);
+        while (true) {
+            Schedule source = schedules.get(fromKey);
+            if (source == null) {
+                return 0;
+            }
+            List<Booking> moving;
+            source.lock.lock();
+            try {
+                moving = source.all();
+            } finally {
+                source.lock.unlock();
+            }
+
+            Set<String> keys = new TreeSet<>();
+            keys.add(fromKey);
+            keys.add(vetKey(toVetId));
+            for (Booking booking : moving) {
+                keys.addAll(keysOf(booking));
+            }
+
+            List<Schedule> locked = lock(keys);
+            try {
+                if (!source.all().equals(moving)) {
+                    // A booking was added or moved between our read and the lock; retry.
+                    continue;
+                }
+                for (Booking booking : moving) {
+                    for (String key : keysOf(booking)) {
+                        schedules.get(key).remove(booking);
+                    }
+                    Booking moved = new Booking(booking.getAppointmentId(), toVetId, booking.getResourceId(),
+                            booking.getStartTime(), booking.getEndTime());
+                    for (String key : keysOf(moved)) {
+                        schedules.get(key).add(moved);
+                    }
+                    bookings.put(moved.getAppointmentId(), moved);
+                }
+                return moving.size();
+            } finally {
+                unlock(locked);
+            }
+        }
+    }
+
+    /**
+     * Frees the appointment's slot, e.g. after deletion or cancellation.
+     */
+    public Booking release(Long appointmentId) {
+        return swap(appointmentId, null, false);
+    }
+
+    /**
+     * Puts back a slot returned by {@link #reserve} or {@link #release}, used when the transaction rolls back.
+     */
+    public void restore(Long appointmentId, Booking previous) {
+        swap(appointmentId, previous, false);
+    }
+
+    /**
+     * The slot currently held by the appointment, or {@code null} if it holds none.
+     */
+    public Booking get(Long appointmentId) {
+        return bookings.get(appointmentId);
+    }
+
+    /**
+     * Bookings of one vet or resource that overlap [from, to), in start-time order.
+     */
+    public List<Booking> bookingsForVet(Long vetId, LocalDateTime from, LocalDateTime to) {
+        return overlapping(vetKey(vetId), from, to);
+    }
+
+    public List<Booking> bookingsForResource(Long resourceId, LocalDateTime from, LocalDateTime to) {
+        return overlapping(resourceKey(resourceId), from, to);
+    }
+
+    private List<Booking> overlapping(String key, LocalDateTime from, LocalDateTime to) {
+        Schedule schedule = schedules.get(key);
+        if (schedule == null) {
+            return List.of();
+        }
+        schedule.lock.lock();
+        try {
+            return schedule.findOverlaps(from, to);
+        } finally {
+            schedule.lock.unlock();
+        }
+    }
+
+    private Booking swap(Long appointmentId, Booking next, boolean checkConflicts) {
+        while (true) {
+            Booking previous = bookings.get(appointmentId);
+            Set<String> keys = new TreeSet<>();
+            if (previous != null) {
+                keys.addAll(keysOf(previous));
+            }
+            if (next != null) {
+                keys.addAll(keysOf(next));
+            }
+
+            List<Schedule> locked = lock(keys);
+            try {
+                if (bookings.get(appointmentId) != previous) {
+                    // Another writer moved this appointment between our read and the lock; retry.
+                    continue;
+                }
+                if (checkConflicts && next != null) {
+                    checkConflicts(next);
+                }
+                if (previous != null) {
+                    for (String key : keysOf(previous)) {
+                        schedules.get(key).remove(previous);
+                    }
+                    bookings.remove(appointmentId);
+                }
+                if (next != null) {
+                    for (String key : keysOf(next)) {
+                        schedules.get(key).add(next);
+                    }
+                    bookings.put(appointmentId, next);
+                }
+                return previous;
+            } finally {
+                unlock(locked);
+            }
+        }
+    }
+
+    private void checkConflicts(Booking candidate) {
+        if (candidate.getVetId() != null) {
+            Booking clash = schedules.get(vetKey(candidate.getVetId())).findFirstOverlap(candidate);
+            if (clash != null) {
+                throw new BookingConflictException("Vet is already booked from " + clash.getStartTime()
+                        + " to " + clash.getEndTime(), clash.getAppointmentId());
+            }
+        }
+        if (candidate.getResourceId() != null) {
+            Booking clash = schedules.get(resourceKey(candidate.getResourceId())).findFirstOverlap(candidate);
+            if (clash != null) {
+                throw new BookingConflictException("Resource is already booked from " + clash.getStartTime()
+                        + " to " + clash.getEndTime(), clash.getAppointmentId());
+            }
+        }
+    }
+
+    private static boolean sharesSchedule(Booking a, Booking b) {
+        return (a.getVetId() != null && a.getVetId().equals(b.getVetId()))
+                || (a.getResourceId() != null && a.getResourceId().equals(b.getResourceId()));
+    }
+
+    // Locks are always taken in key order so two writers can never deadlock.
+    private List<Schedule> lock(Set<String> sortedKeys) {
+        List<Schedule> locked = new ArrayList<>(sortedKeys.size());
+        for (String key : sortedKeys) {
+            Schedule schedule = schedules.computeIfAbsent(key, k -> new Schedule());
+            schedule.lock.lock();
+            locked.add(schedule);
+        }
+        return locked;
+    }
+
+    private static void unlock(List<Schedule> locked) {
+        for (int i = locked.size() - 1; i >= 0; i--) {
+            locked.get(i).lock.unlock();
+        }
+    }
+
+    private static List<String> keysOf(Booking booking) {
+        List<String> keys = new ArrayList<>(2);
+        if (booking.getVetId() != null) {
+            keys.add(vetKey(booking.getVetId()));
+        }
+        if (booking.getResourceId() != null) {
+            keys.add(resourceKey(booking.getResourceId()));
+        }
+        return keys;
+    }
+
+    private static String vetKey(Long vetId) {
+        return "vet:" + vetId;
+    }
+
+    private static String resourceKey(Long resourceId) {
+        return "resource:" + resourceId;
+    }
+
+    /**
+     * Bookings of a single vet or resource. Guarded by its own lock.
+     */
+    private static final class Schedule {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final NavigableMap<LocalDateTime, List<Booking>> byStart = new TreeMap<>();
+        // Never shrinks; a stale upper bound only widens the scan window slightly.
+        private Duration longest = Duration.ZERO;
+
+        void add(Booking booking) {
+            byStart.computeIfAbsent(booking.getStartTime(), k -> new ArrayList<>(1)).add(booking);
+            Duration length = Duration.between(booking.getStartTime(), booking.getEndTime());
+            if (length.compareTo(longest) > 0) {
+                longest = length;
+            }
+        }
+
+        void remove(Booking booking) {
+            List<Booking> group = byStart.get(booking.getStartTime());
+            if (group == null) {
+                return;
+            }
+            group.removeIf(b -> b.getAppointmentId().equals(booking.getAppointmentId()));
+            if (group.isEmpty()) {
+                byStart.remove(booking.getStartTime());
+            }
+        }
+
+        List<Booking> all() {
+            List<Booking> result = new ArrayList<>();
+            for (List<Booking> group : byStart.values()) {
+                result.addAll(group);
+            }
+            return result;
+        }
+
+        void clear() {
+            byStart.clear();
+            longest = Duration.ZERO;
+        }
+
+        Booking findFirstOverlap(Booking candidate) {
+            for (Booking booking : candidates(candidate.getStartTime(), candidate.getEndTime())) {
+                if (!booking.getAppointmentId().equals(candidate.getAppointmentId())
+                        && booking.overlaps(candidate.getStartTime(), candidate.getEndTime())) {
+                    return booking;
+                }
+            }
+            return null;
+        }
+
+        List<Booking> findOverlaps(LocalDateTime from, LocalDateTime to) {
+            List<Booking> result = new ArrayList<>();
+            for (Booking booking : candidates(from, to)) {
+                if (booking.overlaps(from, to)) {
+                    result.add(booking);
+                }
+            }
+            return result;
+        }
+
+        // Anything overlapping [from, to) must start in [from - longest, to).
+        private List<Booking> candidates(LocalDateTime from, LocalDateTime to) {
+            List<Booking> result = new ArrayList<>();
+            for (List<Booking> group : byStart.subMap(from.minus(longest), true, to, false).values()) {
+                result.addAll(group);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,357 @@
+package com.pims.backend.index;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.pims.backend.dto.ClientRequest;
+import com.pims.backend.dto.DuplicateCandidate;
+import com.pims.backend.dto.DuplicateReport;
+import com.pims.backend.entity.Client;
+import com.pims.backend.repository.ClientRepository;
+import com.pims.backend.util.JaroWinkler;
+import com.pims.backend.util.PhoneNumbers;
+import com.pims.backend.util.SearchText;
+
+/**
+ * Finds clients that are probably the same person entered twice.
+ *
+ * Clients are only ever compared with clients sharing a blocking key: the phonetic
+ * key of the last name, of both names together, the last seven phone digits, the
+ * email's local part or the AFM. Blocks larger than {@value #MAX_BLOCK} (a very
+ * common surname) are skipped, the combined-name block still covers them, so a full
+ * scan stays close to linear in the number of clients. Pairs within a block are
+ * scored with Jaro-Winkler on the transliterated names and email, and a digit-level
+ * comparison of phone and AFM.
+ */
+@Component
+public class ClientDuplicateIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(ClientDuplicateIndex.class);
+
+    private static final int MAX_BLOCK = 200;
+    private static final int PHONE_SUFFIX = 7;
+
+    private static final double NAME = 0.45;
+    private static final double PHONE = 0.25;
+    private static final double EMAIL = 0.20;
+    private static final double AFM = 0.10;
+    // Two clients with nothing but a name to compare stay just above the default threshold on an exact match
+    private static final double NAME_ONLY = 0.9;
+
+    private final ClientRepository clientRepository;
+    private final double threshold;
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, Set<Long>> blocks = new ConcurrentHashMap<>();
+
+    public ClientDuplicateIndex(ClientRepository clientRepository,
+            @Value("${pims.duplicates.threshold:0.88}") double threshold) {
+        this.clientRepository = clientRepository;
+        this.threshold = threshold;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        List<Client> clients = clientRepository.findAll();
+        entries.clear();
+        blocks.clear();
+        for (Client client : clients) {
+            add(Entry.of(client));
+        }
+        log.info("Client duplicate index loaded {} clients in {} blocks", entries.size(), blocks.size());
+    }
+
+    /**
+     * Re-reads one client; call after the change has committed.
+     */
+    public synchronized void refresh(Long clientId) {
+        if (clientId == null) {
+            return;
+        }
+        remove(clientId);
+        clientRepository.findById(clientId).ifPresent(client -> add(Entry.of(client)));
+    }
+
+    public synchronized void remove(Long clientId) {
+        Entry previous = entries.remove(clientId);
+        if (previous == null) {
+            return;
+        }
+        for (String key : previous.keys) {
+            blocks.computeIfPresent(key, (k, ids) -> {
+                ids.remove(clientId);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    /**
+     * Existing clients that look like the one about to be created, best match first.
+     */
+    public List<DuplicateCandidate> findMatches(ClientRequest request, int limit) {
+        Entry probe = Entry.of(null, request.getFirstName(), request.getLastName(), request.getEmail(),
+                request.getPhoneValue(), request.getAfm());
+
+        Set<Long> candidates = new LinkedHashSet<>();
+        for (String key : probe.keys) {
+            Set<Long> ids = blocks.get(key);
+            if (ids != null && ids.size() <= MAX_BLOCK) {
+                candidates.addAll(ids);
+            }
+        }
+
+        List<DuplicateCandidate> matches = new ArrayList<>();
+        for (Long id : candidates) {
+            Entry entry = entries.get(id);
+            if (entry == null) {
+                continue;
+            }
+            Match match = compare(probe, entry);
+            if (match.score >= threshold) {
+                matches.add(entry.toCandidate(match));
+            }
+        }
+        matches.sort(Comparator.comparingDouble(DuplicateCandidate::getScore).reversed());
+        return matches.size() > limit ? matches.subList(0, limit) : matches;
+    }
+
+    /**
+     * Every pair of clients at or above the threshold. Each pair is scored once even
+     * when it shares several blocks.
+     */
+    public DuplicateReport report(int limit) {
+        Set<PairKey> seen = new HashSet<>();
+        List<DuplicateReport.Pair> pairs = new ArrayList<>();
+        long comparisons = 0;
+
+        for (Set<Long> block : blocks.values()) {
+            Long[] ids = block.toArray(new Long[0]);
+            if (ids.length < 2 || ids.length > MAX_BLOCK) {
+                continue;
+            }
+            for (int i = 0; i < ids.length; i++) {
+                Entry a = entries.get(ids[i]);
+                for (int j = i + 1; j < ids.length && a != null; j++) {
+                    Entry b = entries.get(ids[j]);
+                    if (b == null || !seen.add(PairKey.of(a.id, b.id))) {
+                        continue;
+                    }
+                    comparisons++;
+                    Match match = compare(a, b);
+                    if (match.score >= threshold) {
+                        Entry first = a.id < b.id ? a : b;
+                        Entry second = first == a ? b : a;
+                        pairs.add(new DuplicateReport.Pair(first.id, first.displayName(), second.id,
+                                second.displayName(), match.score, match.matchedOn));
+                    }
+                }
+            }
+        }
+
+        pairs.sort(Comparator.comparingDouble(DuplicateReport.Pair::getScore).reversed()
+                .thenComparing(DuplicateReport.Pair::getClientId));
+        List<DuplicateReport.Pair> top = pairs.size() > limit ? new ArrayList<>(pairs.subList(0, limit)) : pairs;
+        return new DuplicateReport(LocalDateTime.now(), entries.size(), comparisons, top);
+    }
+
+    private void add(Entry entry) {
+        entries.put(entry.id, entry);
+        for (String key : entry.keys) {
+            blocks.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(entry.id);
+        }
+    }
+
+    private static Match compare(Entry a, Entry b) {
+        List<String> matchedOn = new ArrayList<>(4);
+
+        double name = Math.max(JaroWinkler.similarity(a.name, b.name), JaroWinkler.similarity(a.name, b.reversedName));
+        if (name >= 0.9) {
+            matchedOn.add("name");
+        }
+        double weighted = NAME * name;
+        double weights = NAME;
+
+        if (!a.phone.isEmpty() && !b.phone.isEmpty()) {
+            double phone = digitSimilarity(a.phone, b.phone);
+            weighted += PHONE * phone;
+            weights += PHONE;
+            if (phone >= 0.8) {
+                matchedOn.add("phone");
+            }
+        }
+        boolean sameEmail = false;
+        if (!a.email.isEmpty() && !b.email.isEmpty()) {
+            sameEmail = a.email.equals(b.email);
+            double email = sameEmail ? 1 : JaroWinkler.similarity(a.emailLocal, b.emailLocal)
+                    * (a.emailDomain.equals(b.emailDomain) ? 1 : 0.9);
+            weighted += EMAIL * email;
+            weights += EMAIL;
+            if (email >= 0.9) {
+                matchedOn.add("email");
+            }
+        }
+        boolean sameAfm = false;
+        if (!a.afm.isEmpty() && !b.afm.isEmpty()) {
+            sameAfm = a.afm.equals(b.afm);
+            weighted += AFM * (sameAfm ? 1 : 0);
+            weights += AFM;
+            if (sameAfm) {
+                matchedOn.add("afm");
+            }
+        }
+
+        double score = weights == NAME ? name * NAME_ONLY : weighted / weights;
+        // AFM and email are unique per person, so an exact match is conclusive on its own
+        if (sameAfm) {
+            score = Math.max(score, 0.97);
+        } else if (sameEmail) {
+            score = Math.max(score, 0.95);
+        }
+        return new Match(Math.round(score * 1000) / 1000.0, matchedOn);
+    }
+
+    // 1 for equal numbers, 0.8 for a single mistyped or swapped digit, otherwise 0
+    private static double digitSimilarity(String a, String b) {
+        if (a.equals(b)) {
+            return 1;
+        }
+        if (a.length() != b.length()) {
+            return 0;
+        }
+        int first = -1;
+        int differences = 0;
+        for (int i = 0; i < a.length(); i++) {
+            if (a.charAt(i) != b.charAt(i)) {
+                if (++differences > 2) {
+                    return 0;
+                }
+                if (first < 0) {
+                    first = i;
+                }
+            }
+        }
+        if (differences == 1) {
+            return 0.8;
+        }
+        boolean swapped = first + 1 < a.length() && a.charAt(first) == b.charAt(first + 1)
+                && a.charAt(first + 1) == b.charAt(first);
+        return swapped ? 0.8 : 0;
+    }
+
+    private record PairKey(long low, long high) {
+        static PairKey of(long a, long b) {
+            return a < b ? new PairKey(a, b) : new PairKey(b, a);
+        }
+    }
+
+    private static final class Match {
+        private final double score;
+        private final List<String> matchedOn;
+
+        Match(double score, List<String> matchedOn) {
+            this.score = score;
+            this.matchedOn = matchedOn;
+        }
+    }
+
+    /**
+     * Immutable snapshot of one client, normalised for comparison.
+     */
+    private static final class Entry {
+        private final Long id;
+        private final String firstName;
+        private final String lastName;
+        private final String rawEmail;
+        private final String rawPhone;
+        private final String rawAfm;
+        private final String name;
+        private final String reversedName;
+        private final String email;
+        private final String emailLocal;
+        private final String emailDomain;
+        private final String phone;
+        private final String afm;
+        private final List<String> keys;
+
+        private Entry(Long id, String firstName, String lastName, String rawEmail, String rawPhone, String rawAfm) {
+            this.id = id;
+            this.firstName = firstName;
+            this.lastName = lastName;
+            this.rawEmail = rawEmail;
+            this.rawPhone = rawPhone;
+            this.rawAfm = rawAfm;
+
+            String first = SearchText.latin(firstName).trim();
+            String last = SearchText.latin(lastName).trim();
+            this.name = first + " " + last;
+            this.reversedName = last + " " + first;
+
+            this.email = rawEmail != null ? rawEmail.trim().toLowerCase(Locale.ROOT) : "";
+            int at = email.lastIndexOf('@');
+            this.emailLocal = at >= 0 ? email.substring(0, at) : email;
+            this.emailDomain = at >= 0 ? email.substring(at + 1) : "";
+
+            this.phone = SearchText.digits(PhoneNumbers.toE164(rawPhone));
+            this.afm = SearchText.digits(rawAfm);
+            this.keys = blockingKeys(firstName, lastName);
+        }
+
+        static Entry of(Client client) {
+            return of(client.getId(), client.getFirstName(), client.getLastName(), client.getEmail(),
+                    client.getPhone(), client.getAfm());
+        }
+
+        static Entry of(Long id, String firstName, String lastName, String email, String phone, String afm) {
+            return new Entry(id, firstName, lastName, email, phone, afm);
+        }
+
+        private List<String> blockingKeys(String firstName, String lastName) {
+            List<String> keys = new ArrayList<>(5);
+            String last = SearchText.phoneticKey(lastName);
+            String first = SearchText.phoneticKey(firstName);
+            if (!last.isEmpty()) {
+                keys.add("n:" + last);
+            }
+            if (!last.isEmpty() || !first.isEmpty()) {
+                // Order-independent, so first and last name typed the wrong way round still meet
+                keys.add(last.compareTo(first) <= 0 ? "nn:" + last + ":" + first : "nn:" + first + ":" + last);
+            }
+            if (phone.length() >= PHONE_SUFFIX) {
+                keys.add("p:" + phone.substring(phone.length() - PHONE_SUFFIX));
+            }
+            if (emailLocal.length() >= 3) {
+                keys.add("e:" + emailLocal);
+            }
+            if (!afm.isEmpty()) {
+                keys.add("a:" + afm);
+            }
+            return List.copyOf(keys);
+        }
+
+        String displayName() {
+            if (firstName == null) {
+                return lastName;
+            }
+            return lastName == null ? firstName : firstName + " " + lastName;
+        }
+
+        DuplicateCandidate toCandidate(Match match) {
+            return new DuplicateCandidate(id, firstName, lastName, rawEmail, rawPhone, rawAfm, match.score,
+                    match.matchedOn);
+        }
+    }
+}
@@ -0,0 +1,268 @@
+package com.pims.backend.index;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.pims.backend.dto.ClientSuggestion;
+import com.pims.backend.entity.Client;
+import com.pims.backend.entity.Patient;
+import com.pims.backend.repository.ClientRepository;
+import com.pims.backend.util.SearchText;
+
+/**
+ * In-memory typeahead over clients: names, email, phone, AFM and pet names.
+ *
+ * Every folded token points at the clients that carry it, in a sorted map, so a
+ * prefix is a range scan. A query is answered from the range of its longest term
+ * (capped at {@value #MAX_CANDIDATES} clients); the remaining terms are checked
+ * against each candidate's own token set and hits are ranked by field weight, with
+ * whole-token matches counting double. Postgres is only read at startup and when a
+ * client or one of its pets changes.
+ */
+@Component
+public class ClientSuggestIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(ClientSuggestIndex.class);
+
+    private static final int MAX_CANDIDATES = 2000;
+    private static final int LAST_NAME = 100;
+    private static final int FIRST_NAME = 90;
+    private static final int PET_NAME = 70;
+    private static final int PHONE = 60;
+    private static final int AFM = 60;
+    private static final int EMAIL = 50;
+
+    private final ClientRepository clientRepository;
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<String, Set<Long>> postings = new ConcurrentSkipListMap<>();
+
+    public ClientSuggestIndex(ClientRepository clientRepository) {
+        this.clientRepository = clientRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        List<Client> clients = clientRepository.findAllWithPets();
+        entries.clear();
+        postings.clear();
+        for (Client client : clients) {
+            add(Entry.of(client));
+        }
+        log.info("Client suggest index loaded {} clients, {} distinct tokens", entries.size(), postings.size());
+    }
+
+    /**
+     * Re-reads one client and its pets; call after the change has committed.
+     */
+    public synchronized void refresh(Long clientId) {
+        if (clientId == null) {
+            return;
+        }
+        Entry previous = entries.get(clientId);
+        if (previous != null) {
+            removeEntry(previous);
+        }
+        clientRepository.findWithPetsById(clientId).ifPresent(client -> add(Entry.of(client)));
+    }
+
+    public synchronized void remove(Long clientId) {
+        Entry previous = entries.get(clientId);
+        if (previous != null) {
+            removeEntry(previous);
+        }
+    }
+
+    public List<ClientSuggestion> suggest(String query, int limit) {
+        List<String> terms = queryTerms(query);
+        if (terms.isEmpty() || limit < 1) {
+            return List.of();
+        }
+
+        String driver = terms.get(0);
+        for (String term : terms) {
+            if (term.length() > driver.length()) {
+                driver = term;
+            }
+        }
+
+        // The exact token sorts first in its prefix range, so whole-word hits are never cut off by the cap.
+        Set<Long> candidates = new LinkedHashSet<>();
+        for (Set<Long> ids : postings.subMap(driver, true, driver + Character.MAX_VALUE, false).values()) {
+            candidates.addAll(ids);
+            if (candidates.size() >= MAX_CANDIDATES) {
+                break;
+            }
+        }
+
+        Comparator<Hit> ranking = Comparator.comparingInt((Hit h) -> h.score)
+                .thenComparing(h -> h.entry.sortKey, Comparator.reverseOrder());
+        PriorityQueue<Hit> top = new PriorityQueue<>(limit + 1, ranking);
+        for (Long id : candidates) {
+            Entry entry = entries.get(id);
+            if (entry == null) {
+                continue;
+            }
+            int score = entry.score(terms);
+            if (score > 0) {
+                top.add(new Hit(entry, score));
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+        }
+
+        List<ClientSuggestion> result = new ArrayList<>(top.size());
+        while (!top.isEmpty()) {
+            result.add(top.poll().entry.toSuggestion());
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    // A query made only of digits and phone punctuation is one phone/AFM term, e.g. "697 12-34".
+    private static List<String> queryTerms(String query) {
+        if (query == null || query.isBlank()) {
+            return List.of();
+        }
+        if (query.matches("[\\d\\s+()./-]+")) {
+            String digits = SearchText.digits(query);
+            return digits.isEmpty() ? List.of() : List.of(digits);
+        }
+        return SearchText.tokens(query);
+    }
+
+    private void add(Entry entry) {
+        entries.put(entry.id, entry);
+        for (String token : entry.tokens.keySet()) {
+            postings.computeIfAbsent(token, k -> ConcurrentHashMap.newKeySet()).add(entry.id);
+        }
+    }
+
+    private void removeEntry(Entry entry) {
+        entries.remove(entry.id);
+        for (String token : entry.tokens.keySet()) {
+            postings.computeIfPresent(token, (k, ids) -> {
+                ids.remove(entry.id);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    private static final class Hit {
+        private final Entry entry;
+        private final int score;
+
+        Hit(Entry entry, int score) {
+            this.entry = entry;
+            this.score = score;
+        }
+    }
+
+    /**
+     * Immutable snapshot of one client as the index sees it.
+     */
+    private static final class Entry {
+        private final Long id;
+        private final String firstName;
+        private final String lastName;
+        private final String email;
+        private final String phone;
+        private final List<String> petNames;
+        private final String sortKey;
+        // token -> weight of the most important field it came from
+        private final Map<String, Integer> tokens;
+
+        private Entry(Long id, String firstName, String lastName, String email, String phone,
+                List<String> petNames, Map<String, Integer> tokens) {
+            this.id = id;
+            this.firstName = firstName;
+            this.lastName = lastName;
+            this.email = email;
+            this.phone = phone;
+            this.petNames = petNames;
+            this.sortKey = SearchText.fold(lastName) + " " + SearchText.fold(firstName) + " " + id;
+            this.tokens = tokens;
+        }
+
+        static Entry of(Client client) {
+            Map<String, Integer> tokens = new HashMap<>();
+            addTokens(tokens, SearchText.tokens(client.getLastName()), LAST_NAME);
+            addTokens(tokens, SearchText.tokens(client.getFirstName()), FIRST_NAME);
+            addTokens(tokens, SearchText.tokens(client.getEmail()), EMAIL);
+            addTokens(tokens, phoneTokens(client.getPhone()), PHONE);
+            String afm = SearchText.digits(client.getAfm());
+            if (!afm.isEmpty()) {
+                addTokens(tokens, List.of(afm), AFM);
+            }
+
+            List<String> petNames = new ArrayList<>();
+            for (Patient pet : client.getPets()) {
+                if (pet.getName() != null) {
+                    petNames.add(pet.getName());
+                    addTokens(tokens, SearchText.tokens(pet.getName()), PET_NAME);
+                }
+            }
+            return new Entry(client.getId(), client.getFirstName(), client.getLastName(), client.getEmail(),
+                    client.getPhone(), List.copyOf(petNames), Map.copyOf(tokens));
+        }
+
+        // Greek numbers are also indexed without the country code, so local and international input both match.
+        private static List<String> phoneTokens(String phone) {
+            String digits = SearchText.digits(phone);
+            if (digits.isEmpty()) {
+                return List.of();
+            }
+            if (digits.startsWith("0030")) {
+                return List.of(digits, digits.substring(4));
+            }
+            if (digits.startsWith("30") && digits.length() == 12) {
+                return List.of(digits, digits.substring(2));
+            }
+            return List.of(digits);
+        }
+
+        private static void addTokens(Map<String, Integer> tokens, List<String> values, int weight) {
+            for (String value : values) {
+                tokens.merge(value, weight, Math::max);
+            }
+        }
+
+        // Every term must prefix some token; 0 means no match.
+        int score(List<String> terms) {
+            int total = 0;
+            for (String term : terms) {
+                int best = 0;
+                for (Map.Entry<String, Integer> token : tokens.entrySet()) {
+                    if (token.getKey().startsWith(term)) {
+                        int score = token.getKey().length() == term.length() ? token.getValue() * 2 : token.getValue();
+                        best = Math.max(best, score);
+                    }
+                }
+                if (best == 0) {
+                    return 0;
+                }
+                total += best;
+            }
+            return total;
+        }
+
+        ClientSuggestion toSuggestion() {
+            return new ClientSuggestion(id, firstName, lastName, email, phone, petNames);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.pims.backend.index;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.pims.backend.repository.PatientRepository;
+
+/**
+ * Every microchip number in the clinic, normalised, mapped to its patient id.
+ *
+ * A scan resolves with a hash lookup; the patient rows themselves are then read by
+ * primary key. Chips are compared without spaces, dashes or dots and in upper case,
+ * so "900 123-456 789 012" and "900123456789012" are the same chip. The map is
+ * loaded at startup and kept in step by the patient service after each commit.
+ */
+@Component
+public class MicrochipIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(MicrochipIndex.class);
+
+    private final PatientRepository patientRepository;
+    private final Map<String, Long> patientIdsByChip = new ConcurrentHashMap<>();
+    private final Map<Long, String> chipsByPatientId = new ConcurrentHashMap<>();
+
+    public MicrochipIndex(PatientRepository patientRepository) {
+        this.patientRepository = patientRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        List<Object[]> rows = patientRepository.findMicrochipNumbers();
+        patientIdsByChip.clear();
+        chipsByPatientId.clear();
+        for (Object[] row : rows) {
+            put((Long) row[0], (String) row[1]);
+        }
+        log.info("Microchip index loaded {} chips", patientIdsByChip.size());
+    }
+
+    /**
+     * Re-reads one patient's chip; call after the change has committed.
+     */
+    public synchronized void refresh(Long patientId) {
+        if (patientId == null) {
+            return;
+        }
+        remove(patientId);
+        patientRepository.findMicrochipNumberById(patientId).ifPresent(chip -> put(patientId, chip));
+    }
+
+    public synchronized void removeAll(Collection<Long> patientIds) {
+        for (Long patientId : patientIds) {
+            remove(patientId);
+        }
+    }
+
+    /**
+     * Patient ids for the given chips, keyed by normalised chip; unknown chips are absent.
+     */
+    public Map<String, Long> resolve(Collection<String> chips) {
+        Map<String, Long> found = new LinkedHashMap<>();
+        for (String chip : chips) {
+            String key = normalize(chip);
+            Long patientId = key.isEmpty() ? null : patientIdsByChip.get(key);
+            if (patientId != null) {
+                found.put(key, patientId);
+            }
+        }
+        return found;
+    }
+
+    public static String normalize(String chip) {
+        if (chip == null) {
+            return "";
+        }
+        StringBuilder key = new StringBuilder(chip.length());
+        for (int i = 0; i < chip.length(); i++) {
+            char c = chip.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                key.append(c);
+            }
+        }
+        return key.toString().toUpperCase(Locale.ROOT);
+    }
+
+    private void put(Long patientId, String chip) {
+        String key = normalize(chip);
+        if (key.isEmpty()) {
+            return;
+        }
+        patientIdsByChip.put(key, patientId);
+        chipsByPatientId.put(patientId, key);
+    }
+
+    private void remove(Long patientId) {
+        String previous = chipsByPatientId.remove(patientId);
+        if (previous != null) {
+            patientIdsByChip.remove(previous, patientId);
+        }
+    }
+}
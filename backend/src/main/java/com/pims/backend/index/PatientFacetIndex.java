@@ -0,0 +1,351 @@
+package com.pims.backend.index;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.pims.backend.repository.PatientRepository;
+import com.pims.backend.util.SearchText;
+
+/**
+ * In-memory facet index over patients: species, breed, sex, age band, sterilized and deceased.
+ *
+ * Every patient gets a slot number, and every facet value keeps a bitset of the slots
+ * that carry it. A search ORs the selected values within a facet and ANDs across
+ * facets; the count shown next to a value is its bitset intersected with the filters
+ * of all the other facets, so picking a value never zeroes out its siblings. Slots
+ * are handed out in id order and not reused until the next rebuild, so results come
+ * back in registration order. Age bands depend on today's date and are recomputed
+ * the first time the index is read on a new day.
+ */
+@Component
+public class PatientFacetIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(PatientFacetIndex.class);
+
+    public static final String SPECIES = "species";
+    public static final String BREED = "breed";
+    public static final String SEX = "sex";
+    public static final String AGE_BAND = "ageBand";
+    public static final String STERILIZED = "sterilized";
+    public static final String DECEASED = "deceased";
+    public static final List<String> FACETS = List.of(SPECIES, BREED, SEX, AGE_BAND, STERILIZED, DECEASED);
+
+    private static final String UNKNOWN = "UNKNOWN";
+
+    private final PatientRepository patientRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // All guarded by lock
+    private final Map<Long, Integer> slotsById = new HashMap<>();
+    private PatientFacetRow[] rows = new PatientFacetRow[1024];
+    private int slotCount;
+    private final BitSet live = new BitSet();
+    private final Map<String, Map<String, BitSet>> facets = new HashMap<>();
+    private final Map<String, String> breedLabels = new HashMap<>();
+    private volatile LocalDate ageBandsAsOf = LocalDate.now();
+
+    public PatientFacetIndex(PatientRepository patientRepository) {
+        this.patientRepository = patientRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        List<PatientFacetRow> all = patientRepository.findFacetRows();
+        lock.writeLock().lock();
+        try {
+            slotsById.clear();
+            rows = new PatientFacetRow[Math.max(1024, all.size() + all.size() / 4)];
+            slotCount = 0;
+            live.clear();
+            facets.clear();
+            breedLabels.clear();
+            ageBandsAsOf = LocalDate.now();
+            for (PatientFacetRow row : all) {
+                put(row);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Patient facet index loaded {} patients", all.size());
+    }
+
+    /**
+     * Re-reads one patient; call after the change has committed.
+     */
+    public synchronized void refresh(Long patientId) {
+        if (patientId == null) {
+            return;
+        }
+        PatientFacetRow row = patientRepository.findFacetRowById(patientId).orElse(null);
+        lock.writeLock().lock();
+        try {
+            if (row != null) {
+                put(row);
+            } else {
+                drop(patientId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public synchronized void removeAll(Collection<Long> patientIds) {
+        lock.writeLock().lock();
+        try {
+            for (Long patientId : patientIds) {
+                drop(patientId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Patients matching every facet filter (any of the listed values within one facet).
+     * Facets missing from {@code filters}, or with no values, do not filter.
+     */
+    public Selection select(Map<String, ? extends Collection<String>> filters, int offset, int limit) {
+        LocalDate today = LocalDate.now();
+        if (!today.equals(ageBandsAsOf)) {
+            recomputeAgeBands(today);
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<String, BitSet> selected = new LinkedHashMap<>();
+            for (String facet : FACETS) {
+                Collection<String> values = filters.get(facet);
+                if (values == null || values.isEmpty()) {
+                    continue;
+                }
+                BitSet union = new BitSet();
+                Map<String, BitSet> byValue = facets.getOrDefault(facet, Map.of());
+                for (String value : values) {
+                    BitSet bits = byValue.get(normalize(facet, value));
+                    if (bits != null) {
+                        union.or(bits);
+                    }
+                }
+                selected.put(facet, union);
+            }
+
+            BitSet matches = (BitSet) live.clone();
+            for (BitSet union : selected.values()) {
+                matches.and(union);
+            }
+
+            Map<String, Map<String, Integer>> counts = new LinkedHashMap<>();
+            for (String facet : FACETS) {
+                counts.put(facet, countValues(facet, selected));
+            }
+
+            List<Long> ids = new ArrayList<>(Math.max(0, Math.min(limit, 1000)));
+            int slot = matches.nextSetBit(0);
+            for (int skipped = 0; skipped < offset && slot >= 0; skipped++) {
+                slot = matches.nextSetBit(slot + 1);
+            }
+            for (; slot >= 0 && ids.size() < limit; slot = matches.nextSetBit(slot + 1)) {
+                ids.add(rows[slot].getPatientId());
+            }
+            return new Selection(matches.cardinality(), ids, counts);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Count per value of one facet, under the filters of every other facet; largest first
+    private Map<String, Integer> countValues(String facet, Map<String, BitSet> selected) {
+        BitSet base = null;
+        for (Map.Entry<String, BitSet> filter : selected.entrySet()) {
+            if (!filter.getKey().equals(facet)) {
+                if (base == null) {
+                    base = (BitSet) live.clone();
+                }
+                base.and(filter.getValue());
+            }
+        }
+
+        List<Map.Entry<String, Integer>> entries = new ArrayList<>();
+        for (Map.Entry<String, BitSet> value : facets.getOrDefault(facet, Map.of()).entrySet()) {
+            int count;
+            if (base == null) {
+                count = value.getValue().cardinality();
+            } else {
+                BitSet both = (BitSet) value.getValue().clone();
+                both.and(base);
+                count = both.cardinality();
+            }
+            String label = facet.equals(BREED) ? breedLabels.get(value.getKey()) : value.getKey();
+            entries.add(Map.entry(label, count));
+        }
+        entries.sort(Map.Entry.<String, Integer>comparingByValue(Comparator.reverseOrder())
+                .thenComparing(Map.Entry.comparingByKey()));
+
+        Map<String, Integer> result = new LinkedHashMap<>();
+        for (Map.Entry<String, Integer> entry : entries) {
+            result.put(entry.getKey(), entry.getValue());
+        }
+        return result;
+    }
+
+    private synchronized void recomputeAgeBands(LocalDate today) {
+        lock.writeLock().lock();
+        try {
+            if (today.equals(ageBandsAsOf)) {
+                return;
+            }
+            Map<String, BitSet> bands = new HashMap<>();
+            for (int slot = live.nextSetBit(0); slot >= 0; slot = live.nextSetBit(slot + 1)) {
+                bands.computeIfAbsent(ageBand(rows[slot].getBirthDate(), today), k -> new BitSet()).set(slot);
+            }
+            facets.put(AGE_BAND, bands);
+            ageBandsAsOf = today;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Caller holds the write lock
+    private void put(PatientFacetRow row) {
+        Integer existing = slotsById.get(row.getPatientId());
+        int slot;
+        if (existing != null) {
+            slot = existing;
+            unindex(rows[slot], slot);
+        } else {
+            slot = slotCount++;
+            if (slot == rows.length) {
+                rows = Arrays.copyOf(rows, rows.length * 2);
+            }
+            slotsById.put(row.getPatientId(), slot);
+        }
+        rows[slot] = row;
+        live.set(slot);
+        for (Map.Entry<String, String> value : valuesOf(row, ageBandsAsOf).entrySet()) {
+            facets.computeIfAbsent(value.getKey(), k -> new HashMap<>())
+                    .computeIfAbsent(value.getValue(), k -> new BitSet())
+                    .set(slot);
+        }
+        if (row.getBreed() != null && !row.getBreed().isBlank()) {
+            breedLabels.putIfAbsent(breedKey(row.getBreed()), row.getBreed().trim());
+        } else {
+            breedLabels.putIfAbsent("", UNKNOWN);
+        }
+    }
+
+    // Caller holds the write lock; the slot stays empty until the next rebuild
+    private void drop(Long patientId) {
+        Integer slot = slotsById.remove(patientId);
+        if (slot == null) {
+            return;
+        }
+        unindex(rows[slot], slot);
+        rows[slot] = null;
+        live.clear(slot);
+    }
+
+    private void unindex(PatientFacetRow row, int slot) {
+        for (Map.Entry<String, String> value : valuesOf(row, ageBandsAsOf).entrySet()) {
+            Map<String, BitSet> byValue = facets.get(value.getKey());
+            BitSet bits = byValue != null ? byValue.get(value.getValue()) : null;
+            if (bits == null) {
+                continue;
+            }
+            bits.clear(slot);
+            if (bits.isEmpty()) {
+                byValue.remove(value.getValue());
+                if (value.getKey().equals(BREED)) {
+                    breedLabels.remove(value.getValue());
+                }
+            }
+        }
+    }
+
+    private static Map<String, String> valuesOf(PatientFacetRow row, LocalDate today) {
+        Map<String, String> values = new HashMap<>();
+        values.put(SPECIES, row.getSpecies() != null ? row.getSpecies().name() : UNKNOWN);
+        values.put(BREED, breedKey(row.getBreed()));
+        values.put(SEX, row.getSex() != null ? row.getSex().name() : UNKNOWN);
+        values.put(AGE_BAND, ageBand(row.getBirthDate(), today));
+        values.put(STERILIZED, Boolean.toString(row.isSterilized()));
+        values.put(DECEASED, Boolean.toString(row.isDeceased()));
+        return values;
+    }
+
+    // Request values are matched case-insensitively; breeds also ignore accents and spacing
+    private static String normalize(String facet, String value) {
+        String trimmed = value.trim();
+        return switch (facet) {
+            case BREED -> trimmed.equalsIgnoreCase(UNKNOWN) ? "" : breedKey(trimmed);
+            case SPECIES, SEX -> trimmed.toUpperCase(Locale.ROOT);
+            case AGE_BAND -> trimmed.equalsIgnoreCase(UNKNOWN) ? UNKNOWN : trimmed;
+            default -> trimmed.toLowerCase(Locale.ROOT);
+        };
+    }
+
+    private static String breedKey(String breed) {
+        return String.join(" ", SearchText.tokens(breed));
+    }
+
+    static String ageBand(LocalDate birthDate, LocalDate today) {
+        if (birthDate == null) {
+            return UNKNOWN;
+        }
+        int years = birthDate.isAfter(today) ? 0 : Period.between(birthDate, today).getYears();
+        if (years < 1) {
+            return "0-1";
+        }
+        if (years < 3) {
+            return "1-3";
+        }
+        if (years < 7) {
+            return "3-7";
+        }
+        return years < 10 ? "7-10" : "10+";
+    }
+
+    /**
+     * One page of matching patient ids, the total match count and the per-value facet counts.
+     */
+    public static final class Selection {
+        private final int total;
+        private final List<Long> patientIds;
+        private final Map<String, Map<String, Integer>> counts;
+
+        Selection(int total, List<Long> patientIds, Map<String, Map<String, Integer>> counts) {
+            this.total = total;
+            this.patientIds = patientIds;
+            this.counts = counts;
+        }
+
+        public int getTotal() {
+            return total;
+        }
+
+        public List<Long> getPatientIds() {
+            return patientIds;
+        }
+
+        public Map<String, Map<String, Integer>> getCounts() {
+            return counts;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.pims.backend.index;
+
+import java.time.LocalDate;
+
+import com.pims.backend.enums.Sex;
+import com.pims.backend.enums.Species;
+
+/**
+ * The facet-relevant fields of one patient, as held by the {@link PatientFacetIndex}.
+ */
+public class PatientFacetRow {
+    private final Long patientId;
+    private final Species species;
+    private final String breed;
+    private final Sex sex;
+    private final LocalDate birthDate;
+    private final boolean sterilized;
+    private final boolean deceased;
+
+    public PatientFacetRow(Long patientId, Species species, String breed, Sex sex, LocalDate birthDate,
+            Boolean sterilized, Boolean deceased) {
+        this.patientId = patientId;
+        this.species = species;
+        this.breed = breed;
+        this.sex = sex;
+        this.birthDate = birthDate;
+        this.sterilized = Boolean.TRUE.equals(sterilized);
+        this.deceased = Boolean.TRUE.equals(deceased);
+    }
+
+    public Long getPatientId() {
+        return patientId;
+    }
+
+    public Species getSpecies() {
+        return species;
+    }
+
+    public String getBreed() {
+        return breed;
+    }
+
+    public Sex getSex() {
+        return sex;
+    }
+
+    public LocalDate getBirthDate() {
+        return birthDate;
+    }
+
+    public boolean isSterilized() {
+        return sterilized;
+    }
+
+    public boolean isDeceased() {
+        return deceased;
+    }
+}
@@ -2,12 +2,19 @@ package com.pims.backend.repository;
 
 import com.pims.backend.entity.AppUser;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface AppUserRepository extends JpaRepository<AppUser, Long> {
     boolean existsByUsername(String username);
     Optional<AppUser> findByUsername(String username);
+
+    @Query("SELECT u FROM AppUser u WHERE u.isActive = true AND u.role.name IN :roleNames ORDER BY u.lastName, u.firstName")
+    List<AppUser> findActiveByRoleNames(@Param("roleNames") Collection<String> roleNames);
 }
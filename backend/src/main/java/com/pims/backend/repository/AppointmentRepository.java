@@ -1,17 +1,40 @@
 package com.pims.backend.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.pims.backend.dto.AppointmentCalendarItem;
+import com.pims.backend.dto.AppointmentStatsRow;
+import com.pims.backend.dto.CalendarFeedVersion;
+import com.pims.backend.dto.TimelineEntry;
 import com.pims.backend.entity.Appointment;
+import com.pims.backend.enums.AppointmentStatus;
+import com.pims.backend.index.Booking;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 
 @Repository
 public interface AppointmentRepository extends JpaRepository<Appointment, Long> {
+
+    String CALENDAR_ITEM_SELECT = "SELECT new com.pims.backend.dto.AppointmentCalendarItem(" +
+            "a.id, a.startTime, a.endTime, a.status, a.type, a.reason, " +
+            "c.id, c.firstName, c.lastName, p.id, p.name, " +
+            "v.id, v.firstName, v.lastName, r.id, r.name) " +
+            "FROM Appointment a JOIN a.client c JOIN a.patient p LEFT JOIN a.vet v LEFT JOIN a.resource r ";
+
     List<Appointment> findByStartTimeBetween(LocalDateTime start, LocalDateTime end);
 
     long countByStartTimeBetween(LocalDateTime start, LocalDateTime end);
@@ -33,4 +56,189 @@ public interface AppointmentRepository extends JpaRepository<Appointment, Long>
     Appointment findFirstByVetIdAndStartTimeAfterOrderByStartTimeAsc(Long vetId, LocalDateTime startTime);
 
     List<Appointment> findByVetId(Long vetId);
+
+    @Query(CALENDAR_ITEM_SELECT +
+            "WHERE a.startTime >= :from AND a.startTime < :to " +
+            "AND (:vetId IS NULL OR v.id = :vetId) " +
+            "AND (:resourceId IS NULL OR r.id = :resourceId) " +
+            "ORDER BY a.startTime, a.id")
+    List<AppointmentCalendarItem> findCalendarItems(@Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("vetId") Long vetId,
+            @Param("resourceId") Long resourceId);
+
+    // All dashboard counters in one round trip, grouped so per-status and per-type totals fall out of the same scan
+    @Query("SELECT new com.pims.backend.dto.AppointmentStatsRow(a.status, a.type, COUNT(a), " +
+            "SUM(CASE WHEN a.startTime >= :dayStart AND a.startTime < :dayEnd THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN a.startTime >= :weekStart AND a.startTime < :weekEnd THEN 1 ELSE 0 END)) " +
+            "FROM Appointment a GROUP BY a.status, a.type")
+    List<AppointmentStatsRow> aggregateStats(@Param("dayStart") LocalDateTime dayStart,
+            @Param("dayEnd") LocalDateTime dayEnd,
+            @Param("weekStart") LocalDateTime weekStart,
+            @Param("weekEnd") LocalDateTime weekEnd);
+
+    @Query("SELECT new com.pims.backend.index.Booking(a.id, v.id, r.id, a.startTime, a.endTime) " +
+            "FROM Appointment a LEFT JOIN a.vet v LEFT JOIN a.resource r " +
+            "WHERE a.endTime > :since AND a.status NOT IN :inactive")
+    List<Booking> findActiveBookings(@Param("since") LocalDateTime since,
+            @Param("inactive") Collection<AppointmentStatus> inactive);
+
+    String SEARCH_MATCH = "(LOWER(c.firstName) LIKE :pattern ESCAPE '\\' " +
+            "OR LOWER(c.lastName) LIKE :pattern ESCAPE '\\' " +
+            "OR LOWER(c.phone) LIKE :pattern ESCAPE '\\' " +
+            "OR LOWER(p.name) LIKE :pattern ESCAPE '\\' " +
+            "OR LOWER(a.reason) LIKE :pattern ESCAPE '\\') ";
+
+    // Keyset-paginated search, newest first. The page size comes from the Pageable.
+    @Query(CALENDAR_ITEM_SELECT + "WHERE " + SEARCH_MATCH + "ORDER BY a.startTime DESC, a.id DESC")
+    List<AppointmentCalendarItem> searchFirstPage(@Param("pattern") String pattern, Pageable pageable);
+
+    @Query(CALENDAR_ITEM_SELECT + "WHERE " + SEARCH_MATCH +
+            "AND (a.startTime < :cursorStart OR (a.startTime = :cursorStart AND a.id < :cursorId)) " +
+            "ORDER BY a.startTime DESC, a.id DESC")
+    List<AppointmentCalendarItem> searchAfter(@Param("pattern") String pattern,
+            @Param("cursorStart") LocalDateTime cursorStart,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable);
+
+    @Query(CALENDAR_ITEM_SELECT +
+            "WHERE v.id = :vetId AND a.startTime > :after AND a.status NOT IN :inactive " +
+            "ORDER BY a.startTime, a.id")
+    List<AppointmentCalendarItem> findUpcomingForVet(@Param("vetId") Long vetId,
+            @Param("after") LocalDateTime after,
+            @Param("inactive") Collection<AppointmentStatus> inactive,
+            Pageable pageable);
+
+    @Query(CALENDAR_ITEM_SELECT +
+            "WHERE c.id = :clientId AND a.startTime >= :from ORDER BY a.startTime, a.id")
+    List<AppointmentCalendarItem> findCalendarItemsForClientFrom(@Param("clientId") Long clientId,
+            @Param("from") LocalDateTime from,
+            Pageable pageable);
+
+    @Query(CALENDAR_ITEM_SELECT +
+            "WHERE c.id = :clientId AND a.startTime < :before ORDER BY a.startTime DESC, a.id DESC")
+    List<AppointmentCalendarItem> findCalendarItemsForClientBefore(@Param("clientId") Long clientId,
+            @Param("before") LocalDateTime before,
+            Pageable pageable);
+
+    // Patient timeline, newest first, read in (patient_id, start_time) index order. Ties on start time
+    // are broken by id; rows with the cursor's start time are kept only below idBound.
+    String TIMELINE_SELECT = "SELECT new com.pims.backend.dto.TimelineEntry(" +
+            "a.id, a.startTime, a.endTime, a.status, a.type, a.reason, v.firstName, v.lastName) " +
+            "FROM Appointment a LEFT JOIN a.vet v WHERE a.patient.id = :patientId ";
+
+    @Query(TIMELINE_SELECT + "ORDER BY a.startTime DESC, a.id DESC")
+    List<TimelineEntry> findTimelineFirstPage(@Param("patientId") Long patientId, Pageable pageable);
+
+    @Query(TIMELINE_SELECT +
+            "AND (a.startTime < :before OR (a.startTime = :before AND a.id < :idBound)) " +
+            "ORDER BY a.startTime DESC, a.id DESC")
+    List<TimelineEntry> findTimelineBefore(@Param("patientId") Long patientId,
+            @Param("before") LocalDateTime before,
+            @Param("idBound") Long idBound,
+            Pageable pageable);
+
+    @Query("SELECT new com.pims.backend.dto.CalendarFeedVersion(COUNT(a), MAX(a.updatedAt)) " +
+            "FROM Appointment a WHERE a.vet.id = :vetId")
+    CalendarFeedVersion findCalendarFeedVersion(@Param("vetId") Long vetId);
+
+    // Forward-only cursor; callers must consume it inside a read-only transaction and close it.
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "500"))
+    @Query(CALENDAR_ITEM_SELECT + "WHERE v.id = :vetId ORDER BY a.startTime, a.id")
+    Stream<AppointmentCalendarItem> streamCalendarForVet(@Param("vetId") Long vetId);
+
+    /**
+     * Moves the appointment to {@code status} only if it is currently in one of {@code from}.
+     * Returns the number of rows changed: 0 means missing or not in an allowed status.
+     */
+    @Modifying
+    @Query("UPDATE Appointment a SET a.status = :status, a.updatedAt = :now " +
+            "WHERE a.id = :id AND a.status IN :from")
+    int transitionStatus(@Param("id") Long id,
+            @Param("status") AppointmentStatus status,
+            @Param("from") Collection<AppointmentStatus> from,
+            @Param("now") LocalDateTime now);
+
+    @Query("SELECT a.status FROM Appointment a WHERE a.id = :id")
+    Optional<AppointmentStatus> findStatusById(@Param("id") Long id);
+
+    // Row-locks the chunk, skipping rows another transaction holds, so the follow-up UPDATE changes exactly these ids.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT a.id FROM Appointment a WHERE a.status = :status AND a.endTime < :before ORDER BY a.id")
+    List<Long> findIdsByStatusEndingBefore(@Param("status") AppointmentStatus status,
+            @Param("before") LocalDateTime before,
+            Pageable pageable);
+
+    // Status is re-checked so a row changed since the id select is left alone.
+    @Modifying
+    @Query("UPDATE Appointment a SET a.status = :to, a.updatedAt = :now WHERE a.id IN :ids AND a.status = :from")
+    int bulkChangeStatus(@Param("ids") Collection<Long> ids,
+            @Param("from") AppointmentStatus from,
+            @Param("to") AppointmentStatus to,
+            @Param("now") LocalDateTime now);
+
+    @Query(CALENDAR_ITEM_SELECT + "WHERE c.id = :clientId ORDER BY a.startTime, a.id")
+    List<AppointmentCalendarItem> findCalendarItemsByClientId(@Param("clientId") Long clientId);
+
+    @Query(CALENDAR_ITEM_SELECT + "WHERE p.id = :patientId ORDER BY a.startTime, a.id")
+    List<AppointmentCalendarItem> findCalendarItemsByPatientId(@Param("patientId") Long patientId);
+
+    @Query("SELECT a.id FROM Appointment a WHERE a.client.id = :clientId")
+    List<Long> findIdsByClientId(@Param("clientId") Long clientId);
+
+    boolean existsByPatientId(Long patientId);
+
+    // Archived rows in AppointmentCalendarItem column order, see AppointmentCalendarItem.fromArchiveRow
+    String ARCHIVE_CALENDAR_SELECT = "SELECT a.id, a.start_time, a.end_time, a.status, a.type, a.reason, " +
+            "a.client_id, c.first_name, c.last_name, a.patient_id, p.name, " +
+            "a.vet_id, u.first_name, u.last_name, a.resource_id, r.name " +
+            "FROM appointments_archive a LEFT JOIN clients c ON c.id = a.client_id " +
+            "LEFT JOIN patients p ON p.id = a.patient_id LEFT JOIN app_users u ON u.id = a.vet_id " +
+            "LEFT JOIN resources r ON r.id = a.resource_id ";
+
+    @Query(value = ARCHIVE_CALENDAR_SELECT + "WHERE a.client_id = :clientId ORDER BY a.start_time, a.id",
+            nativeQuery = true)
+    List<Object[]> findArchivedCalendarRowsByClientId(@Param("clientId") Long clientId);
+
+    @Query(value = ARCHIVE_CALENDAR_SELECT + "WHERE a.patient_id = :patientId ORDER BY a.start_time, a.id",
+            nativeQuery = true)
+    List<Object[]> findArchivedCalendarRowsByPatientId(@Param("patientId") Long patientId);
+
+    @Query(value = ARCHIVE_CALENDAR_SELECT +
+            "WHERE a.client_id = :clientId AND a.start_time < :before " +
+            "ORDER BY a.start_time DESC, a.id DESC LIMIT :limit", nativeQuery = true)
+    List<Object[]> findArchivedCalendarRowsForClientBefore(@Param("clientId") Long clientId,
+            @Param("before") LocalDateTime before,
+            @Param("limit") int limit);
+
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM appointments_archive WHERE client_id = :clientId)",
+            nativeQuery = true)
+    boolean existsArchivedByClientId(@Param("clientId") Long clientId);
+
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM appointments_archive WHERE patient_id = :patientId)",
+            nativeQuery = true)
+    boolean existsArchivedByPatientId(@Param("patientId") Long patientId);
+
+    @Modifying
+    @Query(value = "UPDATE appointments_archive SET vet_id = :toVetId WHERE vet_id = :fromVetId", nativeQuery = true)
+    int reassignArchivedVet(@Param("fromVetId") Long fromVetId, @Param("toVetId") Long toVetId);
+
+    // Timeline rows from the archive: id, start_time, end_time, status, type, reason, vet first and last name.
+    // Same order and cursor rules as the live table, via the (patient_id, start_time) archive index.
+    String ARCHIVE_TIMELINE_SELECT = "SELECT a.id, a.start_time, a.end_time, a.status, a.type, a.reason, " +
+            "u.first_name, u.last_name FROM appointments_archive a LEFT JOIN app_users u ON u.id = a.vet_id " +
+            "WHERE a.patient_id = :patientId ";
+
+    @Query(value = ARCHIVE_TIMELINE_SELECT + "ORDER BY a.start_time DESC, a.id DESC LIMIT :limit",
+            nativeQuery = true)
+    List<Object[]> findArchivedTimelineFirstPage(@Param("patientId") Long patientId, @Param("limit") int limit);
+
+    @Query(value = ARCHIVE_TIMELINE_SELECT +
+            "AND (a.start_time < :before OR (a.start_time = :before AND a.id < :idBound)) " +
+            "ORDER BY a.start_time DESC, a.id DESC LIMIT :limit", nativeQuery = true)
+    List<Object[]> findArchivedTimelineBefore(@Param("patientId") Long patientId,
+            @Param("before") LocalDateTime before,
+            @Param("idBound") Long idBound,
+            @Param("limit") int limit);
 }
@@ -1,9 +1,46 @@
 package com.pims.backend.repository;
 
+import com.pims.backend.dto.ClientSummary;
 import com.pims.backend.entity.Client;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface ClientRepository extends JpaRepository<Client, Long> {
+
+    // Full list with pets in one query, for the legacy unpaged endpoint
+    @EntityGraph(attributePaths = "pets")
+    @Query("SELECT c FROM Client c")
+    List<Client> findAllWithPets();
+
+    @EntityGraph(attributePaths = "pets")
+    @Query("SELECT c FROM Client c WHERE c.id = :id")
+    Optional<Client> findWithPetsById(@Param("id") Long id);
+
+    @Query("SELECT c.id FROM Client c WHERE c.phoneE164 = :phoneE164")
+    Optional<Long> findIdByPhoneE164(@Param("phoneE164") String phoneE164);
+
+    @Query(value = "SELECT new com.pims.backend.dto.ClientSummary(" +
+            "c.id, c.firstName, c.lastName, c.email, c.phone, c.address, " +
+            "(SELECT COUNT(p) FROM Patient p WHERE p.owner = c)) FROM Client c",
+            countQuery = "SELECT COUNT(c) FROM Client c")
+    Page<ClientSummary> findSummaries(Pageable pageable);
+
+    // Atomic in the database: concurrent postings each add their delta under the row lock, none is lost.
+    @Modifying
+    @Query("UPDATE Client c SET c.balance = c.balance + :delta WHERE c.id = :id")
+    int addToBalance(@Param("id") Long id, @Param("delta") BigDecimal delta);
+
+    @Query("SELECT c.balance FROM Client c WHERE c.id = :id")
+    Optional<BigDecimal> findBalanceById(@Param("id") Long id);
 }
@@ -0,0 +1,29 @@
+package com.pims.backend.repository;
+
+import com.pims.backend.entity.LedgerEntry;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface LedgerEntryRepository extends JpaRepository<LedgerEntry, Long> {
+
+    @Query("SELECT e FROM LedgerEntry e WHERE e.client.id = :clientId ORDER BY e.id DESC")
+    Page<LedgerEntry> findByClientId(@Param("clientId") Long clientId, Pageable pageable);
+
+    boolean existsByClientId(Long clientId);
+
+    /**
+     * Rows of [client id, stored balance, sum of entries] for every client whose two figures differ.
+     */
+    @Query(value = "SELECT c.id, c.balance, COALESCE(s.total, 0) FROM clients c " +
+            "LEFT JOIN (SELECT client_id, SUM(amount) AS total FROM ledger_entries GROUP BY client_id) s " +
+            "ON s.client_id = c.id WHERE c.balance <> COALESCE(s.total, 0) ORDER BY c.id",
+            nativeQuery = true)
+    List<Object[]> findBalanceMismatches();
+}
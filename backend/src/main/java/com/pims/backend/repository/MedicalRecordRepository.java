@@ -1,20 +1,64 @@
 package com.pims.backend.repository;
 
+import com.pims.backend.dto.MedicalRecordSummary;
+import com.pims.backend.dto.TimelineEntry;
+import com.pims.backend.dto.VitalPoint;
 import com.pims.backend.entity.MedicalRecord;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface MedicalRecordRepository extends JpaRepository<MedicalRecord, Long> {
 
+    // Read in (patient_id, created_at) index order; from and to are optional
+    String VITALS_WINDOW = "m.patient.id = :patientId AND m.createdAt IS NOT NULL " +
+            "AND (:from IS NULL OR m.createdAt >= :from) AND (:to IS NULL OR m.createdAt < :to) ";
+
     @Query("SELECT m FROM MedicalRecord m WHERE m.patient.owner.id = :clientId ORDER BY m.createdAt DESC")
     List<MedicalRecord> findByClientId(@Param("clientId") Long clientId);
 
+    @Query("SELECT new com.pims.backend.dto.MedicalRecordSummary(m.id, m.createdAt, p.id, p.name, " +
+            "m.diagnosis, m.symptoms, m.treatment, m.weight, m.temperature, a.id, a.type) " +
+            "FROM MedicalRecord m JOIN m.patient p LEFT JOIN m.appointment a " +
+            "WHERE p.owner.id = :clientId ORDER BY m.createdAt DESC, m.id DESC")
+    List<MedicalRecordSummary> findRecentSummariesByClientId(@Param("clientId") Long clientId, Pageable pageable);
+
+    @Query("SELECT new com.pims.backend.dto.VitalPoint(m.createdAt, m.weight) FROM MedicalRecord m " +
+            "WHERE " + VITALS_WINDOW + "AND m.weight IS NOT NULL ORDER BY m.createdAt")
+    List<VitalPoint> findWeightSeries(@Param("patientId") Long patientId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
+
+    @Query("SELECT new com.pims.backend.dto.VitalPoint(m.createdAt, m.temperature) FROM MedicalRecord m " +
+            "WHERE " + VITALS_WINDOW + "AND m.temperature IS NOT NULL ORDER BY m.createdAt")
+    List<VitalPoint> findTemperatureSeries(@Param("patientId") Long patientId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
+
+    // Patient timeline, newest first, read in (patient_id, created_at) index order; see AppointmentRepository
+    String TIMELINE_SELECT = "SELECT new com.pims.backend.dto.TimelineEntry(" +
+            "m.id, m.createdAt, m.diagnosis, m.treatment, m.weight, m.temperature, a.id) " +
+            "FROM MedicalRecord m LEFT JOIN m.appointment a " +
+            "WHERE m.patient.id = :patientId AND m.createdAt IS NOT NULL ";
+
+    @Query(TIMELINE_SELECT + "ORDER BY m.createdAt DESC, m.id DESC")
+    List<TimelineEntry> findTimelineFirstPage(@Param("patientId") Long patientId, Pageable pageable);
+
+    @Query(TIMELINE_SELECT +
+            "AND (m.createdAt < :before OR (m.createdAt = :before AND m.id < :idBound)) " +
+            "ORDER BY m.createdAt DESC, m.id DESC")
+    List<TimelineEntry> findTimelineBefore(@Param("patientId") Long patientId,
+            @Param("before") LocalDateTime before,
+            @Param("idBound") Long idBound,
+            Pageable pageable);
+
     Optional<MedicalRecord> findByAppointmentId(Long appointmentId);
 
     List<MedicalRecord> findByPatientId(Long patientId);
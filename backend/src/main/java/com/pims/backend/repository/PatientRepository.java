@@ -1,14 +1,78 @@
 package com.pims.backend.repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.pims.backend.dto.PatientListItem;
+import com.pims.backend.dto.PetSummary;
 import com.pims.backend.entity.Patient;
+import com.pims.backend.enums.Sex;
+import com.pims.backend.enums.Species;
+import com.pims.backend.index.PatientFacetRow;
 
 @Repository
 public interface PatientRepository extends JpaRepository<Patient, Long> {
+
+    // Every criterion is optional; the text pattern is served by the trigram indexes on names, breed and phone
+    String LIST_FILTER = "(:species IS NULL OR p.species = :species) " +
+            "AND (:sex IS NULL OR p.sex = :sex) " +
+            "AND (:deceased IS NULL OR COALESCE(p.isDeceased, false) = :deceased) " +
+            "AND (:sterilized IS NULL OR COALESCE(p.isSterilized, false) = :sterilized) " +
+            "AND (:pattern IS NULL OR LOWER(p.name) LIKE :pattern ESCAPE '\\' " +
+            "OR LOWER(p.breed) LIKE :pattern ESCAPE '\\' " +
+            "OR LOWER(c.firstName) LIKE :pattern ESCAPE '\\' " +
+            "OR LOWER(c.lastName) LIKE :pattern ESCAPE '\\' " +
+            "OR LOWER(c.phone) LIKE :pattern ESCAPE '\\') ";
+
     // Find all patients by client/owner ID
     List<Patient> findByOwnerId(Long ownerId);
+
+    @Query("SELECT new com.pims.backend.dto.PetSummary(p.id, p.name, p.species, p.breed, p.sex, p.birthDate, " +
+            "p.isDateOfBirthApproximate, p.isSterilized, p.isDeceased, p.microchipNumber) " +
+            "FROM Patient p WHERE p.owner.id = :ownerId " +
+            "ORDER BY p.name, p.id")
+    List<PetSummary> findSummariesByOwnerId(@Param("ownerId") Long ownerId);
+
+    @Query(value = "SELECT new com.pims.backend.dto.PatientListItem(p.id, p.name, p.species, p.breed, p.sex, " +
+            "p.birthDate, p.isSterilized, p.isDeceased, p.microchipNumber, c.id, c.firstName, c.lastName, c.phone) " +
+            "FROM Patient p JOIN p.owner c WHERE " + LIST_FILTER,
+            countQuery = "SELECT COUNT(p) FROM Patient p JOIN p.owner c WHERE " + LIST_FILTER)
+    Page<PatientListItem> findListItems(@Param("species") Species species,
+            @Param("sex") Sex sex,
+            @Param("deceased") Boolean deceased,
+            @Param("sterilized") Boolean sterilized,
+            @Param("pattern") String pattern,
+            Pageable pageable);
+
+    @Query(value = "SELECT new com.pims.backend.dto.PatientListItem(p.id, p.name, p.species, p.breed, p.sex, " +
+            "p.birthDate, p.isSterilized, p.isDeceased, p.microchipNumber, c.id, c.firstName, c.lastName, c.phone) " +
+            "FROM Patient p JOIN p.owner c WHERE p.id IN :ids")
+    List<PatientListItem> findListItemsByIds(@Param("ids") Collection<Long> ids);
+
+    String FACET_ROW_SELECT = "SELECT new com.pims.backend.index.PatientFacetRow(p.id, p.species, p.breed, p.sex, " +
+            "p.birthDate, p.isSterilized, p.isDeceased) FROM Patient p ";
+
+    @Query(FACET_ROW_SELECT + "ORDER BY p.id")
+    List<PatientFacetRow> findFacetRows();
+
+    @Query(FACET_ROW_SELECT + "WHERE p.id = :id")
+    Optional<PatientFacetRow> findFacetRowById(@Param("id") Long id);
+
+    @Query("SELECT p.id FROM Patient p WHERE p.owner.id = :ownerId")
+    List<Long> findIdsByOwnerId(@Param("ownerId") Long ownerId);
+
+    // [id, microchipNumber] pairs
+    @Query("SELECT p.id, p.microchipNumber FROM Patient p WHERE p.microchipNumber IS NOT NULL")
+    List<Object[]> findMicrochipNumbers();
+
+    @Query("SELECT p.microchipNumber FROM Patient p WHERE p.id = :id AND p.microchipNumber IS NOT NULL")
+    Optional<String> findMicrochipNumberById(@Param("id") Long id);
 }
@@ -1,10 +1,14 @@
 package com.pims.backend.repository;
 
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 import com.pims.backend.entity.Resource;
+import com.pims.backend.enums.ResourceType;
 
 @Repository
 public interface ResourceRepository extends JpaRepository<Resource, Long> {
+    List<Resource> findByTypeOrderByName(ResourceType type);
 }
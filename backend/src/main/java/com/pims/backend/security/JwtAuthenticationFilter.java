@@ -19,6 +19,10 @@ import jakarta.servlet.http.HttpServletResponse;
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    // EventSource cannot send headers, so the change stream also takes the JWT as a query parameter
+    private static final String STREAM_PATH = "/api/appointments/stream";
+    private static final String TOKEN_PARAMETER = "access_token";
+
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
 
@@ -39,13 +43,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
-        final String authHeader = request.getHeader("Authorization");
-        final String jwt;
-        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+        final String jwt = resolveToken(request);
+        if (jwt == null) {
             filterChain.doFilter(request, response);
             return;
         }
-        jwt = authHeader.substring(7);
         try {
             final String userEmail = jwtService.extractUsername(jwt);
             if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
@@ -67,4 +69,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
         filterChain.doFilter(request, response);
     }
+
+    private String resolveToken(HttpServletRequest request) {
+        final String authHeader = request.getHeader("Authorization");
+        if (authHeader != null && authHeader.startsWith("Bearer ")) {
+            return authHeader.substring(7);
+        }
+        if ("GET".equalsIgnoreCase(request.getMethod())
+                && (request.getContextPath() + STREAM_PATH).equals(request.getRequestURI())) {
+            String token = request.getParameter(TOKEN_PARAMETER);
+            if (token != null && !token.isBlank()) {
+                return token;
+            }
+        }
+        return null;
+    }
 }
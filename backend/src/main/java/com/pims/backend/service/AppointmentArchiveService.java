@@ -0,0 +1,5 @@
+package com.pims.backend.service;
+
+public interface AppointmentArchiveService {
+    int archiveClosedAppointments();
+}
@@ -1,26 +1,39 @@
 package com.pims.backend.service;
 
+import com.pims.backend.dto.AppointmentCalendarItem;
 import com.pims.backend.dto.AppointmentRequest;
+import com.pims.backend.dto.AppointmentSearchPage;
+import com.pims.backend.dto.AppointmentSeriesRequest;
 import com.pims.backend.entity.Appointment;
+import com.pims.backend.enums.AppointmentStatus;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 public interface AppointmentService {
     List<Appointment> getAllAppointments();
 
+    List<AppointmentCalendarItem> getCalendar(LocalDateTime from, LocalDateTime to, Long vetId, Long resourceId);
+
     Optional<Appointment> getAppointmentById(Long id);
 
-    Optional<Appointment> getNextAppointment(String username);
+    Optional<AppointmentCalendarItem> getNextAppointment(String username);
 
     List<Appointment> searchAppointments(String query);
 
-    List<Appointment> getAppointmentsByClient(Long clientId);
+    AppointmentSearchPage searchAppointments(String query, String cursor, int limit);
+
+    List<AppointmentCalendarItem> getAppointmentsByClient(Long clientId);
 
-    List<Appointment> getAppointmentsByPatient(Long patientId);
+    List<AppointmentCalendarItem> getAppointmentsByPatient(Long patientId);
 
     Appointment createAppointment(AppointmentRequest request);
 
+    List<Appointment> createAppointmentSeries(AppointmentSeriesRequest request);
+
     Appointment updateAppointment(Long id, AppointmentRequest request);
 
+    AppointmentStatus changeStatus(Long id, AppointmentStatus status);
+
     void deleteAppointment(Long id);
 }
@@ -0,0 +1,10 @@
+package com.pims.backend.service;
+
+import com.pims.backend.dto.SweepRun;
+import java.util.List;
+
+public interface AppointmentSweeperService {
+    SweepRun sweep(String trigger);
+
+    List<SweepRun> getHistory();
+}
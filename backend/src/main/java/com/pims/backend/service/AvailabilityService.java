@@ -0,0 +1,10 @@
+package com.pims.backend.service;
+
+import com.pims.backend.dto.AvailabilityResponse;
+import com.pims.backend.enums.ResourceType;
+import java.time.LocalDate;
+
+public interface AvailabilityService {
+    AvailabilityResponse findFreeSlots(LocalDate date, int days, int durationMinutes, ResourceType resourceType,
+            Long vetId);
+}
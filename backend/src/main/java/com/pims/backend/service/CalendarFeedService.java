@@ -0,0 +1,17 @@
+package com.pims.backend.service;
+
+import com.pims.backend.dto.CalendarFeedVersion;
+import java.io.IOException;
+import java.io.Writer;
+
+public interface CalendarFeedService {
+    CalendarFeedVersion getFeedVersion(Long vetId);
+
+    void writeFeed(Long vetId, Writer writer) throws IOException;
+
+    String issueFeedToken(Long vetId);
+
+    void revokeFeedToken(Long vetId);
+
+    boolean isFeedTokenValid(Long vetId, String token);
+}
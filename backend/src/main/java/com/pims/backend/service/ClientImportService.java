@@ -0,0 +1,9 @@
+package com.pims.backend.service;
+
+import com.pims.backend.dto.ClientImportReport;
+import java.io.IOException;
+import java.io.InputStream;
+
+public interface ClientImportService {
+    ClientImportReport importClients(InputStream csv) throws IOException;
+}
@@ -0,0 +1,8 @@
+package com.pims.backend.service;
+
+import com.pims.backend.dto.ClientOverview;
+import java.util.Optional;
+
+public interface ClientOverviewService {
+    Optional<ClientOverview> getOverview(Long clientId);
+}
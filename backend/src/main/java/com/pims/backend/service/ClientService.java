@@ -1,6 +1,8 @@
 package com.pims.backend.service;
 
 import com.pims.backend.dto.ClientRequest;
+import com.pims.backend.dto.ClientSummary;
+import com.pims.backend.dto.PageResponse;
 import com.pims.backend.entity.Client;
 import java.util.List;
 import java.util.Optional;
@@ -8,8 +10,12 @@ import java.util.Optional;
 public interface ClientService {
     List<Client> getAllClients();
 
+    PageResponse<ClientSummary> getClientPage(int page, int size, String sort);
+
     Optional<Client> getClientById(Long id);
 
+    Optional<Client> getClientByPhone(String number);
+
     Client createClient(ClientRequest request);
 
     void deleteClient(Long id);
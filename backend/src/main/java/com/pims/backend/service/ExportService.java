@@ -0,0 +1,19 @@
+package com.pims.backend.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface ExportService {
+    enum Dataset {
+        CLIENTS,
+        PATIENTS,
+        APPOINTMENTS
+    }
+
+    enum Format {
+        CSV,
+        NDJSON
+    }
+
+    void export(Dataset dataset, Format format, OutputStream out) throws IOException;
+}
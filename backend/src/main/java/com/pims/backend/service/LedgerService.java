@@ -0,0 +1,17 @@
+package com.pims.backend.service;
+
+import com.pims.backend.dto.LedgerEntryRequest;
+import com.pims.backend.dto.LedgerPosting;
+import com.pims.backend.dto.LedgerReconciliation;
+import com.pims.backend.dto.PageResponse;
+import com.pims.backend.entity.LedgerEntry;
+
+public interface LedgerService {
+    LedgerPosting post(Long clientId, LedgerEntryRequest request, String username);
+
+    PageResponse<LedgerEntry> getEntries(Long clientId, int page, int size);
+
+    LedgerReconciliation reconcile();
+
+    LedgerReconciliation getLastReconciliation();
+}
@@ -1,15 +1,30 @@
 package com.pims.backend.service;
 
+import com.pims.backend.dto.MicrochipLookupResult;
+import com.pims.backend.dto.PageResponse;
+import com.pims.backend.dto.PatientFacetResult;
+import com.pims.backend.dto.PatientFilter;
+import com.pims.backend.dto.PatientListItem;
 import com.pims.backend.dto.PatientRequest;
 import com.pims.backend.entity.Patient;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface PatientService {
     List<Patient> getAllPatients();
 
+    PageResponse<PatientListItem> getPatientPage(int page, int size, String sort, PatientFilter filter);
+
+    PatientFacetResult searchFacets(Map<String, ? extends Collection<String>> filters, int page, int size);
+
     Optional<Patient> getPatientById(Long id);
 
+    Optional<PatientListItem> getPatientByMicrochip(String chip);
+
+    MicrochipLookupResult lookupMicrochips(List<String> chips);
+
     List<Patient> getPatientsByOwnerId(Long ownerId);
 
     Patient createPatient(Long clientId, PatientRequest request);
@@ -0,0 +1,8 @@
+package com.pims.backend.service;
+
+import com.pims.backend.dto.TimelinePage;
+import java.util.Optional;
+
+public interface PatientTimelineService {
+    Optional<TimelinePage> getTimeline(Long patientId, String cursor, int limit);
+}
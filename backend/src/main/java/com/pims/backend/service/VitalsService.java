@@ -0,0 +1,11 @@
+package com.pims.backend.service;
+
+import com.pims.backend.dto.VitalSeries;
+import com.pims.backend.enums.VitalMetric;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface VitalsService {
+    Optional<VitalSeries> getVitals(Long patientId, VitalMetric metric, LocalDateTime from, LocalDateTime to,
+            int maxPoints);
+}
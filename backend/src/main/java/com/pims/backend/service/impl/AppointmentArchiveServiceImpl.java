@@ -0,0 +1,100 @@
+package com.pims.backend.service.impl;
+
+import com.pims.backend.service.AppointmentArchiveService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Moves closed appointments (COMPLETED / CANCELLED / NO_SHOW) older than the retention
+ * age out of the hot {@code appointments} table into {@code appointments_archive}, which
+ * is range-partitioned by start_time month. Rows still referenced by a medical record
+ * stay where they are.
+ *
+ * Each chunk is a single DELETE ... RETURNING feeding an INSERT, in its own transaction.
+ */
+@Service
+public class AppointmentArchiveServiceImpl implements AppointmentArchiveService {
+
+    private static final Logger log = LoggerFactory.getLogger(AppointmentArchiveServiceImpl.class);
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    private static final String COLUMNS = "id, start_time, end_time, reason, notes, status, type, "
+            + "client_id, patient_id, vet_id, resource_id, updated_at";
+
+    private static final String CANDIDATES = "FROM appointments a "
+            + "WHERE a.status IN ('COMPLETED', 'CANCELLED', 'NO_SHOW') AND a.start_time < ? "
+            + "AND NOT EXISTS (SELECT 1 FROM medical_record m WHERE m.appointment_id = a.id)";
+
+    private static final String MOVE_CHUNK = "WITH moved AS ("
+            + "DELETE FROM appointments WHERE id IN ("
+            + "SELECT a.id " + CANDIDATES + " ORDER BY a.id LIMIT ? FOR UPDATE SKIP LOCKED) "
+            + "RETURNING " + COLUMNS + ") "
+            + "INSERT INTO appointments_archive (" + COLUMNS + ") SELECT " + COLUMNS + " FROM moved";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int retentionMonths;
+    private final int chunkSize;
+
+    public AppointmentArchiveServiceImpl(JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${pims.archive.retention-months:24}") int retentionMonths,
+            @Value("${pims.archive.chunk-size:1000}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retentionMonths = retentionMonths;
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(cron = "${pims.archive.cron:0 0 3 * * *}")
+    public void scheduledArchive() {
+        archiveClosedAppointments();
+    }
+
+    @Override
+    public int archiveClosedAppointments() {
+        // Whole months only, so a month's archive partition is filled in one go
+        LocalDateTime cutoff = YearMonth.now().minusMonths(retentionMonths).atDay(1).atStartOfDay();
+        Timestamp cutoffParam = Timestamp.valueOf(cutoff);
+
+        createPartitions(cutoffParam);
+
+        int total = 0;
+        while (true) {
+            Integer moved = transactionTemplate.execute(tx -> jdbcTemplate.update(MOVE_CHUNK, cutoffParam, chunkSize));
+            if (moved == null || moved == 0) {
+                break;
+            }
+            total += moved;
+        }
+        if (total > 0) {
+            log.info("Archived {} closed appointments that started before {}", total, cutoff);
+        }
+        return total;
+    }
+
+    // A month's partition must exist before its rows arrive; otherwise they would land in the default partition.
+    private void createPartitions(Timestamp cutoff) {
+        List<Timestamp> months = jdbcTemplate.queryForList(
+                "SELECT DISTINCT date_trunc('month', a.start_time) " + CANDIDATES, Timestamp.class, cutoff);
+        for (Timestamp month : months) {
+            LocalDate from = month.toLocalDateTime().toLocalDate();
+            LocalDate to = from.plusMonths(1);
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS appointments_archive_" + from.format(PARTITION_SUFFIX)
+                    + " PARTITION OF appointments_archive FOR VALUES FROM ('" + from + "') TO ('" + to + "')");
+        }
+    }
+}
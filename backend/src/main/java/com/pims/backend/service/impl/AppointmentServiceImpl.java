@@ -1,37 +1,67 @@
 package com.pims.backend.service.impl;
 
+import com.pims.backend.cache.NextAppointmentCache;
+import com.pims.backend.dto.AppointmentCalendarItem;
 import com.pims.backend.dto.AppointmentRequest;
+import com.pims.backend.dto.AppointmentSearchPage;
+import com.pims.backend.dto.AppointmentSeriesRequest;
 import com.pims.backend.entity.*;
 import com.pims.backend.enums.AppointmentStatus;
+import com.pims.backend.event.AppointmentChangedEvent;
+import com.pims.backend.exception.InvalidStatusTransitionException;
+import com.pims.backend.index.Booking;
+import com.pims.backend.index.BookingIndex;
 import com.pims.backend.repository.*;
 import com.pims.backend.service.AppointmentService;
+import com.pims.backend.util.LikePatterns;
+import com.pims.backend.util.TransactionCallbacks;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
 @Transactional
 public class AppointmentServiceImpl implements AppointmentService {
 
+    // Upper bound for a single calendar request; a quarter covers every view the UI offers.
+    private static final Duration MAX_CALENDAR_WINDOW = Duration.ofDays(92);
+    private static final int MAX_SEARCH_PAGE_SIZE = 50;
+    private static final int MAX_SERIES_OCCURRENCES = 52;
+
     private final AppointmentRepository appointmentRepository;
     private final ClientRepository clientRepository;
     private final PatientRepository patientRepository;
     private final AppUserRepository appUserRepository;
     private final ResourceRepository resourceRepository;
+    private final BookingIndex bookingIndex;
+    private final NextAppointmentCache nextAppointmentCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     public AppointmentServiceImpl(AppointmentRepository appointmentRepository,
             ClientRepository clientRepository,
             PatientRepository patientRepository,
             AppUserRepository appUserRepository,
-            ResourceRepository resourceRepository) {
+            ResourceRepository resourceRepository,
+            BookingIndex bookingIndex,
+            NextAppointmentCache nextAppointmentCache,
+            ApplicationEventPublisher eventPublisher) {
         this.appointmentRepository = appointmentRepository;
         this.clientRepository = clientRepository;
         this.patientRepository = patientRepository;
         this.appUserRepository = appUserRepository;
         this.resourceRepository = resourceRepository;
+        this.bookingIndex = bookingIndex;
+        this.nextAppointmentCache = nextAppointmentCache;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -39,20 +69,28 @@ public class AppointmentServiceImpl implements AppointmentService {
         return appointmentRepository.findAll();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<AppointmentCalendarItem> getCalendar(LocalDateTime from, LocalDateTime to, Long vetId,
+            Long resourceId) {
+        if (!to.isAfter(from)) {
+            throw new IllegalArgumentException("'to' must be after 'from'");
+        }
+        if (Duration.between(from, to).compareTo(MAX_CALENDAR_WINDOW) > 0) {
+            throw new IllegalArgumentException("Calendar window must not exceed " + MAX_CALENDAR_WINDOW.toDays() + " days");
+        }
+        return appointmentRepository.findCalendarItems(from, to, vetId, resourceId);
+    }
+
     @Override
     public Optional<Appointment> getAppointmentById(Long id) {
         return appointmentRepository.findById(id);
     }
 
     @Override
-    public Optional<Appointment> getNextAppointment(String username) {
-        AppUser vet = appUserRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("Vet user not found"));
-
-        Appointment nextAppointment = appointmentRepository.findFirstByVetIdAndStartTimeAfterOrderByStartTimeAsc(
-                vet.getId(), LocalDateTime.now());
-
-        return Optional.ofNullable(nextAppointment);
+    @Transactional(readOnly = true)
+    public Optional<AppointmentCalendarItem> getNextAppointment(String username) {
+        return nextAppointmentCache.next(username);
     }
 
     @Override
@@ -61,13 +99,62 @@ public class AppointmentServiceImpl implements AppointmentService {
     }
 
     @Override
-    public List<Appointment> getAppointmentsByClient(Long clientId) {
-        return appointmentRepository.findByClientId(clientId);
+    @Transactional(readOnly = true)
+    public AppointmentSearchPage searchAppointments(String query, String cursor, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_SEARCH_PAGE_SIZE));
+        String pattern = LikePatterns.contains(query);
+        // Fetch one extra row to learn whether another page exists
+        PageRequest page = PageRequest.of(0, pageSize + 1);
+
+        List<AppointmentCalendarItem> items;
+        if (cursor == null || cursor.isBlank()) {
+            items = appointmentRepository.searchFirstPage(pattern, page);
+        } else {
+            int separator = cursor.lastIndexOf('_');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Malformed cursor");
+            }
+            LocalDateTime cursorStart = LocalDateTime.parse(cursor.substring(0, separator));
+            Long cursorId = Long.valueOf(cursor.substring(separator + 1));
+            items = appointmentRepository.searchAfter(pattern, cursorStart, cursorId, page);
+        }
+
+        String nextCursor = null;
+        if (items.size() > pageSize) {
+            items = items.subList(0, pageSize);
+            AppointmentCalendarItem last = items.get(pageSize - 1);
+            nextCursor = last.getStartTime() + "_" + last.getId();
+        }
+        return new AppointmentSearchPage(items, nextCursor);
     }
 
+    // History views include rows the archive job has moved out of the hot table
     @Override
-    public List<Appointment> getAppointmentsByPatient(Long patientId) {
-        return appointmentRepository.findByPatientId(patientId);
+    @Transactional(readOnly = true)
+    public List<AppointmentCalendarItem> getAppointmentsByClient(Long clientId) {
+        return withArchived(appointmentRepository.findCalendarItemsByClientId(clientId),
+                appointmentRepository.findArchivedCalendarRowsByClientId(clientId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<AppointmentCalendarItem> getAppointmentsByPatient(Long patientId) {
+        return withArchived(appointmentRepository.findCalendarItemsByPatientId(patientId),
+                appointmentRepository.findArchivedCalendarRowsByPatientId(patientId));
+    }
+
+    private static List<AppointmentCalendarItem> withArchived(List<AppointmentCalendarItem> current,
+            List<Object[]> archived) {
+        if (archived.isEmpty()) {
+            return current;
+        }
+        List<AppointmentCalendarItem> all = new ArrayList<>(current.size() + archived.size());
+        for (Object[] row : archived) {
+            all.add(AppointmentCalendarItem.fromArchiveRow(row));
+        }
+        all.addAll(current);
+        all.sort(Comparator.comparing(AppointmentCalendarItem::getStartTime));
+        return all;
     }
 
     @Override
@@ -98,14 +185,84 @@ public class AppointmentServiceImpl implements AppointmentService {
         appointment.setReason(request.getReason());
         appointment.setType(request.getType());
         appointment.setStatus(AppointmentStatus.SCHEDULED);
+        validateTimes(appointment);
+
+        Appointment saved = appointmentRepository.save(appointment);
+        holdSlot(saved);
+        Long vetId = vet.getId();
+        TransactionCallbacks.afterCommit(() -> nextAppointmentCache.evict(vetId));
+        eventPublisher.publishEvent(AppointmentChangedEvent.created(AppointmentCalendarItem.from(saved)));
+        return saved;
+    }
+
+    @Override
+    public List<Appointment> createAppointmentSeries(AppointmentSeriesRequest request) {
+        int occurrences = request.getOccurrences() != null ? request.getOccurrences() : 0;
+        int intervalWeeks = request.getIntervalWeeks() != null ? request.getIntervalWeeks() : 0;
+        if (occurrences < 1 || occurrences > MAX_SERIES_OCCURRENCES) {
+            throw new IllegalArgumentException("occurrences must be between 1 and " + MAX_SERIES_OCCURRENCES);
+        }
+        if (intervalWeeks < 1) {
+            throw new IllegalArgumentException("intervalWeeks must be at least 1");
+        }
+
+        // References are resolved once for the whole series
+        Client client = clientRepository.findById(request.getClientId())
+                .orElseThrow(() -> new RuntimeException("Client not found"));
+        Patient patient = patientRepository.findById(request.getPatientId())
+                .orElseThrow(() -> new RuntimeException("Patient not found"));
+        AppUser vet = appUserRepository.findById(request.getVetId())
+                .orElseThrow(() -> new RuntimeException("Vet not found"));
+        Resource resource = null;
+        if (request.getResourceId() != null) {
+            resource = resourceRepository.findById(request.getResourceId())
+                    .orElseThrow(() -> new RuntimeException("Resource not found"));
+        }
+
+        List<Appointment> series = new ArrayList<>(occurrences);
+        for (int i = 0; i < occurrences; i++) {
+            long weeks = (long) i * intervalWeeks;
+            Appointment appointment = new Appointment();
+            appointment.setClient(client);
+            appointment.setPatient(patient);
+            appointment.setVet(vet);
+            appointment.setResource(resource);
+            appointment.setStartTime(request.getStartTime() != null ? request.getStartTime().plusWeeks(weeks) : null);
+            appointment.setEndTime(request.getEndTime() != null ? request.getEndTime().plusWeeks(weeks) : null);
+            appointment.setNotes(request.getNotes());
+            appointment.setReason(request.getReason());
+            appointment.setType(request.getType());
+            appointment.setStatus(AppointmentStatus.SCHEDULED);
+            validateTimes(appointment);
+            series.add(appointment);
+        }
 
-        return appointmentRepository.save(appointment);
+        // Sequence ids are assigned on persist; the INSERTs themselves are batched at flush.
+        List<Appointment> saved = appointmentRepository.saveAll(series);
+
+        List<Booking> bookings = new ArrayList<>(saved.size());
+        for (Appointment appointment : saved) {
+            bookings.add(new Booking(appointment.getId(), vet.getId(),
+                    resource != null ? resource.getId() : null,
+                    appointment.getStartTime(), appointment.getEndTime()));
+        }
+        bookingIndex.reserveAll(bookings);
+        TransactionCallbacks.afterRollback(() -> bookings.forEach(b -> bookingIndex.release(b.getAppointmentId())));
+
+        Long vetId = vet.getId();
+        TransactionCallbacks.afterCommit(() -> nextAppointmentCache.evict(vetId));
+        for (Appointment appointment : saved) {
+            eventPublisher.publishEvent(AppointmentChangedEvent.created(AppointmentCalendarItem.from(appointment)));
+        }
+        return saved;
     }
 
     @Override
     public Appointment updateAppointment(Long id, AppointmentRequest request) {
         Appointment appointment = appointmentRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Appointment not found"));
+        Long previousVetId = appointment.getVet() != null ? appointment.getVet().getId() : null;
+        AppointmentCalendarItem before = AppointmentCalendarItem.from(appointment);
 
         // Task Locking Logic (US 3.4)
         if (appointment.getStartTime().isBefore(LocalDateTime.now())) {
@@ -163,15 +320,110 @@ public class AppointmentServiceImpl implements AppointmentService {
             appointment.setReason(request.getReason());
         if (request.getType() != null)
             appointment.setType(request.getType());
+        validateTimes(appointment);
+
+        Appointment saved = appointmentRepository.save(appointment);
+        holdSlot(saved);
+        Long vetId = saved.getVet() != null ? saved.getVet().getId() : null;
+        TransactionCallbacks.afterCommit(() -> {
+            nextAppointmentCache.evict(previousVetId);
+            nextAppointmentCache.evict(vetId);
+        });
+        eventPublisher.publishEvent(AppointmentChangedEvent.updated(before, AppointmentCalendarItem.from(saved)));
+        return saved;
+    }
+
+    /**
+     * Front-desk status change (check-in, complete, cancel, no-show, reinstate) as one conditional UPDATE.
+     * The current status is only read when the update matches nothing, to tell 404 from 409.
+     * Reinstating an appointment that gave up its slot re-reserves it, throwing BookingConflictException
+     * if the slot has been taken since.
+     */
+    @Override
+    public AppointmentStatus changeStatus(Long id, AppointmentStatus status) {
+        if (status == null) {
+            throw new IllegalArgumentException("status is required");
+        }
+        if (!BookingIndex.INACTIVE_STATUSES.contains(status) && bookingIndex.get(id) == null) {
+            reclaimSlot(id, status);
+        }
+        int updated = appointmentRepository.transitionStatus(id, status, status.allowedPredecessors(),
+                LocalDateTime.now());
+        if (updated == 0) {
+            AppointmentStatus current = appointmentRepository.findStatusById(id)
+                    .orElseThrow(() -> new RuntimeException("Appointment not found"));
+            throw new InvalidStatusTransitionException(current, status);
+        }
 
-        return appointmentRepository.save(appointment);
+        // Only appointments still holding a slot can sit in a vet's upcoming queue
+        Booking booking = bookingIndex.get(id);
+        if (BookingIndex.INACTIVE_STATUSES.contains(status)) {
+            Booking previous = bookingIndex.release(id);
+            TransactionCallbacks.afterRollback(() -> bookingIndex.restore(id, previous));
+        }
+        if (booking != null) {
+            Long vetId = booking.getVetId();
+            TransactionCallbacks.afterCommit(() -> nextAppointmentCache.evict(vetId));
+        }
+        eventPublisher.publishEvent(AppointmentChangedEvent.updated(id, Map.of("status", status)));
+        return status;
     }
 
     @Override
     public void deleteAppointment(Long id) {
-        if (!appointmentRepository.existsById(id)) {
-            throw new RuntimeException("Appointment not found");
+        Appointment appointment = appointmentRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Appointment not found"));
+        Long vetId = appointment.getVet() != null ? appointment.getVet().getId() : null;
+        appointmentRepository.delete(appointment);
+        TransactionCallbacks.afterCommit(() -> {
+            bookingIndex.release(id);
+            nextAppointmentCache.evict(vetId);
+        });
+        eventPublisher.publishEvent(AppointmentChangedEvent.deleted(id));
+    }
+
+    private void validateTimes(Appointment appointment) {
+        if (appointment.getStartTime() == null || appointment.getEndTime() == null
+                || !appointment.getEndTime().isAfter(appointment.getStartTime())) {
+            throw new IllegalArgumentException("End time must be after start time");
+        }
+    }
+
+    /**
+     * Claims the appointment's slot in the booking index, throwing BookingConflictException on overlap.
+     * The previous slot is put back if the surrounding transaction does not commit.
+     */
+    private void holdSlot(Appointment appointment) {
+        Long id = appointment.getId();
+        Booking previous;
+        if (BookingIndex.INACTIVE_STATUSES.contains(appointment.getStatus())) {
+            previous = bookingIndex.release(id);
+        } else {
+            previous = bookingIndex.reserve(new Booking(id,
+                    appointment.getVet() != null ? appointment.getVet().getId() : null,
+                    appointment.getResource() != null ? appointment.getResource().getId() : null,
+                    appointment.getStartTime(),
+                    appointment.getEndTime()));
+        }
+        TransactionCallbacks.afterRollback(() -> bookingIndex.restore(id, previous));
+    }
+
+    /**
+     * Takes back the slot of a cancelled or no-show appointment that is being reinstated.
+     */
+    private void reclaimSlot(Long id, AppointmentStatus status) {
+        Appointment appointment = appointmentRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Appointment not found"));
+        // An invalid move is left to the conditional update, which reports it as such
+        if (!BookingIndex.INACTIVE_STATUSES.contains(appointment.getStatus())
+                || !status.allowedPredecessors().contains(appointment.getStatus())) {
+            return;
         }
-        appointmentRepository.deleteById(id);
+        Booking previous = bookingIndex.reserve(new Booking(id,
+                appointment.getVet() != null ? appointment.getVet().getId() : null,
+                appointment.getResource() != null ? appointment.getResource().getId() : null,
+                appointment.getStartTime(),
+                appointment.getEndTime()));
+        TransactionCallbacks.afterRollback(() -> bookingIndex.restore(id, previous));
     }
 }
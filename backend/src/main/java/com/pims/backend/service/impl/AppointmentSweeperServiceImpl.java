@@ -0,0 +1,134 @@
+package com.pims.backend.service.impl;
+
+import com.pims.backend.dto.SweepRun;
+import com.pims.backend.enums.AppointmentStatus;
+import com.pims.backend.event.AppointmentChangedEvent;
+import com.pims.backend.index.BookingIndex;
+import com.pims.backend.repository.AppointmentRepository;
+import com.pims.backend.service.AppointmentSweeperService;
+import com.pims.backend.util.TransactionCallbacks;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Closes out past-due appointments at the end of the day: SCHEDULED becomes NO_SHOW and
+ * CHECKED_IN becomes COMPLETED.
+ *
+ * Each chunk is an id select followed by one set-based UPDATE in its own short
+ * transaction, so only a bounded number of rows is locked at any moment and the
+ * front desk is never blocked behind the sweep.
+ */
+@Service
+public class AppointmentSweeperServiceImpl implements AppointmentSweeperService {
+
+    private static final Logger log = LoggerFactory.getLogger(AppointmentSweeperServiceImpl.class);
+    private static final int HISTORY_SIZE = 30;
+
+    private final AppointmentRepository appointmentRepository;
+    private final BookingIndex bookingIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final Deque<SweepRun> history = new ArrayDeque<>();
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public AppointmentSweeperServiceImpl(AppointmentRepository appointmentRepository,
+            BookingIndex bookingIndex,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            @Value("${pims.sweeper.chunk-size:500}") int chunkSize) {
+        this.appointmentRepository = appointmentRepository;
+        this.bookingIndex = bookingIndex;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(cron = "${pims.sweeper.cron:0 30 20 * * *}")
+    public void scheduledSweep() {
+        sweep("scheduled");
+    }
+
+    @Override
+    public SweepRun sweep(String trigger) {
+        SweepRun run = new SweepRun(LocalDateTime.now(), trigger);
+        if (!running.compareAndSet(false, true)) {
+            run.setError("A sweep is already running");
+            run.setFinishedAt(LocalDateTime.now());
+            return run;
+        }
+        try {
+            // Appointments are only swept once they have ended
+            LocalDateTime cutoff = run.getStartedAt();
+            run.setNoShows(sweepStatus(AppointmentStatus.SCHEDULED, AppointmentStatus.NO_SHOW, cutoff, run));
+            run.setCompleted(sweepStatus(AppointmentStatus.CHECKED_IN, AppointmentStatus.COMPLETED, cutoff, run));
+        } catch (RuntimeException e) {
+            log.error("Appointment sweep failed", e);
+            run.setError(e.getMessage());
+        } finally {
+            run.setFinishedAt(LocalDateTime.now());
+            running.set(false);
+            record(run);
+        }
+        log.info("Appointment sweep ({}): {} no-shows, {} completed in {} chunks",
+                trigger, run.getNoShows(), run.getCompleted(), run.getChunks());
+        return run;
+    }
+
+    @Override
+    public List<SweepRun> getHistory() {
+        synchronized (history) {
+            return new ArrayList<>(history);
+        }
+    }
+
+    private int sweepStatus(AppointmentStatus from, AppointmentStatus to, LocalDateTime cutoff, SweepRun run) {
+        int total = 0;
+        while (true) {
+            Integer updated = transactionTemplate.execute(tx -> {
+                List<Long> ids = appointmentRepository.findIdsByStatusEndingBefore(from, cutoff,
+                        PageRequest.of(0, chunkSize));
+                if (ids.isEmpty()) {
+                    return 0;
+                }
+                int count = appointmentRepository.bulkChangeStatus(ids, from, to, LocalDateTime.now());
+                if (BookingIndex.INACTIVE_STATUSES.contains(to)) {
+                    TransactionCallbacks.afterCommit(() -> ids.forEach(bookingIndex::release));
+                }
+                for (Long id : ids) {
+                    eventPublisher.publishEvent(AppointmentChangedEvent.updated(id, Map.of("status", to)));
+                }
+                return count;
+            });
+            if (updated == null || updated == 0) {
+                return total;
+            }
+            total += updated;
+            run.setChunks(run.getChunks() + 1);
+        }
+    }
+
+    private void record(SweepRun run) {
+        synchronized (history) {
+            history.addFirst(run);
+            if (history.size() > HISTORY_SIZE) {
+                history.removeLast();
+            }
+        }
+    }
+}
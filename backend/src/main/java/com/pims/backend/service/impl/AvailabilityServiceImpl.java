@@ -0,0 +1,147 @@
+package com.pims.backend.service.impl;
+
+import com.pims.backend.dto.AvailabilityResponse;
+import com.pims.backend.dto.ScheduleAvailability;
+import com.pims.backend.dto.TimeWindow;
+import com.pims.backend.entity.AppUser;
+import com.pims.backend.entity.Resource;
+import com.pims.backend.enums.ResourceType;
+import com.pims.backend.index.Booking;
+import com.pims.backend.index.BookingIndex;
+import com.pims.backend.repository.AppUserRepository;
+import com.pims.backend.repository.ResourceRepository;
+import com.pims.backend.service.AvailabilityService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Computes free slots from the in-memory {@link BookingIndex}: one occupancy bitset per
+ * schedule and day (one bit per slot), scanned for clear runs of the requested length.
+ * The database is only asked for the list of vets and resources.
+ */
+@Service
+@Transactional(readOnly = true)
+public class AvailabilityServiceImpl implements AvailabilityService {
+
+    private static final List<String> VET_ROLES = List.of("VET", "ROLE_VET");
+    private static final int MAX_DAYS = 14;
+
+    private final AppUserRepository appUserRepository;
+    private final ResourceRepository resourceRepository;
+    private final BookingIndex bookingIndex;
+    private final LocalTime openingTime;
+    private final LocalTime closingTime;
+    private final int slotMinutes;
+
+    public AvailabilityServiceImpl(AppUserRepository appUserRepository,
+            ResourceRepository resourceRepository,
+            BookingIndex bookingIndex,
+            @Value("${pims.clinic.opening-time:08:00}") String openingTime,
+            @Value("${pims.clinic.closing-time:20:00}") String closingTime,
+            @Value("${pims.clinic.slot-minutes:15}") int slotMinutes) {
+        this.appUserRepository = appUserRepository;
+        this.resourceRepository = resourceRepository;
+        this.bookingIndex = bookingIndex;
+        this.openingTime = LocalTime.parse(openingTime);
+        this.closingTime = LocalTime.parse(closingTime);
+        this.slotMinutes = slotMinutes;
+    }
+
+    @Override
+    public AvailabilityResponse findFreeSlots(LocalDate date, int days, int durationMinutes,
+            ResourceType resourceType, Long vetId) {
+        if (date.isBefore(LocalDate.now())) {
+            throw new IllegalArgumentException("Availability can only be computed from today onward");
+        }
+        if (days < 1 || days > MAX_DAYS) {
+            throw new IllegalArgumentException("days must be between 1 and " + MAX_DAYS);
+        }
+        if (durationMinutes <= 0 || durationMinutes > Duration.between(openingTime, closingTime).toMinutes()) {
+            throw new IllegalArgumentException("durationMinutes must fit within opening hours");
+        }
+
+        int slotsNeeded = (durationMinutes + slotMinutes - 1) / slotMinutes;
+        LocalDateTime now = LocalDateTime.now();
+
+        List<ScheduleAvailability> vets = new ArrayList<>();
+        List<AppUser> candidates = vetId != null
+                ? appUserRepository.findById(vetId).map(List::of).orElseThrow(() -> new RuntimeException("Vet not found"))
+                : appUserRepository.findActiveByRoleNames(VET_ROLES);
+        for (AppUser vet : candidates) {
+            List<Booking> bookings = bookingIndex.bookingsForVet(vet.getId(),
+                    date.atTime(openingTime), date.plusDays(days - 1L).atTime(closingTime));
+            vets.add(new ScheduleAvailability(vet.getId(), vet.getFirstName() + " " + vet.getLastName(), "VET",
+                    freeWindows(bookings, date, days, slotsNeeded, now)));
+        }
+
+        List<ScheduleAvailability> resources = new ArrayList<>();
+        List<Resource> rooms = resourceType != null
+                ? resourceRepository.findByTypeOrderByName(resourceType)
+                : resourceRepository.findAll();
+        for (Resource resource : rooms) {
+            List<Booking> bookings = bookingIndex.bookingsForResource(resource.getId(),
+                    date.atTime(openingTime), date.plusDays(days - 1L).atTime(closingTime));
+            resources.add(new ScheduleAvailability(resource.getId(), resource.getName(), resource.getType().name(),
+                    freeWindows(bookings, date, days, slotsNeeded, now)));
+        }
+
+        return new AvailabilityResponse(date, days, durationMinutes, vets, resources);
+    }
+
+    private List<TimeWindow> freeWindows(List<Booking> bookings, LocalDate firstDay, int days, int slotsNeeded,
+            LocalDateTime now) {
+        int slotsPerDay = (int) (Duration.between(openingTime, closingTime).toMinutes() / slotMinutes);
+        BitSet[] occupancy = new BitSet[days];
+        for (int d = 0; d < days; d++) {
+            occupancy[d] = new BitSet(slotsPerDay);
+        }
+
+        // Bookings arrive in start order and may span a day boundary, so mark each day they touch.
+        for (Booking booking : bookings) {
+            for (int d = 0; d < days; d++) {
+                LocalDateTime dayOpen = firstDay.plusDays(d).atTime(openingTime);
+                LocalDateTime dayClose = firstDay.plusDays(d).atTime(closingTime);
+                if (!booking.overlaps(dayOpen, dayClose)) {
+                    continue;
+                }
+                int from = (int) Math.max(0, Duration.between(dayOpen, booking.getStartTime()).toMinutes() / slotMinutes);
+                long endMinutes = Duration.between(dayOpen, booking.getEndTime()).toMinutes();
+                int to = (int) Math.min(slotsPerDay, (endMinutes + slotMinutes - 1) / slotMinutes);
+                occupancy[d].set(from, to);
+            }
+        }
+
+        List<TimeWindow> windows = new ArrayList<>();
+        for (int d = 0; d < days; d++) {
+            LocalDateTime dayOpen = firstDay.plusDays(d).atTime(openingTime);
+            BitSet occupied = occupancy[d];
+            if (now.isAfter(dayOpen)) {
+                long elapsed = Duration.between(dayOpen, now).toMinutes();
+                occupied.set(0, (int) Math.min(slotsPerDay, (elapsed + slotMinutes - 1) / slotMinutes));
+            }
+
+            int start = occupied.nextClearBit(0);
+            while (start < slotsPerDay) {
+                int end = occupied.nextSetBit(start);
+                if (end < 0 || end > slotsPerDay) {
+                    end = slotsPerDay;
+                }
+                if (end - start >= slotsNeeded) {
+                    windows.add(new TimeWindow(dayOpen.plusMinutes((long) start * slotMinutes),
+                            dayOpen.plusMinutes((long) end * slotMinutes)));
+                }
+                start = occupied.nextClearBit(end);
+            }
+        }
+        return windows;
+    }
+}
@@ -0,0 +1,167 @@
+package com.pims.backend.service.impl;
+
+import com.pims.backend.dto.AppointmentCalendarItem;
+import com.pims.backend.dto.CalendarFeedVersion;
+import com.pims.backend.entity.AppUser;
+import com.pims.backend.enums.AppointmentStatus;
+import com.pims.backend.repository.AppUserRepository;
+import com.pims.backend.repository.AppointmentRepository;
+import com.pims.backend.service.CalendarFeedService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes a vet's appointments as an RFC 5545 iCalendar feed, row by row from a database cursor.
+ */
+@Service
+@Transactional(readOnly = true)
+public class CalendarFeedServiceImpl implements CalendarFeedService {
+
+    private static final DateTimeFormatter LOCAL_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final DateTimeFormatter UTC_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'");
+    private static final int MAX_LINE_OCTETS = 75;
+    private static final int TOKEN_BYTES = 32;
+
+    private final AppointmentRepository appointmentRepository;
+    private final AppUserRepository appUserRepository;
+    private final SecureRandom random = new SecureRandom();
+
+    public CalendarFeedServiceImpl(AppointmentRepository appointmentRepository, AppUserRepository appUserRepository) {
+        this.appointmentRepository = appointmentRepository;
+        this.appUserRepository = appUserRepository;
+    }
+
+    @Override
+    public CalendarFeedVersion getFeedVersion(Long vetId) {
+        return appointmentRepository.findCalendarFeedVersion(vetId);
+    }
+
+    /**
+     * Replaces the vet's feed token, so calendars subscribed with the previous URL stop receiving updates.
+     */
+    @Override
+    @Transactional
+    public String issueFeedToken(Long vetId) {
+        AppUser vet = appUserRepository.findById(vetId)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+        byte[] secret = new byte[TOKEN_BYTES];
+        random.nextBytes(secret);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(secret);
+        vet.setCalendarFeedToken(token);
+        appUserRepository.save(vet);
+        return token;
+    }
+
+    @Override
+    @Transactional
+    public void revokeFeedToken(Long vetId) {
+        AppUser vet = appUserRepository.findById(vetId)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+        vet.setCalendarFeedToken(null);
+        appUserRepository.save(vet);
+    }
+
+    @Override
+    public boolean isFeedTokenValid(Long vetId, String token) {
+        if (token == null || token.isEmpty()) {
+            return false;
+        }
+        String expected = appUserRepository.findById(vetId).map(AppUser::getCalendarFeedToken).orElse(null);
+        return expected != null && MessageDigest.isEqual(
+                expected.getBytes(StandardCharsets.UTF_8), token.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void writeFeed(Long vetId, Writer writer) throws IOException {
+        String stamp = LocalDateTime.now(ZoneOffset.UTC).format(UTC_FORMAT);
+
+        line(writer, "BEGIN:VCALENDAR");
+        line(writer, "VERSION:2.0");
+        line(writer, "PRODID:-//PIMS//Vet Calendar//EN");
+        line(writer, "CALSCALE:GREGORIAN");
+        line(writer, "METHOD:PUBLISH");
+
+        try (Stream<AppointmentCalendarItem> appointments = appointmentRepository.streamCalendarForVet(vetId)) {
+            Iterator<AppointmentCalendarItem> it = appointments.iterator();
+            while (it.hasNext()) {
+                writeEvent(writer, it.next(), stamp);
+            }
+        }
+
+        line(writer, "END:VCALENDAR");
+        writer.flush();
+    }
+
+    private void writeEvent(Writer writer, AppointmentCalendarItem item, String stamp) throws IOException {
+        line(writer, "BEGIN:VEVENT");
+        line(writer, "UID:appointment-" + item.getId() + "@pims");
+        line(writer, "DTSTAMP:" + stamp);
+        // Floating local times: the clinic and its vets share one time zone
+        line(writer, "DTSTART:" + item.getStartTime().format(LOCAL_FORMAT));
+        line(writer, "DTEND:" + item.getEndTime().format(LOCAL_FORMAT));
+        String summary = item.getPatientName() != null ? item.getPatientName() : "Appointment";
+        if (item.getType() != null) {
+            summary += " (" + item.getType() + ")";
+        }
+        line(writer, "SUMMARY:" + escape(summary));
+
+        StringBuilder description = new StringBuilder();
+        if (item.getClientName() != null) {
+            description.append("Owner: ").append(item.getClientName());
+        }
+        if (item.getReason() != null) {
+            if (description.length() > 0) {
+                description.append('\n');
+            }
+            description.append("Reason: ").append(item.getReason());
+        }
+        if (description.length() > 0) {
+            line(writer, "DESCRIPTION:" + escape(description.toString()));
+        }
+        if (item.getResourceName() != null) {
+            line(writer, "LOCATION:" + escape(item.getResourceName()));
+        }
+        boolean cancelled = item.getStatus() == AppointmentStatus.CANCELLED
+                || item.getStatus() == AppointmentStatus.NO_SHOW;
+        line(writer, "STATUS:" + (cancelled ? "CANCELLED" : "CONFIRMED"));
+        line(writer, "END:VEVENT");
+    }
+
+    private static String escape(String text) {
+        return text.replace("\\", "\\\\")
+                .replace(";", "\\;")
+                .replace(",", "\\,")
+                .replace("\r\n", "\\n")
+                .replace("\n", "\\n");
+    }
+
+    // Content lines end in CRLF and are folded at 75 octets without splitting a UTF-8 sequence (RFC 5545 3.1)
+    private static void line(Writer writer, String content) throws IOException {
+        int octets = 0;
+        int i = 0;
+        while (i < content.length()) {
+            int codePoint = content.codePointAt(i);
+            int width = codePoint < 0x80 ? 1 : codePoint < 0x800 ? 2 : codePoint < 0x10000 ? 3 : 4;
+            if (octets + width > MAX_LINE_OCTETS) {
+                writer.write("\r\n ");
+                octets = 1;
+            }
+            writer.write(Character.toChars(codePoint));
+            octets += width;
+            i += Character.charCount(codePoint);
+        }
+        writer.write("\r\n");
+    }
+}
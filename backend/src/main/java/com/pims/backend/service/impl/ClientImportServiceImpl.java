@@ -0,0 +1,294 @@
+package com.pims.backend.service.impl;
+
+import com.pims.backend.dto.ClientImportReport;
+import com.pims.backend.dto.ClientRequest;
+import com.pims.backend.enums.Sex;
+import com.pims.backend.enums.Species;
+import com.pims.backend.index.ClientDuplicateIndex;
+import com.pims.backend.index.ClientSuggestIndex;
+import com.pims.backend.index.PatientFacetIndex;
+import com.pims.backend.service.ClientImportService;
+import com.pims.backend.util.CsvReader;
+import com.pims.backend.util.PhoneNumbers;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Streams a client CSV into the database. Rows are validated as they are read and
+ * written in JDBC batches, one transaction per batch, so only a single batch is ever
+ * held in memory. Ids are reserved from the tables' identity sequences up front so a
+ * batch of pets can reference its owners without a round trip per client.
+ *
+ * If a batch hits a constraint (duplicate email, AFM or phone), it is rolled back and
+ * replayed row by row to pin the error on the offending rows. A malformed record stops
+ * the import there; batches already committed stay, and the report says where it stopped.
+ */
+@Service
+public class ClientImportServiceImpl implements ClientImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(ClientImportServiceImpl.class);
+    private static final Pattern EMAIL = Pattern.compile("^[^@\\s]+@[^@\\s]+\\.[^@\\s]+$");
+    private static final List<String> REQUIRED_COLUMNS = List.of("firstname", "lastname", "email");
+
+    private static final String NEXT_CLIENT_IDS =
+            "SELECT nextval(pg_get_serial_sequence('clients', 'id')) FROM generate_series(1, ?)";
+    private static final String NEXT_PATIENT_IDS =
+            "SELECT nextval(pg_get_serial_sequence('patients', 'id')) FROM generate_series(1, ?)";
+    private static final String INSERT_CLIENT = "INSERT INTO clients (id, first_name, last_name, email, afm, adt, "
+            + "phone, phone_e164, address, gdpr_consent, is_stray_caretaker, balance) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_PATIENT = "INSERT INTO patients (id, name, species, breed, sex, client_id, "
+            + "is_dob_approximate, is_deceased) VALUES (?, ?, ?, ?, ?, ?, false, false)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ClientSuggestIndex clientSuggestIndex;
+    private final ClientDuplicateIndex clientDuplicateIndex;
+    private final PatientFacetIndex patientFacetIndex;
+    private final int batchSize;
+
+    public ClientImportServiceImpl(JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            ClientSuggestIndex clientSuggestIndex,
+            ClientDuplicateIndex clientDuplicateIndex,
+            PatientFacetIndex patientFacetIndex,
+            @Value("${pims.import.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.clientSuggestIndex = clientSuggestIndex;
+        this.clientDuplicateIndex = clientDuplicateIndex;
+        this.patientFacetIndex = patientFacetIndex;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public ClientImportReport importClients(InputStream csv) throws IOException {
+        ClientImportReport report = new ClientImportReport();
+        CsvReader reader = new CsvReader(new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8)));
+
+        List<String> header = reader.next();
+        if (header == null) {
+            throw new IllegalArgumentException("The file is empty");
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String name = header.get(i).replace("\uFEFF", "").trim().toLowerCase(Locale.ROOT);
+            columns.putIfAbsent(name, i);
+        }
+        for (String required : REQUIRED_COLUMNS) {
+            if (!columns.containsKey(required)) {
+                throw new IllegalArgumentException("Missing required column: " + required);
+            }
+        }
+
+        List<ImportRow> batch = new ArrayList<>(batchSize);
+        try {
+            List<String> record;
+            while (true) {
+                try {
+                    record = reader.next();
+                } catch (IOException e) {
+                    report.addError(reader.getRecordNumber() + 1, e.getMessage());
+                    report.setAborted(true);
+                    break;
+                }
+                if (record == null) {
+                    break;
+                }
+                long rowNumber = reader.getRecordNumber();
+                if (isBlank(record)) {
+                    continue;
+                }
+                report.setTotalRows(report.getTotalRows() + 1);
+
+                ClientRequest request = toRequest(record, columns);
+                String error = validate(request);
+                if (error != null) {
+                    report.addError(rowNumber, error);
+                    continue;
+                }
+                batch.add(new ImportRow(rowNumber, request));
+                if (batch.size() >= batchSize) {
+                    flush(batch, report);
+                    batch.clear();
+                }
+            }
+            // Rows read cleanly before a malformed record are still imported
+            if (!batch.isEmpty()) {
+                flush(batch, report);
+            }
+        } finally {
+            // Earlier batches are committed whatever happens next, so the indexes must see them
+            if (report.getImportedClients() > 0) {
+                clientSuggestIndex.rebuild();
+                clientDuplicateIndex.rebuild();
+            }
+            if (report.getImportedPatients() > 0) {
+                patientFacetIndex.rebuild();
+            }
+        }
+        log.info("Client import: {} rows, {} clients, {} patients, {} errors", report.getTotalRows(),
+                report.getImportedClients(), report.getImportedPatients(), report.getErrorCount());
+        return report;
+    }
+
+    private void flush(List<ImportRow> batch, ClientImportReport report) {
+        try {
+            int patients = transactionTemplate.execute(tx -> insert(batch));
+            report.setImportedClients(report.getImportedClients() + batch.size());
+            report.setImportedPatients(report.getImportedPatients() + patients);
+        } catch (DataAccessException batchFailure) {
+            for (ImportRow row : batch) {
+                try {
+                    int patients = transactionTemplate.execute(tx -> insert(List.of(row)));
+                    report.setImportedClients(report.getImportedClients() + 1);
+                    report.setImportedPatients(report.getImportedPatients() + patients);
+                } catch (DataAccessException e) {
+                    report.addError(row.number, describe(e));
+                }
+            }
+        }
+    }
+
+    // Returns the number of patients inserted
+    private int insert(List<ImportRow> rows) {
+        List<Long> clientIds = jdbcTemplate.queryForList(NEXT_CLIENT_IDS, Long.class, rows.size());
+        List<Object[]> clients = new ArrayList<>(rows.size());
+        List<Object[]> patients = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            ClientRequest r = rows.get(i).request;
+            Long clientId = clientIds.get(i);
+            clients.add(new Object[] { clientId, r.getFirstName(), r.getLastName(), r.getEmail(), r.getAfm(),
+                    r.getAdt(), r.getPhoneValue(), PhoneNumbers.toE164(r.getPhoneValue()), r.getAddress(),
+                    r.getGdprConsent(), r.getIsStrayCaretaker() != null ? r.getIsStrayCaretaker() : Boolean.FALSE,
+                    BigDecimal.ZERO });
+            if (r.getPetName() != null) {
+                patients.add(new Object[] { null, r.getPetName(), r.getPetSpecies(), r.getPetBreed(),
+                        r.getPetSex(), clientId });
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_CLIENT, clients);
+
+        if (!patients.isEmpty()) {
+            List<Long> patientIds = jdbcTemplate.queryForList(NEXT_PATIENT_IDS, Long.class, patients.size());
+            for (int i = 0; i < patients.size(); i++) {
+                patients.get(i)[0] = patientIds.get(i);
+            }
+            jdbcTemplate.batchUpdate(INSERT_PATIENT, patients);
+        }
+        return patients.size();
+    }
+
+    private static ClientRequest toRequest(List<String> record, Map<String, Integer> columns) {
+        ClientRequest request = new ClientRequest();
+        request.setFirstName(field(record, columns, "firstname"));
+        request.setLastName(field(record, columns, "lastname"));
+        request.setEmail(field(record, columns, "email"));
+        request.setAfm(field(record, columns, "afm"));
+        request.setAdt(field(record, columns, "adt"));
+        request.setPhone(field(record, columns, "phone"));
+        request.setPhoneNumber(field(record, columns, "phonenumber"));
+        request.setAddress(field(record, columns, "address"));
+        request.setGdprConsent(parseBoolean(field(record, columns, "gdprconsent")));
+        request.setIsStrayCaretaker(parseBoolean(field(record, columns, "isstraycaretaker")));
+        request.setPetName(field(record, columns, "petname"));
+        String species = field(record, columns, "petspecies");
+        request.setPetSpecies(species != null ? species.toUpperCase(Locale.ROOT) : null);
+        request.setPetBreed(field(record, columns, "petbreed"));
+        String sex = field(record, columns, "petsex");
+        request.setPetSex(sex != null ? sex.toUpperCase(Locale.ROOT) : null);
+        return request;
+    }
+
+    private static String validate(ClientRequest request) {
+        if (request.getFirstName() == null || request.getLastName() == null) {
+            return "firstName and lastName are required";
+        }
+        if (request.getEmail() == null || !EMAIL.matcher(request.getEmail()).matches()) {
+            return "A valid email is required";
+        }
+        if (request.getPetName() != null) {
+            if (request.getPetSpecies() == null || !isEnumValue(Species.class, request.getPetSpecies())) {
+                return "petSpecies must be one of DOG, CAT, RABBIT, BIRD, OTHER";
+            }
+            if (request.getPetSex() != null && !isEnumValue(Sex.class, request.getPetSex())) {
+                return "petSex must be MALE or FEMALE";
+            }
+        }
+        return null;
+    }
+
+    private static String describe(DataAccessException e) {
+        if (e instanceof DuplicateKeyException) {
+            return "A client with the same email, AFM or phone number already exists";
+        }
+        return e.getMostSpecificCause().getMessage();
+    }
+
+    private static String field(List<String> record, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static Boolean parseBoolean(String value) {
+        if (value == null) {
+            return null;
+        }
+        return switch (value.toLowerCase(Locale.ROOT)) {
+            case "true", "yes", "y", "1" -> Boolean.TRUE;
+            default -> Boolean.FALSE;
+        };
+    }
+
+    private static <E extends Enum<E>> boolean isEnumValue(Class<E> type, String value) {
+        try {
+            Enum.valueOf(type, value);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static boolean isBlank(List<String> record) {
+        for (String value : record) {
+            if (!value.isBlank()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static final class ImportRow {
+        private final long number;
+        private final ClientRequest request;
+
+        ImportRow(long number, ClientRequest request) {
+            this.number = number;
+            this.request = request;
+        }
+    }
+}
@@ -1,28 +1,106 @@
 package com.pims.backend.service.impl;
 
+import com.pims.backend.cache.ClientPhoneCache;
+import com.pims.backend.cache.NextAppointmentCache;
 import com.pims.backend.dto.ClientRequest;
+import com.pims.backend.dto.ClientSummary;
+import com.pims.backend.dto.PageResponse;
 import com.pims.backend.entity.Client;
+import com.pims.backend.event.AppointmentChangedEvent;
+import com.pims.backend.exception.EntityInUseException;
+import com.pims.backend.index.Booking;
+import com.pims.backend.index.BookingIndex;
+import com.pims.backend.index.ClientDuplicateIndex;
+import com.pims.backend.index.ClientSuggestIndex;
+import com.pims.backend.index.MicrochipIndex;
+import com.pims.backend.index.PatientFacetIndex;
+import com.pims.backend.repository.AppointmentRepository;
 import com.pims.backend.repository.ClientRepository;
+import com.pims.backend.repository.LedgerEntryRepository;
+import com.pims.backend.repository.PatientRepository;
 import com.pims.backend.service.ClientService;
+import com.pims.backend.util.PhoneNumbers;
+import com.pims.backend.util.TransactionCallbacks;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 @Transactional
 public class ClientServiceImpl implements ClientService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final Set<String> SORTABLE_FIELDS = Set.of("id", "firstName", "lastName", "email");
+
     private final ClientRepository clientRepository;
+    private final ClientSuggestIndex clientSuggestIndex;
+    private final ClientPhoneCache clientPhoneCache;
+    private final ClientDuplicateIndex clientDuplicateIndex;
+    private final PatientRepository patientRepository;
+    private final PatientFacetIndex patientFacetIndex;
+    private final MicrochipIndex microchipIndex;
+    private final AppointmentRepository appointmentRepository;
+    private final LedgerEntryRepository ledgerEntryRepository;
+    private final BookingIndex bookingIndex;
+    private final NextAppointmentCache nextAppointmentCache;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public ClientServiceImpl(ClientRepository clientRepository) {
+    public ClientServiceImpl(ClientRepository clientRepository, ClientSuggestIndex clientSuggestIndex,
+            ClientPhoneCache clientPhoneCache, ClientDuplicateIndex clientDuplicateIndex,
+            PatientRepository patientRepository, PatientFacetIndex patientFacetIndex,
+            MicrochipIndex microchipIndex, AppointmentRepository appointmentRepository,
+            LedgerEntryRepository ledgerEntryRepository, BookingIndex bookingIndex,
+            NextAppointmentCache nextAppointmentCache, ApplicationEventPublisher eventPublisher) {
         this.clientRepository = clientRepository;
+        this.clientSuggestIndex = clientSuggestIndex;
+        this.clientPhoneCache = clientPhoneCache;
+        this.clientDuplicateIndex = clientDuplicateIndex;
+        this.patientRepository = patientRepository;
+        this.patientFacetIndex = patientFacetIndex;
+        this.microchipIndex = microchipIndex;
+        this.appointmentRepository = appointmentRepository;
+        this.ledgerEntryRepository = ledgerEntryRepository;
+        this.bookingIndex = bookingIndex;
+        this.nextAppointmentCache = nextAppointmentCache;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
     public List<Client> getAllClients() {
-        return clientRepository.findAll();
+        return clientRepository.findAllWithPets();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponse<ClientSummary> getClientPage(int page, int size, String sort) {
+        if (page < 0) {
+            throw new IllegalArgumentException("page must not be negative");
+        }
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        return PageResponse.of(clientRepository.findSummaries(PageRequest.of(page, pageSize, parseSort(sort))));
+    }
+
+    // "field" or "field,asc|desc"; id is appended so equal keys page deterministically
+    private static Sort parseSort(String sort) {
+        if (sort == null || sort.isBlank()) {
+            return Sort.by("lastName", "firstName", "id");
+        }
+        String[] parts = sort.split(",");
+        String field = parts[0].trim();
+        if (!SORTABLE_FIELDS.contains(field)) {
+            throw new IllegalArgumentException("Cannot sort by " + field);
+        }
+        Sort.Direction direction = parts.length > 1
+                ? Sort.Direction.fromString(parts[1].trim())
+                : Sort.Direction.ASC;
+        Sort order = Sort.by(direction, field);
+        return field.equals("id") ? order : order.and(Sort.by("id"));
     }
 
     @Override
@@ -30,8 +108,19 @@ public class ClientServiceImpl implements ClientService {
         return clientRepository.findById(id);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Client> getClientByPhone(String number) {
+        return clientPhoneCache.findByPhone(number);
+    }
+
     @Override
     public Client createClient(ClientRequest request) {
+        String phoneE164 = PhoneNumbers.toE164(request.getPhoneValue());
+        if (phoneE164 != null && clientRepository.findIdByPhoneE164(phoneE164).isPresent()) {
+            throw new IllegalArgumentException("Another client already has phone number " + phoneE164);
+        }
+
         Client client = new Client();
         client.setFirstName(request.getFirstName());
         client.setLastName(request.getLastName());
@@ -42,11 +131,44 @@ public class ClientServiceImpl implements ClientService {
         client.setAddress(request.getAddress());
         client.setIsStrayCaretaker(request.getIsStrayCaretaker());
         client.setGdprConsent(request.getGdprConsent());
-        return clientRepository.save(client);
+        Client saved = clientRepository.save(client);
+        TransactionCallbacks.afterCommit(() -> {
+            clientSuggestIndex.refresh(saved.getId());
+            clientDuplicateIndex.refresh(saved.getId());
+        });
+        return saved;
     }
 
     @Override
     public void deleteClient(Long id) {
+        // Live appointments go with the client (cascade), but archived ones are plain rows that reference it
+        if (appointmentRepository.existsArchivedByClientId(id)) {
+            throw new EntityInUseException("Client has archived appointment history");
+        }
+        // The ledger is append-only, so a client with postings is kept rather than orphaning them
+        if (ledgerEntryRepository.existsByClientId(id)) {
+            throw new EntityInUseException("Client has ledger history");
+        }
+        // Pets go with their owner (orphan removal); note their ids before they are gone
+        List<Long> petIds = patientRepository.findIdsByOwnerId(id);
+        List<Long> appointmentIds = appointmentRepository.findIdsByClientId(id);
         clientRepository.deleteById(id);
+        for (Long appointmentId : appointmentIds) {
+            eventPublisher.publishEvent(AppointmentChangedEvent.deleted(appointmentId));
+        }
+        TransactionCallbacks.afterCommit(() -> {
+            // The cascaded appointments give up their slots
+            for (Long appointmentId : appointmentIds) {
+                Booking released = bookingIndex.release(appointmentId);
+                if (released != null) {
+                    nextAppointmentCache.evict(released.getVetId());
+                }
+            }
+            patientFacetIndex.removeAll(petIds);
+            microchipIndex.removeAll(petIds);
+            clientSuggestIndex.remove(id);
+            clientDuplicateIndex.remove(id);
+            clientPhoneCache.evict(id);
+        });
     }
 }
@@ -0,0 +1,192 @@
+package com.pims.backend.service.impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pims.backend.service.ExportService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Map;
+
+/**
+ * Streams whole tables to an output stream as CSV or NDJSON.
+ *
+ * Rows come from a server-side cursor (fetch size inside a read-only transaction, which
+ * the Postgres driver needs to stop buffering the full result) and are written as they
+ * arrive, so memory use does not depend on the number of rows.
+ */
+@Service
+public class ExportServiceImpl implements ExportService {
+
+    private static final Map<Dataset, String> QUERIES = Map.of(
+            Dataset.CLIENTS, "SELECT id, first_name, last_name, email, afm, adt, phone, phone_e164, address, "
+                    + "gdpr_consent, is_stray_caretaker, balance FROM clients ORDER BY id",
+            Dataset.PATIENTS, "SELECT id, client_id, name, species, breed, sex, birth_date, is_dob_approximate, "
+                    + "microchip_number, microchip_date, is_sterilized, sterilization_date, weight, is_deceased "
+                    + "FROM patients ORDER BY id",
+            // Live rows first, then the archive; both share the same columns
+            Dataset.APPOINTMENTS, "SELECT id, start_time, end_time, status, type, reason, client_id, patient_id, "
+                    + "vet_id, resource_id, false AS archived FROM appointments "
+                    + "UNION ALL SELECT id, start_time, end_time, status, type, reason, client_id, patient_id, "
+                    + "vet_id, resource_id, true AS archived FROM appointments_archive");
+
+    private final JdbcTemplate cursorTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    public ExportServiceImpl(DataSource dataSource,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper,
+            @Value("${pims.export.fetch-size:1000}") int fetchSize) {
+        this.cursorTemplate = new JdbcTemplate(dataSource);
+        this.cursorTemplate.setFetchSize(fetchSize);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void export(Dataset dataset, Format format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        RowWriter rows = format == Format.CSV ? new CsvRowWriter(writer) : new NdjsonRowWriter(writer);
+        try {
+            // An extractor rather than a row callback, so the header goes out even for an empty table
+            transactionTemplate.executeWithoutResult(tx -> cursorTemplate.query(QUERIES.get(dataset),
+                    (ResultSetExtractor<Void>) rs -> {
+                        try {
+                            rows.start(rs.getMetaData());
+                            while (rs.next()) {
+                                rows.write(rs);
+                            }
+                            return null;
+                        } catch (IOException e) {
+                            // Client went away; unwinding closes the cursor and the transaction
+                            throw new UncheckedIOException(e);
+                        }
+                    }));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        rows.finish();
+        writer.flush();
+    }
+
+    private static Object value(ResultSet rs, int column) throws SQLException {
+        Object value = rs.getObject(column);
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime().toString();
+        }
+        if (value instanceof Date date) {
+            return date.toLocalDate().toString();
+        }
+        if (value instanceof BigDecimal decimal) {
+            return decimal.toPlainString();
+        }
+        return value;
+    }
+
+    private interface RowWriter {
+        default void start(ResultSetMetaData meta) throws SQLException, IOException {
+        }
+
+        void write(ResultSet rs) throws SQLException, IOException;
+
+        default void finish() throws IOException {
+        }
+    }
+
+    private static final class CsvRowWriter implements RowWriter {
+        private final Writer writer;
+        private int columns;
+
+        CsvRowWriter(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void start(ResultSetMetaData meta) throws SQLException, IOException {
+            columns = meta.getColumnCount();
+            for (int i = 1; i <= columns; i++) {
+                if (i > 1) {
+                    writer.write(',');
+                }
+                writer.write(quote(meta.getColumnLabel(i)));
+            }
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void write(ResultSet rs) throws SQLException, IOException {
+            for (int i = 1; i <= columns; i++) {
+                if (i > 1) {
+                    writer.write(',');
+                }
+                Object value = value(rs, i);
+                if (value != null) {
+                    writer.write(quote(value.toString()));
+                }
+            }
+            writer.write("\r\n");
+        }
+
+        private static String quote(String value) {
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0
+                    && value.indexOf('\r') < 0) {
+                return value;
+            }
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+    }
+
+    private final class NdjsonRowWriter implements RowWriter {
+        private final JsonGenerator generator;
+        private boolean empty = true;
+
+        NdjsonRowWriter(Writer writer) throws IOException {
+            this.generator = objectMapper.getFactory().createGenerator(writer);
+            // The generator must not close or flush the response writer on its own
+            this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            this.generator.disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+            this.generator.setRootValueSeparator(new SerializedString("\n"));
+        }
+
+        @Override
+        public void write(ResultSet rs) throws SQLException, IOException {
+            ResultSetMetaData meta = rs.getMetaData();
+            generator.writeStartObject();
+            for (int i = 1; i <= meta.getColumnCount(); i++) {
+                generator.writeFieldName(meta.getColumnLabel(i));
+                generator.writeObject(value(rs, i));
+            }
+            generator.writeEndObject();
+            empty = false;
+        }
+
+        @Override
+        public void finish() throws IOException {
+            if (!empty) {
+                generator.writeRaw('\n');
+            }
+            generator.flush();
+        }
+    }
+}
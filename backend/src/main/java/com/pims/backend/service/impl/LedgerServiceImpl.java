@@ -0,0 +1,116 @@
+package com.pims.backend.service.impl;
+
+import com.pims.backend.dto.LedgerEntryRequest;
+import com.pims.backend.dto.LedgerPosting;
+import com.pims.backend.dto.LedgerReconciliation;
+import com.pims.backend.dto.PageResponse;
+import com.pims.backend.entity.LedgerEntry;
+import com.pims.backend.enums.LedgerEntryType;
+import com.pims.backend.repository.ClientRepository;
+import com.pims.backend.repository.LedgerEntryRepository;
+import com.pims.backend.service.LedgerService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Client accounts as an append-only ledger. A posting is one INSERT into ledger_entries
+ * plus one atomic {@code balance = balance + delta} on the client row, in the same
+ * transaction, so concurrent terminals never overwrite each other and no lock is taken
+ * up front. A scheduled reconciliation checks that every balance still equals the sum
+ * of its entries.
+ */
+@Service
+@Transactional
+public class LedgerServiceImpl implements LedgerService {
+
+    private static final Logger log = LoggerFactory.getLogger(LedgerServiceImpl.class);
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final LedgerEntryRepository ledgerEntryRepository;
+    private final ClientRepository clientRepository;
+    private volatile LedgerReconciliation lastReconciliation;
+
+    public LedgerServiceImpl(LedgerEntryRepository ledgerEntryRepository, ClientRepository clientRepository) {
+        this.ledgerEntryRepository = ledgerEntryRepository;
+        this.clientRepository = clientRepository;
+    }
+
+    @Override
+    public LedgerPosting post(Long clientId, LedgerEntryRequest request, String username) {
+        BigDecimal delta = signedAmount(request);
+
+        // The UPDATE doubles as the existence check and row-locks the client until commit
+        if (clientRepository.addToBalance(clientId, delta) == 0) {
+            throw new RuntimeException("Client not found");
+        }
+
+        LedgerEntry entry = new LedgerEntry();
+        entry.setClient(clientRepository.getReferenceById(clientId));
+        entry.setType(request.getType());
+        entry.setAmount(delta);
+        entry.setDescription(request.getDescription());
+        entry.setAppointmentId(request.getAppointmentId());
+        entry.setCreatedBy(username);
+        LedgerEntry saved = ledgerEntryRepository.save(entry);
+
+        BigDecimal balance = clientRepository.findBalanceById(clientId).orElse(null);
+        return new LedgerPosting(saved, balance);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponse<LedgerEntry> getEntries(Long clientId, int page, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        return PageResponse.of(ledgerEntryRepository.findByClientId(clientId, PageRequest.of(Math.max(page, 0), pageSize)));
+    }
+
+    @Override
+    @Scheduled(cron = "${pims.ledger.reconcile-cron:0 15 2 * * *}")
+    @Transactional(readOnly = true)
+    public LedgerReconciliation reconcile() {
+        List<LedgerReconciliation.Mismatch> mismatches = new ArrayList<>();
+        for (Object[] row : ledgerEntryRepository.findBalanceMismatches()) {
+            mismatches.add(new LedgerReconciliation.Mismatch(((Number) row[0]).longValue(),
+                    (BigDecimal) row[1], (BigDecimal) row[2]));
+        }
+        LedgerReconciliation result = new LedgerReconciliation(LocalDateTime.now(), mismatches);
+        if (!result.isConsistent()) {
+            log.warn("Ledger reconciliation found {} client balances that differ from their entries: {}",
+                    mismatches.size(), mismatches.stream().map(LedgerReconciliation.Mismatch::getClientId).toList());
+        }
+        lastReconciliation = result;
+        return result;
+    }
+
+    @Override
+    public LedgerReconciliation getLastReconciliation() {
+        return lastReconciliation;
+    }
+
+    private static BigDecimal signedAmount(LedgerEntryRequest request) {
+        if (request.getType() == null || request.getAmount() == null) {
+            throw new IllegalArgumentException("type and amount are required");
+        }
+        BigDecimal amount = request.getAmount().setScale(2, RoundingMode.HALF_UP);
+        if (request.getType() == LedgerEntryType.ADJUSTMENT) {
+            if (amount.signum() == 0) {
+                throw new IllegalArgumentException("An adjustment must not be zero");
+            }
+            return amount;
+        }
+        if (amount.signum() <= 0) {
+            throw new IllegalArgumentException("amount must be positive");
+        }
+        return request.getType() == LedgerEntryType.PAYMENT ? amount.negate() : amount;
+    }
+}
@@ -4,13 +4,16 @@ import com.pims.backend.dto.MedicalRecordRequest;
 import com.pims.backend.entity.Appointment;
 import com.pims.backend.entity.MedicalRecord;
 import com.pims.backend.enums.AppointmentStatus;
+import com.pims.backend.event.AppointmentChangedEvent;
 import com.pims.backend.repository.AppointmentRepository;
 import com.pims.backend.repository.MedicalRecordRepository;
 import com.pims.backend.service.MedicalRecordService;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -19,11 +22,14 @@ public class MedicalRecordServiceImpl implements MedicalRecordService {
 
     private final MedicalRecordRepository medicalRecordRepository;
     private final AppointmentRepository appointmentRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public MedicalRecordServiceImpl(MedicalRecordRepository medicalRecordRepository,
-            AppointmentRepository appointmentRepository) {
+            AppointmentRepository appointmentRepository,
+            ApplicationEventPublisher eventPublisher) {
         this.medicalRecordRepository = medicalRecordRepository;
         this.appointmentRepository = appointmentRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -59,8 +65,12 @@ public class MedicalRecordServiceImpl implements MedicalRecordService {
         MedicalRecord savedRecord = medicalRecordRepository.save(medicalRecord);
 
         // Update appointment status to COMPLETED
-        appointment.setStatus(AppointmentStatus.COMPLETED);
-        appointmentRepository.save(appointment);
+        if (appointment.getStatus() != AppointmentStatus.COMPLETED) {
+            appointment.setStatus(AppointmentStatus.COMPLETED);
+            appointmentRepository.save(appointment);
+            eventPublisher.publishEvent(AppointmentChangedEvent.updated(appointment.getId(),
+                    Map.of("status", AppointmentStatus.COMPLETED)));
+        }
 
         return savedRecord;
     }
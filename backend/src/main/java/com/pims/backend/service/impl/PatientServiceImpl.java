@@ -1,29 +1,67 @@
 package com.pims.backend.service.impl;
 
+import com.pims.backend.dto.MicrochipLookupResult;
+import com.pims.backend.dto.PageResponse;
+import com.pims.backend.dto.PatientFacetResult;
+import com.pims.backend.dto.PatientFilter;
+import com.pims.backend.dto.PatientListItem;
 import com.pims.backend.dto.PatientRequest;
 import com.pims.backend.entity.Client;
 import com.pims.backend.entity.Patient;
 import com.pims.backend.enums.Sex;
 import com.pims.backend.enums.Species;
+import com.pims.backend.exception.EntityInUseException;
+import com.pims.backend.index.ClientSuggestIndex;
+import com.pims.backend.index.MicrochipIndex;
+import com.pims.backend.index.PatientFacetIndex;
+import com.pims.backend.repository.AppointmentRepository;
 import com.pims.backend.repository.ClientRepository;
 import com.pims.backend.repository.PatientRepository;
 import com.pims.backend.service.PatientService;
+import com.pims.backend.util.LikePatterns;
+import com.pims.backend.util.TransactionCallbacks;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
 @Transactional
 public class PatientServiceImpl implements PatientService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_MICROCHIP_BATCH = 500;
+    // Request sort key -> entity path
+    private static final Map<String, String> SORTABLE_FIELDS = Map.of(
+            "id", "id",
+            "name", "name",
+            "species", "species",
+            "birthDate", "birthDate",
+            "ownerName", "owner.lastName");
+
     private final PatientRepository patientRepository;
     private final ClientRepository clientRepository;
+    private final AppointmentRepository appointmentRepository;
+    private final ClientSuggestIndex clientSuggestIndex;
+    private final PatientFacetIndex patientFacetIndex;
+    private final MicrochipIndex microchipIndex;
 
-    public PatientServiceImpl(PatientRepository patientRepository, ClientRepository clientRepository) {
+    public PatientServiceImpl(PatientRepository patientRepository, ClientRepository clientRepository,
+            ClientSuggestIndex clientSuggestIndex, PatientFacetIndex patientFacetIndex,
+            MicrochipIndex microchipIndex, AppointmentRepository appointmentRepository) {
         this.patientRepository = patientRepository;
         this.clientRepository = clientRepository;
+        this.clientSuggestIndex = clientSuggestIndex;
+        this.patientFacetIndex = patientFacetIndex;
+        this.microchipIndex = microchipIndex;
+        this.appointmentRepository = appointmentRepository;
     }
 
     @Override
@@ -31,11 +69,105 @@ public class PatientServiceImpl implements PatientService {
         return patientRepository.findAll();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponse<PatientListItem> getPatientPage(int page, int size, String sort, PatientFilter filter) {
+        if (page < 0) {
+            throw new IllegalArgumentException("page must not be negative");
+        }
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        String query = filter.getQuery();
+        String pattern = query == null || query.isBlank()
+                ? null
+                : LikePatterns.contains(query);
+        return PageResponse.of(patientRepository.findListItems(filter.getSpecies(), filter.getSex(),
+                filter.getDeceased(), filter.getSterilized(), pattern,
+                PageRequest.of(page, pageSize, parseSort(sort))));
+    }
+
+    // Counts and matching ids come from the in-memory facet index; only the page's rows are read from the database
+    @Override
+    @Transactional(readOnly = true)
+    public PatientFacetResult searchFacets(Map<String, ? extends Collection<String>> filters, int page, int size) {
+        if (page < 0) {
+            throw new IllegalArgumentException("page must not be negative");
+        }
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        PatientFacetIndex.Selection selection = patientFacetIndex.select(filters, page * pageSize, pageSize);
+
+        Map<Long, PatientListItem> byId = new HashMap<>();
+        if (!selection.getPatientIds().isEmpty()) {
+            for (PatientListItem item : patientRepository.findListItemsByIds(selection.getPatientIds())) {
+                byId.put(item.getId(), item);
+            }
+        }
+        List<PatientListItem> content = selection.getPatientIds().stream()
+                .map(byId::get)
+                .filter(item -> item != null)
+                .toList();
+        int totalPages = (selection.getTotal() + pageSize - 1) / pageSize;
+        return new PatientFacetResult(new PageResponse<>(content, page, pageSize, selection.getTotal(), totalPages),
+                selection.getCounts());
+    }
+
+    // "field" or "field,asc|desc"; id is appended so equal keys page deterministically
+    private static Sort parseSort(String sort) {
+        if (sort == null || sort.isBlank()) {
+            return Sort.by("name", "id");
+        }
+        String[] parts = sort.split(",");
+        String path = SORTABLE_FIELDS.get(parts[0].trim());
+        if (path == null) {
+            throw new IllegalArgumentException("Cannot sort by " + parts[0].trim());
+        }
+        Sort.Direction direction = parts.length > 1
+                ? Sort.Direction.fromString(parts[1].trim())
+                : Sort.Direction.ASC;
+        Sort order = Sort.by(direction, path);
+        return path.equals("id") ? order : order.and(Sort.by("id"));
+    }
+
     @Override
     public Optional<Patient> getPatientById(Long id) {
         return patientRepository.findById(id);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<PatientListItem> getPatientByMicrochip(String chip) {
+        return lookupMicrochips(List.of(chip)).getFound().values().stream().findFirst();
+    }
+
+    // Chips resolve to ids in memory; all found patients are then read in one primary-key IN query
+    @Override
+    @Transactional(readOnly = true)
+    public MicrochipLookupResult lookupMicrochips(List<String> chips) {
+        if (chips.size() > MAX_MICROCHIP_BATCH) {
+            throw new IllegalArgumentException("At most " + MAX_MICROCHIP_BATCH + " chips per request");
+        }
+        Map<String, Long> patientIds = microchipIndex.resolve(chips);
+        Map<Long, PatientListItem> byId = new HashMap<>();
+        if (!patientIds.isEmpty()) {
+            for (PatientListItem item : patientRepository.findListItemsByIds(new HashSet<>(patientIds.values()))) {
+                byId.put(item.getId(), item);
+            }
+        }
+
+        MicrochipLookupResult result = new MicrochipLookupResult();
+        for (String chip : chips) {
+            String key = MicrochipIndex.normalize(chip);
+            Long patientId = patientIds.get(key);
+            PatientListItem item = patientId != null ? byId.get(patientId) : null;
+            // The row is the authority: a chip changed by another writer since it was indexed does not match
+            if (item != null && key.equals(MicrochipIndex.normalize(item.getMicrochipNumber()))) {
+                result.getFound().put(chip, item);
+            } else {
+                result.getNotFound().add(chip);
+            }
+        }
+        return result;
+    }
+
     @Override
     public List<Patient> getPatientsByOwnerId(Long ownerId) {
         return patientRepository.findByOwnerId(ownerId);
@@ -68,7 +200,10 @@ public class PatientServiceImpl implements PatientService {
 
         patient.setOwner(client);
 
-        return patientRepository.save(patient);
+        Patient saved = patientRepository.save(patient);
+        refreshOwnerAfterCommit(clientId);
+        refreshIndexesAfterCommit(saved.getId());
+        return saved;
     }
 
     @Override
@@ -112,12 +247,26 @@ public class PatientServiceImpl implements PatientService {
             }
         }
 
-        return patientRepository.save(patient);
+        Patient saved = patientRepository.save(patient);
+        if (request.getName() != null) {
+            refreshOwnerAfterCommit(ownerId(saved));
+        }
+        refreshIndexesAfterCommit(id);
+        return saved;
     }
 
     @Override
     public void deletePatient(Long id) {
-        patientRepository.deleteById(id);
+        patientRepository.findById(id).ifPresent(patient -> {
+            // Archived appointments keep their patient reference, like live ones
+            if (appointmentRepository.existsByPatientId(id) || appointmentRepository.existsArchivedByPatientId(id)) {
+                throw new EntityInUseException("Patient has appointment history");
+            }
+            Long ownerId = ownerId(patient);
+            patientRepository.delete(patient);
+            refreshOwnerAfterCommit(ownerId);
+            refreshIndexesAfterCommit(id);
+        });
     }
 
     @Override
@@ -128,7 +277,27 @@ public class PatientServiceImpl implements PatientService {
         Client newOwner = clientRepository.findById(newOwnerId)
                 .orElseThrow(() -> new RuntimeException("New owner not found"));
 
+        Long previousOwnerId = ownerId(patient);
         patient.setOwner(newOwner);
-        return patientRepository.save(patient);
+        Patient saved = patientRepository.save(patient);
+        refreshOwnerAfterCommit(previousOwnerId);
+        refreshOwnerAfterCommit(newOwnerId);
+        return saved;
+    }
+
+    // Pet names are part of the owner's typeahead entry
+    private void refreshOwnerAfterCommit(Long clientId) {
+        TransactionCallbacks.afterCommit(() -> clientSuggestIndex.refresh(clientId));
+    }
+
+    private void refreshIndexesAfterCommit(Long patientId) {
+        TransactionCallbacks.afterCommit(() -> {
+            patientFacetIndex.refresh(patientId);
+            microchipIndex.refresh(patientId);
+        });
+    }
+
+    private static Long ownerId(Patient patient) {
+        return patient.getOwner() != null ? patient.getOwner().getId() : null;
     }
 }
@@ -0,0 +1,191 @@
+package com.pims.backend.service.impl;
+
+import com.pims.backend.dto.TimelineEntry;
+import com.pims.backend.dto.TimelinePage;
+import com.pims.backend.enums.AppointmentStatus;
+import com.pims.backend.enums.AppointmentType;
+import com.pims.backend.enums.TimelineEntryKind;
+import com.pims.backend.repository.AppointmentRepository;
+import com.pims.backend.repository.MedicalRecordRepository;
+import com.pims.backend.repository.PatientRepository;
+import com.pims.backend.service.PatientTimelineService;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+
+/**
+ * A patient's appointments (live and archived) and medical records as one list, newest first.
+ *
+ * Each source is read with a keyset query in its own index order and at most
+ * {@code limit + 1} rows, and the sorted runs are merged through a priority queue, so
+ * a page costs the same on the first visit as on the hundredth. The order is
+ * (time, kind, id) descending; the cursor is that triple for the last entry returned,
+ * and each source turns it into "before this time, or at this time below this id".
+ */
+@Service
+@Transactional(readOnly = true)
+public class PatientTimelineServiceImpl implements PatientTimelineService {
+
+    private static final int MAX_LIMIT = 100;
+
+    private static final Comparator<TimelineEntry> NEWEST_FIRST = Comparator
+            .comparing(TimelineEntry::getAt)
+            .thenComparing(TimelineEntry::getKind)
+            .thenComparing(TimelineEntry::getId)
+            .reversed();
+
+    private final PatientRepository patientRepository;
+    private final AppointmentRepository appointmentRepository;
+    private final MedicalRecordRepository medicalRecordRepository;
+
+    public PatientTimelineServiceImpl(PatientRepository patientRepository,
+            AppointmentRepository appointmentRepository, MedicalRecordRepository medicalRecordRepository) {
+        this.patientRepository = patientRepository;
+        this.appointmentRepository = appointmentRepository;
+        this.medicalRecordRepository = medicalRecordRepository;
+    }
+
+    @Override
+    public Optional<TimelinePage> getTimeline(Long patientId, String cursor, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_LIMIT));
+        Cursor after = cursor == null || cursor.isBlank() ? null : Cursor.parse(cursor);
+        if (!patientRepository.existsById(patientId)) {
+            return Optional.empty();
+        }
+
+        // One extra row per source tells whether anything is left after this page
+        int fetch = pageSize + 1;
+        PageRequest page = PageRequest.of(0, fetch);
+        List<TimelineEntry> appointments;
+        List<TimelineEntry> archived;
+        List<TimelineEntry> records;
+        if (after == null) {
+            appointments = appointmentRepository.findTimelineFirstPage(patientId, page);
+            archived = toEntries(appointmentRepository.findArchivedTimelineFirstPage(patientId, fetch));
+            records = medicalRecordRepository.findTimelineFirstPage(patientId, page);
+        } else {
+            Long appointmentBound = after.idBound(TimelineEntryKind.APPOINTMENT);
+            Long recordBound = after.idBound(TimelineEntryKind.MEDICAL_RECORD);
+            appointments = appointmentRepository.findTimelineBefore(patientId, after.at, appointmentBound, page);
+            archived = toEntries(appointmentRepository.findArchivedTimelineBefore(patientId, after.at,
+                    appointmentBound, fetch));
+            records = medicalRecordRepository.findTimelineBefore(patientId, after.at, recordBound, page);
+        }
+
+        PriorityQueue<Run> heads = new PriorityQueue<>(3, Comparator.comparing(Run::head, NEWEST_FIRST));
+        for (List<TimelineEntry> source : List.of(appointments, archived, records)) {
+            if (!source.isEmpty()) {
+                heads.add(new Run(source.iterator()));
+            }
+        }
+
+        List<TimelineEntry> entries = new ArrayList<>(pageSize);
+        while (entries.size() < pageSize && !heads.isEmpty()) {
+            Run run = heads.poll();
+            entries.add(run.head());
+            if (run.advance()) {
+                heads.add(run);
+            }
+        }
+
+        String nextCursor = null;
+        if (!heads.isEmpty()) {
+            TimelineEntry last = entries.get(entries.size() - 1);
+            nextCursor = last.getAt() + "_" + last.getKind() + "_" + last.getId();
+        }
+        return Optional.of(new TimelinePage(patientId, entries, nextCursor));
+    }
+
+    // Columns as in AppointmentRepository.ARCHIVE_TIMELINE_SELECT
+    private static List<TimelineEntry> toEntries(List<Object[]> rows) {
+        List<TimelineEntry> entries = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            TimelineEntry entry = new TimelineEntry(((Number) row[0]).longValue(), toLocalDateTime(row[1]),
+                    toLocalDateTime(row[2]),
+                    row[3] != null ? AppointmentStatus.valueOf(row[3].toString()) : null,
+                    row[4] != null ? AppointmentType.valueOf(row[4].toString()) : null,
+                    (String) row[5], (String) row[6], (String) row[7]);
+            entry.setArchived(true);
+            entries.add(entry);
+        }
+        return entries;
+    }
+
+    private static LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return (LocalDateTime) value;
+    }
+
+    /**
+     * A source's remaining rows, positioned on its next entry.
+     */
+    private static final class Run {
+        private final Iterator<TimelineEntry> rows;
+        private TimelineEntry head;
+
+        Run(Iterator<TimelineEntry> rows) {
+            this.rows = rows;
+            this.head = rows.next();
+        }
+
+        TimelineEntry head() {
+            return head;
+        }
+
+        boolean advance() {
+            head = rows.hasNext() ? rows.next() : null;
+            return head != null;
+        }
+    }
+
+    /**
+     * Position after the last entry of the previous page: {@code <time>_<kind>_<id>}.
+     */
+    private static final class Cursor {
+        private final LocalDateTime at;
+        private final TimelineEntryKind kind;
+        private final long id;
+
+        private Cursor(LocalDateTime at, TimelineEntryKind kind, long id) {
+            this.at = at;
+            this.kind = kind;
+            this.id = id;
+        }
+
+        static Cursor parse(String cursor) {
+            int first = cursor.indexOf('_');
+            int last = cursor.lastIndexOf('_');
+            if (first < 0 || last <= first) {
+                throw new IllegalArgumentException("Malformed cursor");
+            }
+            try {
+                return new Cursor(LocalDateTime.parse(cursor.substring(0, first)),
+                        TimelineEntryKind.valueOf(cursor.substring(first + 1, last)),
+                        Long.parseLong(cursor.substring(last + 1)));
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("Malformed cursor", e);
+            }
+        }
+
+        // At the cursor's own time, kinds ranked below it come entirely after it, kinds above it not at all
+        Long idBound(TimelineEntryKind source) {
+            int rank = source.compareTo(kind);
+            if (rank < 0) {
+                return Long.MAX_VALUE;
+            }
+            return rank == 0 ? id : Long.MIN_VALUE;
+        }
+    }
+}
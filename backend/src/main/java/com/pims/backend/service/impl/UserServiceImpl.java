@@ -1,13 +1,19 @@
 package com.pims.backend.service.impl;
 
+import com.pims.backend.cache.NextAppointmentCache;
+import com.pims.backend.dto.AppointmentCalendarItem;
 import com.pims.backend.dto.auth.RegisterRequest;
 import com.pims.backend.entity.AppUser;
 import com.pims.backend.entity.Appointment;
 import com.pims.backend.entity.Role;
+import com.pims.backend.event.AppointmentChangedEvent;
+import com.pims.backend.index.BookingIndex;
 import com.pims.backend.repository.AppUserRepository;
 import com.pims.backend.repository.AppointmentRepository;
 import com.pims.backend.repository.RoleRepository;
 import com.pims.backend.service.UserService;
+import com.pims.backend.util.TransactionCallbacks;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,13 +30,21 @@ public class UserServiceImpl implements UserService {
     private final RoleRepository roleRepository;
     private final AppointmentRepository appointmentRepository;
     private final PasswordEncoder passwordEncoder;
+    private final BookingIndex bookingIndex;
+    private final NextAppointmentCache nextAppointmentCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     public UserServiceImpl(AppUserRepository appUserRepository, RoleRepository roleRepository,
-            AppointmentRepository appointmentRepository, PasswordEncoder passwordEncoder) {
+            AppointmentRepository appointmentRepository, PasswordEncoder passwordEncoder,
+            BookingIndex bookingIndex, NextAppointmentCache nextAppointmentCache,
+            ApplicationEventPublisher eventPublisher) {
         this.appUserRepository = appUserRepository;
         this.roleRepository = roleRepository;
         this.appointmentRepository = appointmentRepository;
         this.passwordEncoder = passwordEncoder;
+        this.bookingIndex = bookingIndex;
+        this.nextAppointmentCache = nextAppointmentCache;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -117,10 +131,24 @@ public class UserServiceImpl implements UserService {
         // Reassign appointments
         List<Appointment> appointments = appointmentRepository.findByVetId(id);
         for (Appointment appt : appointments) {
+            AppointmentCalendarItem before = AppointmentCalendarItem.from(appt);
             appt.setVet(johnDoe);
-            appointmentRepository.save(appt);
+            Appointment saved = appointmentRepository.save(appt);
+            // Open calendars still show the deleted vet until they hear about the move
+            eventPublisher.publishEvent(AppointmentChangedEvent.updated(before, AppointmentCalendarItem.from(saved)));
         }
+        // The archive references vets too; it holds no bookings, so only the database changes
+        appointmentRepository.reassignArchivedVet(id, johnDoe.getId());
 
         appUserRepository.deleteById(id);
+
+        // Reassigned slots now belong to the placeholder vet
+        Long placeholderId = johnDoe.getId();
+        TransactionCallbacks.afterCommit(() -> {
+            if (!appointments.isEmpty()) {
+                bookingIndex.reassignVet(id, placeholderId);
+            }
+            nextAppointmentCache.evictAll();
+        });
     }
 }
@@ -0,0 +1,62 @@
+package com.pims.backend.service.impl;
+
+import com.pims.backend.dto.VitalPoint;
+import com.pims.backend.dto.VitalSeries;
+import com.pims.backend.entity.Patient;
+import com.pims.backend.enums.VitalMetric;
+import com.pims.backend.repository.MedicalRecordRepository;
+import com.pims.backend.repository.PatientRepository;
+import com.pims.backend.service.VitalsService;
+import com.pims.backend.util.Lttb;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Vital-sign series from medical records, thinned with LTTB so a long history charts
+ * in a few hundred points while keeping its peaks.
+ */
+@Service
+@Transactional(readOnly = true)
+public class VitalsServiceImpl implements VitalsService {
+
+    private static final int MIN_POINTS = 3;
+    private static final int MAX_POINTS = 5000;
+
+    private final PatientRepository patientRepository;
+    private final MedicalRecordRepository medicalRecordRepository;
+
+    public VitalsServiceImpl(PatientRepository patientRepository, MedicalRecordRepository medicalRecordRepository) {
+        this.patientRepository = patientRepository;
+        this.medicalRecordRepository = medicalRecordRepository;
+    }
+
+    @Override
+    public Optional<VitalSeries> getVitals(Long patientId, VitalMetric metric, LocalDateTime from, LocalDateTime to,
+            int maxPoints) {
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+        Optional<Patient> patient = patientRepository.findById(patientId);
+        if (patient.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<VitalPoint> points = switch (metric) {
+            case WEIGHT -> medicalRecordRepository.findWeightSeries(patientId, from, to);
+            case TEMPERATURE -> medicalRecordRepository.findTemperatureSeries(patientId, from, to);
+        };
+        int target = Math.max(MIN_POINTS, Math.min(maxPoints, MAX_POINTS));
+        List<VitalPoint> sampled = Lttb.downsample(points, target,
+                p -> p.getAt().toEpochSecond(ZoneOffset.UTC), VitalPoint::getValue);
+
+        // The patient's own weight field is the latest known weight, also when no record carries one
+        Float weight = patient.get().getWeight();
+        Double current = metric == VitalMetric.WEIGHT && weight != null ? weight.doubleValue() : null;
+        return Optional.of(new VitalSeries(patientId, metric, current, points.size(), sampled));
+    }
+}
@@ -0,0 +1,102 @@
+package com.pims.backend.util;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal streaming RFC 4180 reader: one record at a time, quoted fields may contain
+ * separators, doubled quotes and line breaks. Holds only the current record in memory.
+ */
+public class CsvReader {
+
+    private final Reader reader;
+    private final char separator;
+    private int lookahead = -2;
+    private long recordNumber;
+
+    public CsvReader(Reader reader) {
+        this(reader, ',');
+    }
+
+    public CsvReader(Reader reader, char separator) {
+        this.reader = reader;
+        this.separator = separator;
+    }
+
+    /**
+     * @return the next record, or {@code null} at end of input
+     */
+    public List<String> next() throws IOException {
+        int c = read();
+        if (c == -1) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean fieldStart = true;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new IOException("Unterminated quoted field in record " + (recordNumber + 1));
+                }
+                if (c == '"') {
+                    int following = read();
+                    if (following == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        c = following;
+                        continue;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && fieldStart) {
+                quoted = true;
+                fieldStart = false;
+            } else if (c == separator) {
+                fields.add(field.toString());
+                field.setLength(0);
+                fieldStart = true;
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r') {
+                    int following = read();
+                    if (following != '\n') {
+                        unread(following);
+                    }
+                }
+                fields.add(field.toString());
+                recordNumber++;
+                return fields;
+            } else {
+                field.append((char) c);
+                fieldStart = false;
+            }
+            c = read();
+        }
+    }
+
+    /**
+     * Number of records returned so far, including the header.
+     */
+    public long getRecordNumber() {
+        return recordNumber;
+    }
+
+    private int read() throws IOException {
+        if (lookahead != -2) {
+            int c = lookahead;
+            lookahead = -2;
+            return c;
+        }
+        return reader.read();
+    }
+
+    private void unread(int c) {
+        lookahead = c;
+    }
+}
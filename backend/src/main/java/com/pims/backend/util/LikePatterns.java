@@ -0,0 +1,22 @@
+package com.pims.backend.util;
+
+import java.util.Locale;
+
+/**
+ * Patterns for JPQL LIKE ... ESCAPE '\' searches, so user input containing %, _ or \
+ * matches those characters literally.
+ */
+public final class LikePatterns {
+
+    private LikePatterns() {
+    }
+
+    public static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    // Trimmed, lower-cased and wrapped for a substring match against LOWER(column)
+    public static String contains(String query) {
+        return "%" + escape(query.trim().toLowerCase(Locale.ROOT)) + "%";
+    }
+}
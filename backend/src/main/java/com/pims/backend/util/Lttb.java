@@ -0,0 +1,75 @@
+package com.pims.backend.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Largest-Triangle-Three-Buckets downsampling of a time series.
+ *
+ * Keeps the first and last points and, from each of the buckets in between, the point
+ * forming the largest triangle with the previously kept point and the average of the
+ * next bucket. Peaks and dips survive, which min/avg bucketing would flatten.
+ */
+public final class Lttb {
+
+    private Lttb() {
+    }
+
+    /**
+     * @param points    ordered by x
+     * @param maxPoints target size; below 3 or at least {@code points.size()} returns the input
+     */
+    public static <T> List<T> downsample(List<T> points, int maxPoints, ToDoubleFunction<T> x, ToDoubleFunction<T> y) {
+        int n = points.size();
+        if (maxPoints < 3 || n <= maxPoints) {
+            return points;
+        }
+
+        List<T> sampled = new ArrayList<>(maxPoints);
+        sampled.add(points.get(0));
+        double bucketSize = (double) (n - 2) / (maxPoints - 2);
+        int previous = 0;
+
+        for (int bucket = 0; bucket < maxPoints - 2; bucket++) {
+            // Average of the next bucket (the last point when this is the final bucket)
+            int nextStart = (int) Math.floor((bucket + 1) * bucketSize) + 1;
+            int nextEnd = Math.min((int) Math.floor((bucket + 2) * bucketSize) + 1, n);
+            double avgX = 0;
+            double avgY = 0;
+            for (int i = nextStart; i < nextEnd; i++) {
+                avgX += x.applyAsDouble(points.get(i));
+                avgY += y.applyAsDouble(points.get(i));
+            }
+            int nextCount = nextEnd - nextStart;
+            if (nextCount > 0) {
+                avgX /= nextCount;
+                avgY /= nextCount;
+            } else {
+                avgX = x.applyAsDouble(points.get(n - 1));
+                avgY = y.applyAsDouble(points.get(n - 1));
+            }
+
+            int start = (int) Math.floor(bucket * bucketSize) + 1;
+            int end = (int) Math.floor((bucket + 1) * bucketSize) + 1;
+            double ax = x.applyAsDouble(points.get(previous));
+            double ay = y.applyAsDouble(points.get(previous));
+            double maxArea = -1;
+            int chosen = start;
+            for (int i = start; i < end; i++) {
+                double px = x.applyAsDouble(points.get(i));
+                double py = y.applyAsDouble(points.get(i));
+                double area = Math.abs((ax - avgX) * (py - ay) - (ax - px) * (avgY - ay));
+                if (area > maxArea) {
+                    maxArea = area;
+                    chosen = i;
+                }
+            }
+            sampled.add(points.get(chosen));
+            previous = chosen;
+        }
+
+        sampled.add(points.get(n - 1));
+        return sampled;
+    }
+}
@@ -0,0 +1,47 @@
+package com.pims.backend.util;
+
+/**
+ * Normalises free-form phone numbers to E.164 ("+306971234567").
+ * Numbers without a country code are taken as Greek.
+ */
+public final class PhoneNumbers {
+
+    private static final String DEFAULT_COUNTRY_CODE = "30";
+    private static final int MIN_DIGITS = 8;
+    private static final int MAX_DIGITS = 15;
+
+    private PhoneNumbers() {
+    }
+
+    /**
+     * @return the E.164 form, or {@code null} if the input cannot be read as a full number
+     */
+    public static String toE164(String raw) {
+        if (raw == null || raw.isBlank()) {
+            return null;
+        }
+        String trimmed = raw.trim();
+        String digits = SearchText.digits(trimmed);
+
+        String international;
+        if (trimmed.startsWith("+")) {
+            international = digits;
+        } else if (digits.startsWith("00")) {
+            international = digits.substring(2);
+        } else if (digits.length() == 10 && (digits.startsWith("2") || digits.startsWith("69")
+                || digits.startsWith("8"))) {
+            // Greek landline, mobile or freephone without the country code
+            international = DEFAULT_COUNTRY_CODE + digits;
+        } else if (digits.length() == 12 && digits.startsWith(DEFAULT_COUNTRY_CODE)) {
+            international = digits;
+        } else {
+            return null;
+        }
+
+        if (international.length() < MIN_DIGITS || international.length() > MAX_DIGITS
+                || international.startsWith("0")) {
+            return null;
+        }
+        return "+" + international;
+    }
+}
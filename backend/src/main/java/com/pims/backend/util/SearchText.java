@@ -0,0 +1,100 @@
+package com.pims.backend.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Folding and tokenising of names for in-memory search: lower case, accents removed,
+ * Greek final sigma unified, so "Παπαδόπουλος" and "παπαδοπουλοσ" compare equal.
+ */
+public final class SearchText {
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private static final String GREEK = "αβγδεζηθικλμνξοπρστυφχψω";
+    private static final String[] GREEK_LATIN = { "a", "v", "g", "d", "e", "z", "i", "th", "i", "k", "l", "m",
+            "n", "ks", "o", "p", "r", "s", "t", "y", "f", "ch", "ps", "o" };
+    // Sound class of a..z; '0' marks vowels and h, w, y, which only separate consonants
+    private static final String SOUND_CLASSES = "01230120022455012623010202";
+
+    private SearchText() {
+    }
+
+    public static String fold(String text) {
+        if (text == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        return COMBINING_MARKS.matcher(decomposed).replaceAll("")
+                .toLowerCase(Locale.ROOT)
+                .replace('ς', 'σ');
+    }
+
+    public static List<String> tokens(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (String token : NON_WORD.split(fold(text))) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Folded text with Greek letters transliterated, so a name typed in either
+     * alphabet compares against the other: "Γιώργος" becomes "giorgos".
+     */
+    public static String latin(String text) {
+        String folded = fold(text);
+        StringBuilder latin = new StringBuilder(folded.length() + 4);
+        for (int i = 0; i < folded.length(); i++) {
+            char c = folded.charAt(i);
+            int greek = GREEK.indexOf(c);
+            latin.append(greek >= 0 ? GREEK_LATIN[greek] : String.valueOf(c));
+        }
+        return latin.toString();
+    }
+
+    /**
+     * Soundex-style key of a name: consonants grouped by sound, vowels dropped and
+     * repeats collapsed, at most four symbols. Spelling variants such as "Kostas",
+     * "Costas" and "Κώστας" share a key.
+     */
+    public static String phoneticKey(String text) {
+        String latin = latin(text);
+        StringBuilder key = new StringBuilder(4);
+        char previous = 0;
+        for (int i = 0; i < latin.length() && key.length() < 4; i++) {
+            char c = latin.charAt(i);
+            if (c < 'a' || c > 'z') {
+                continue;
+            }
+            char code = SOUND_CLASSES.charAt(c - 'a');
+            if (key.isEmpty() && code == '0') {
+                key.append('v');
+            } else if (code != '0' && code != previous) {
+                key.append(code);
+            }
+            previous = code;
+        }
+        return key.toString();
+    }
+
+    public static String digits(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder digits = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits.append(c);
+            }
+        }
+        return digits.toString();
+    }
+}
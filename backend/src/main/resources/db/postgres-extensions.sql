@@ -0,0 +1,46 @@
+-- Postgres-specific indexes that JPA annotations cannot express.
+-- Runs after Hibernate has created the schema (spring.jpa.defer-datasource-initialization).
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- Appointment and patient search: LOWER(col) LIKE '%q%' on these columns is served by trigram GIN indexes
+CREATE INDEX IF NOT EXISTS idx_clients_first_name_trgm ON clients USING gin (lower(first_name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_clients_last_name_trgm ON clients USING gin (lower(last_name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_clients_phone_trgm ON clients USING gin (lower(phone) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_patients_name_trgm ON patients USING gin (lower(name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_patients_breed_trgm ON patients USING gin (lower(breed) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_appointments_reason_trgm ON appointments USING gin (lower(reason) gin_trgm_ops);
+
+-- Archive of closed appointments, range-partitioned by start_time month.
+-- Monthly partitions are created on demand by the archive job; anything else lands in the default partition.
+-- Dropped and recreated with the rest of the schema (ddl-auto=create-drop) so ids never go stale.
+DROP TABLE IF EXISTS appointments_archive;
+CREATE TABLE appointments_archive (
+    id BIGINT NOT NULL,
+    start_time TIMESTAMP(6) NOT NULL,
+    end_time TIMESTAMP(6) NOT NULL,
+    reason VARCHAR(255),
+    notes TEXT,
+    status VARCHAR(255) NOT NULL,
+    type VARCHAR(255) NOT NULL,
+    client_id BIGINT NOT NULL,
+    patient_id BIGINT NOT NULL,
+    vet_id BIGINT,
+    resource_id BIGINT,
+    updated_at TIMESTAMP(6),
+    archived_at TIMESTAMP(6) NOT NULL DEFAULT now(),
+    PRIMARY KEY (id, start_time),
+    -- Same references as the live table, so deleting a client, patient, vet or resource cannot orphan history
+    CONSTRAINT fk_appointments_archive_client FOREIGN KEY (client_id) REFERENCES clients (id),
+    CONSTRAINT fk_appointments_archive_patient FOREIGN KEY (patient_id) REFERENCES patients (id),
+    CONSTRAINT fk_appointments_archive_vet FOREIGN KEY (vet_id) REFERENCES app_users (id),
+    CONSTRAINT fk_appointments_archive_resource FOREIGN KEY (resource_id) REFERENCES resources (id)
+) PARTITION BY RANGE (start_time);
+CREATE TABLE appointments_archive_default PARTITION OF appointments_archive DEFAULT;
+CREATE INDEX idx_appointments_archive_client ON appointments_archive (client_id, start_time);
+CREATE INDEX idx_appointments_archive_patient ON appointments_archive (patient_id, start_time);
+CREATE INDEX idx_appointments_archive_vet ON appointments_archive (vet_id);
+
+-- Archive job candidates: closed rows by age
+CREATE INDEX IF NOT EXISTS idx_appointments_closed_start_time ON appointments (start_time)
+    WHERE status IN ('COMPLETED', 'CANCELLED', 'NO_SHOW');
@@ -0,0 +1,190 @@
+package com.pims.backend.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.pims.backend.exception.BookingConflictException;
+import com.pims.backend.repository.AppointmentRepository;
+
+class BookingIndexTest {
+
+    private static final LocalDateTime NINE = LocalDateTime.of(2030, 1, 7, 9, 0);
+
+    private BookingIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new BookingIndex(mock(AppointmentRepository.class));
+    }
+
+    @Test
+    void rejectsOverlapWithSameVet() {
+        index.reserve(slot(1L, 10L, null, 0, 30));
+
+        BookingConflictException e = assertThrows(BookingConflictException.class,
+                () -> index.reserve(slot(2L, 10L, null, 15, 45)));
+        assertEquals(1L, e.getConflictingAppointmentId());
+        assertNull(index.get(2L));
+    }
+
+    @Test
+    void rejectsOverlapWithSameResourceAcrossVets() {
+        index.reserve(slot(1L, 10L, 100L, 0, 60));
+
+        assertThrows(BookingConflictException.class, () -> index.reserve(slot(2L, 11L, 100L, 30, 90)));
+    }
+
+    @Test
+    void acceptsBackToBackAndOtherVets() {
+        index.reserve(slot(1L, 10L, 100L, 0, 30));
+        index.reserve(slot(2L, 10L, 100L, 30, 60));
+        index.reserve(slot(3L, 11L, 101L, 0, 30));
+
+        assertEquals(2, index.bookingsForVet(10L, NINE, NINE.plusHours(1)).size());
+        assertEquals(1, index.bookingsForResource(101L, NINE, NINE.plusHours(1)).size());
+    }
+
+    @Test
+    void findsOverlapBehindLongBooking() {
+        // Starts well before the probe window; only the longest-booking scan window reaches it
+        index.reserve(slot(1L, 10L, null, 0, 240));
+
+        assertThrows(BookingConflictException.class, () -> index.reserve(slot(2L, 10L, null, 200, 210)));
+    }
+
+    @Test
+    void movingAnAppointmentDoesNotClashWithItself() {
+        index.reserve(slot(1L, 10L, null, 0, 30));
+
+        Booking previous = index.reserve(slot(1L, 10L, null, 15, 45));
+
+        assertEquals(NINE, previous.getStartTime());
+        assertEquals(NINE.plusMinutes(15), index.get(1L).getStartTime());
+        assertEquals(1, index.bookingsForVet(10L, NINE, NINE.plusHours(1)).size());
+    }
+
+    @Test
+    void reserveAllTakesNothingWhenOneSlotIsTaken() {
+        index.reserve(slot(1L, 10L, null, 60, 90));
+
+        assertThrows(BookingConflictException.class, () -> index.reserveAll(List.of(
+                slot(2L, 10L, null, 0, 30),
+                slot(3L, 10L, null, 75, 105))));
+
+        assertNull(index.get(2L));
+        assertNull(index.get(3L));
+        assertEquals(1, index.bookingsForVet(10L, NINE, NINE.plusHours(3)).size());
+    }
+
+    @Test
+    void reserveAllRejectsBatchOverlappingItself() {
+        assertThrows(BookingConflictException.class, () -> index.reserveAll(List.of(
+                slot(2L, 10L, null, 0, 30),
+                slot(3L, 11L, 100L, 60, 90),
+                slot(4L, 12L, 100L, 80, 100))));
+
+        assertTrue(index.bookingsForVet(10L, NINE, NINE.plusHours(3)).isEmpty());
+        assertTrue(index.bookingsForResource(100L, NINE, NINE.plusHours(3)).isEmpty());
+    }
+
+    @Test
+    void restoreUndoesMoveOnRollback() {
+        Booking original = slot(1L, 10L, null, 0, 30);
+        index.reserve(original);
+        Booking previous = index.reserve(slot(1L, 11L, null, 60, 90));
+
+        index.restore(1L, previous);
+
+        assertSame(original, index.get(1L));
+        assertTrue(index.bookingsForVet(11L, NINE, NINE.plusHours(3)).isEmpty());
+        assertThrows(BookingConflictException.class, () -> index.reserve(slot(2L, 10L, null, 0, 30)));
+    }
+
+    @Test
+    void restoreUndoesNewReservationAndRelease() {
+        Booking previous = index.reserve(slot(1L, 10L, null, 0, 30));
+        index.restore(1L, previous);
+        assertNull(index.get(1L));
+
+        Booking held = slot(2L, 10L, null, 0, 30);
+        index.reserve(held);
+        Booking released = index.release(2L);
+        index.restore(2L, released);
+        assertSame(held, index.get(2L));
+    }
+
+    @Test
+    void reassignVetMovesBookingsAndKeepsResources() {
+        index.reserve(slot(1L, 10L, 100L, 0, 30));
+        index.reserve(slot(2L, 10L, null, 60, 90));
+        index.reserve(slot(3L, 11L, null, 0, 30));
+
+        assertEquals(2, index.reassignVet(10L, 99L));
+
+        assertTrue(index.bookingsForVet(10L, NINE, NINE.plusHours(3)).isEmpty());
+        assertEquals(2, index.bookingsForVet(99L, NINE, NINE.plusHours(3)).size());
+        assertEquals(99L, index.bookingsForResource(100L, NINE, NINE.plusHours(1)).get(0).getVetId());
+        assertSame(index.get(3L), index.bookingsForVet(11L, NINE, NINE.plusHours(1)).get(0));
+    }
+
+    @Test
+    void concurrentWritersNeitherDeadlockNorDoubleBook() {
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            int threads = 8;
+            AtomicInteger winners = new AtomicInteger();
+            CountDownLatch start = new CountDownLatch(1);
+            ExecutorService pool = Executors.newFixedThreadPool(threads);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                long appointmentId = t + 1;
+                int base = 1000 * (t + 1);
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    // Each move locks the old and the new vet and resource, crossing the other writers' keys
+                    for (int i = 0; i < 500; i++) {
+                        boolean even = i % 2 == 0;
+                        index.reserve(slot(1000 + appointmentId, even ? 10L : 11L, even ? 100L : 101L,
+                                base + i, base + i + 1));
+                    }
+                    try {
+                        index.reserve(slot(appointmentId, 20 + appointmentId, 200L, 0, 30));
+                        winners.incrementAndGet();
+                    } catch (BookingConflictException e) {
+                        // Lost the race for resource 200
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            pool.shutdown();
+
+            assertEquals(1, winners.get());
+            assertEquals(1, index.bookingsForResource(200L, NINE, NINE.plusHours(1)).size());
+        });
+    }
+
+    private static Booking slot(Long appointmentId, Long vetId, Long resourceId, int fromMinute, int toMinute) {
+        return new Booking(appointmentId, vetId, resourceId, NINE.plusMinutes(fromMinute), NINE.plusMinutes(toMinute));
+    }
+}
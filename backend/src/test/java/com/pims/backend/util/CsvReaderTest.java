@@ -0,0 +1,71 @@
+package com.pims.backend.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class CsvReaderTest {
+
+    @Test
+    void splitsPlainRecordsOnAnyLineEnding() throws IOException {
+        CsvReader reader = csv("a,b\r\nc,d\ne,f\rg,h");
+
+        assertEquals(List.of("a", "b"), reader.next());
+        assertEquals(List.of("c", "d"), reader.next());
+        assertEquals(List.of("e", "f"), reader.next());
+        assertEquals(List.of("g", "h"), reader.next());
+        assertNull(reader.next());
+        assertEquals(4, reader.getRecordNumber());
+    }
+
+    @Test
+    void keepsSeparatorsInsideQuotes() throws IOException {
+        CsvReader reader = csv("\"Papadopoulos, Maria\",\"Athens, GR\",x\n");
+
+        assertEquals(List.of("Papadopoulos, Maria", "Athens, GR", "x"), reader.next());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void unescapesDoubledQuotes() throws IOException {
+        CsvReader reader = csv("\"say \"\"hi\"\"\",\"\"\"\"\n");
+
+        assertEquals(List.of("say \"hi\"", "\""), reader.next());
+    }
+
+    @Test
+    void keepsLineBreaksInsideQuotes() throws IOException {
+        CsvReader reader = csv("1,\"line one\r\nline two\",end\r\n2,next,row\r\n");
+
+        assertEquals(List.of("1", "line one\r\nline two", "end"), reader.next());
+        assertEquals(List.of("2", "next", "row"), reader.next());
+        assertEquals(2, reader.getRecordNumber());
+    }
+
+    @Test
+    void keepsEmptyFields() throws IOException {
+        CsvReader reader = csv(",,\"\"\n");
+
+        assertEquals(List.of("", "", ""), reader.next());
+    }
+
+    @Test
+    void rejectsUnterminatedQuote() throws IOException {
+        CsvReader reader = csv("ok,row\n\"never closed,x\n");
+
+        assertEquals(List.of("ok", "row"), reader.next());
+        IOException e = assertThrows(IOException.class, reader::next);
+        assertTrue(e.getMessage().contains("record 2"));
+    }
+
+    private static CsvReader csv(String text) {
+        return new CsvReader(new StringReader(text));
+    }
+}
@@ -0,0 +1,44 @@
+package com.pims.backend.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+
+class PhoneNumbersTest {
+
+    @Test
+    void keepsNumbersWithPlusPrefix() {
+        assertEquals("+306971234567", PhoneNumbers.toE164("+30 697 123 4567"));
+        assertEquals("+442071234567", PhoneNumbers.toE164("+44 20 7123 4567"));
+    }
+
+    @Test
+    void dropsDoubleZeroInternationalPrefix() {
+        assertEquals("+306971234567", PhoneNumbers.toE164("0030 697 123 4567"));
+        assertEquals("+302101234567", PhoneNumbers.toE164("0030-210-123-4567"));
+    }
+
+    @Test
+    void addsGreekCountryCodeToTenDigitLocalNumbers() {
+        assertEquals("+306971234567", PhoneNumbers.toE164("6971234567"));
+        assertEquals("+302101234567", PhoneNumbers.toE164("210 123 4567"));
+        assertEquals("+308001234567", PhoneNumbers.toE164("800 123 4567"));
+    }
+
+    @Test
+    void readsTwelveDigitsStartingWithThirtyAsInternational() {
+        assertEquals("+306971234567", PhoneNumbers.toE164("306971234567"));
+        assertEquals("+302101234567", PhoneNumbers.toE164("30 210 123 4567"));
+    }
+
+    @Test
+    void rejectsNumbersThatAreNotComplete() {
+        assertNull(PhoneNumbers.toE164(null));
+        assertNull(PhoneNumbers.toE164("   "));
+        assertNull(PhoneNumbers.toE164("1234567"));
+        assertNull(PhoneNumbers.toE164("5971234567"));
+        assertNull(PhoneNumbers.toE164("+30 12"));
+        assertNull(PhoneNumbers.toE164("00 0697 123 4567"));
+    }
+}
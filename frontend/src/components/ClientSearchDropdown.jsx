@@ -1,32 +1,40 @@
 import React, { useState, useEffect, useRef } from 'react';
+import api from '../context/axiosConfig';
 
-const ClientSearchDropdown = ({ clients, selectedClient, onSelect, disabled }) => {
+const SUGGEST_LIMIT = 10;
+const SUGGEST_DEBOUNCE_MS = 120;
+
+const ClientSearchDropdown = ({ clients, selectedClient, onSelect, onClientSelect, disabled, placeholder }) => {
     const [searchTerm, setSearchTerm] = useState('');
     const [isOpen, setIsOpen] = useState(false);
     const [filteredClients, setFilteredClients] = useState([]);
     const dropdownRef = useRef(null);
     const inputRef = useRef(null);
+    const handleChange = onSelect || onClientSelect;
 
     useEffect(() => {
         if (!searchTerm.trim()) {
             // Safe check for clients
-            setFilteredClients((clients || []).slice(0, 10));
+            setFilteredClients((clients || []).slice(0, SUGGEST_LIMIT));
             return;
         }
-        const searchLower = searchTerm.toLowerCase();
-        const filtered = (clients || []).filter(client => {
-            const firstName = (client.firstName || '').toLowerCase();
-            const lastName = (client.lastName || '').toLowerCase();
-            const fullName = `${firstName} ${lastName}`;
-            const phone = client.phoneNumber || client.phone || '';
-            return (
-                firstName.includes(searchLower) ||
-                lastName.includes(searchLower) ||
-                fullName.includes(searchLower) ||
-                phone.includes(searchTerm)
-            );
-        });
-        setFilteredClients(filtered.slice(0, 10));
+        // Matching and ranking happen server-side against the in-memory client index
+        let cancelled = false;
+        const timer = setTimeout(async () => {
+            try {
+                const response = await api.get('/api/clients/suggest', {
+                    params: { q: searchTerm, limit: SUGGEST_LIMIT }
+                });
+                if (!cancelled) setFilteredClients(response.data || []);
+            } catch (error) {
+                console.error('Error fetching client suggestions:', error);
+                if (!cancelled) setFilteredClients([]);
+            }
+        }, SUGGEST_DEBOUNCE_MS);
+        return () => {
+            cancelled = true;
+            clearTimeout(timer);
+        };
     }, [searchTerm, clients]);
 
     useEffect(() => {
@@ -40,13 +48,13 @@ const ClientSearchDropdown = ({ clients, selectedClient, onSelect, disabled }) =
     }, []);
 
     const handleSelect = (client) => {
-        onSelect(client);
+        handleChange(client);
         setSearchTerm('');
         setIsOpen(false);
     };
 
     const handleClear = () => {
-        onSelect(null);
+        handleChange(null);
         setSearchTerm('');
         inputRef.current?.focus();
     };
@@ -94,7 +102,7 @@ const ClientSearchDropdown = ({ clients, selectedClient, onSelect, disabled }) =
                                 setIsOpen(true);
                             }}
                             onFocus={() => setIsOpen(true)}
-                            placeholder="Search Client by Name or Phone..."
+                            placeholder={placeholder || "Search Client by Name, Phone or Pet..."}
                             disabled={disabled}
                             className="w-full border border-gray-300 rounded-md px-4 py-2 pr-10 focus:outline-none focus:ring-2 focus:ring-blue-500 disabled:bg-gray-100 disabled:cursor-not-allowed"
                         />
@@ -119,6 +127,9 @@ const ClientSearchDropdown = ({ clients, selectedClient, onSelect, disabled }) =
                                         📞 {client.phoneNumber || client.phone || 'No phone'}
                                         {client.email && ` • ${client.email}`}
                                     </div>
+                                    {client.petNames?.length > 0 && (
+                                        <div className="text-xs text-gray-400">🐾 {client.petNames.join(', ')}</div>
+                                    )}
                                 </div>
                             ))}
                         </div>
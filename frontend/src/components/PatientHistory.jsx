@@ -1,46 +1,76 @@
-import React, { useState, useEffect } from 'react';
-import axios from 'axios';
+import React, { useState, useEffect, useRef, useCallback } from 'react';
+import api from '../context/axiosConfig';
 import { format } from 'date-fns';
 
+const PAGE_SIZE = 20;
+
 const PatientHistory = ({ patientId }) => {
   const [history, setHistory] = useState([]);
+  const [nextCursor, setNextCursor] = useState(null);
+  const [hasMore, setHasMore] = useState(true);
   const [loading, setLoading] = useState(false);
   const [error, setError] = useState(null);
+  const sentinelRef = useRef(null);
+  // The request in flight: a new patient aborts it, a repeated scroll trigger waits for it
+  const request = useRef(null);
 
-  useEffect(() => {
-    if (!patientId) return;
-
-    const fetchHistory = async () => {
-      setLoading(true);
-      setError(null);
-      try {
-        // Assuming the backend supports filtering by patientId via query param
-        const response = await axios.get(`http://localhost:8080/api/medical-records?patientId=${patientId}`);
-        setHistory(response.data);
-      } catch (err) {
-        console.error("Error fetching patient history:", err);
-        setError("Failed to load patient history.");
-      } finally {
+  const loadPage = useCallback(async (cursor, reset) => {
+    if (request.current && !reset) return;
+    request.current?.abort();
+    const controller = new AbortController();
+    request.current = controller;
+    setLoading(true);
+    setError(null);
+    try {
+      const params = { limit: PAGE_SIZE };
+      if (cursor) params.cursor = cursor;
+      const response = await api.get(`/api/patients/${patientId}/timeline`, { params, signal: controller.signal });
+      // A response that lost the race to a newer request belongs to another patient or page
+      if (controller.signal.aborted) return;
+      const page = response.data;
+      setHistory(prev => (reset ? page.entries : [...prev, ...page.entries]));
+      setNextCursor(page.nextCursor);
+      setHasMore(Boolean(page.nextCursor));
+    } catch (err) {
+      if (controller.signal.aborted) return;
+      console.error("Error fetching patient history:", err);
+      setError("Failed to load patient history.");
+      setHasMore(false);
+    } finally {
+      if (request.current === controller) {
+        request.current = null;
         setLoading(false);
       }
-    };
-
-    fetchHistory();
+    }
   }, [patientId]);
 
-  if (!patientId) {
-    return <div>Please select a patient to view history.</div>;
-  }
+  useEffect(() => {
+    if (!patientId) return undefined;
+    setHistory([]);
+    setNextCursor(null);
+    setHasMore(true);
+    loadPage(null, true);
+    return () => request.current?.abort();
+  }, [patientId, loadPage]);
 
-  if (loading) {
-    return <div>Loading history...</div>;
-  }
+  // Fetch the next page when the bottom of the list scrolls into view
+  useEffect(() => {
+    const sentinel = sentinelRef.current;
+    if (!sentinel || !hasMore) return;
+    const observer = new IntersectionObserver((entries) => {
+      if (entries[0].isIntersecting && nextCursor) {
+        loadPage(nextCursor, false);
+      }
+    }, { rootMargin: '200px' });
+    observer.observe(sentinel);
+    return () => observer.disconnect();
+  }, [hasMore, nextCursor, loadPage]);
 
-  if (error) {
-    return <div style={{ color: 'red' }}>{error}</div>;
+  if (!patientId) {
+    return <div>Please select a patient to view history.</div>;
   }
 
-  if (history.length === 0) {
+  if (!loading && !error && history.length === 0) {
     return <div>No history available for this patient.</div>;
   }
 
@@ -48,33 +78,57 @@ const PatientHistory = ({ patientId }) => {
     <div className="patient-history">
       <h3>Patient History</h3>
       <div style={{ display: 'flex', flexDirection: 'column', gap: '15px' }}>
-        {history.map((record) => (
-          <div 
-            key={record.id} 
-            style={{ 
-              border: '1px solid #ddd', 
-              borderRadius: '8px', 
+        {history.map((entry) => (
+          <div
+            key={`${entry.kind}-${entry.id}`}
+            style={{
+              border: '1px solid #ddd',
+              borderRadius: '8px',
               padding: '15px',
-              backgroundColor: '#f9f9f9'
+              backgroundColor: entry.kind === 'MEDICAL_RECORD' ? '#f9f9f9' : '#f4f8ff'
             }}
           >
             <div style={{ marginBottom: '10px', borderBottom: '1px solid #eee', paddingBottom: '5px' }}>
-              <strong>Date: </strong> 
-              {record.createdAt ? format(new Date(record.createdAt), 'PPP p') : 'Unknown Date'}
-            </div>
-            
-            <div style={{ marginBottom: '8px' }}>
-              <strong>Assessment:</strong>
-              <p style={{ margin: '5px 0', whiteSpace: 'pre-wrap' }}>{record.assessment || 'N/A'}</p>
-            </div>
-            
-            <div>
-              <strong>Plan:</strong>
-              <p style={{ margin: '5px 0', whiteSpace: 'pre-wrap' }}>{record.plan || 'N/A'}</p>
+              <strong>{entry.kind === 'MEDICAL_RECORD' ? 'Medical record' : 'Appointment'} – </strong>
+              {entry.at ? format(new Date(entry.at), 'PPP p') : 'Unknown Date'}
+              {entry.archived && <span style={{ marginLeft: '8px', color: '#888' }}>(archived)</span>}
             </div>
+
+            {entry.kind === 'MEDICAL_RECORD' ? (
+              <>
+                <div style={{ marginBottom: '8px' }}>
+                  <strong>Diagnosis:</strong>
+                  <p style={{ margin: '5px 0', whiteSpace: 'pre-wrap' }}>{entry.diagnosis || 'N/A'}</p>
+                </div>
+                <div style={{ marginBottom: '8px' }}>
+                  <strong>Treatment:</strong>
+                  <p style={{ margin: '5px 0', whiteSpace: 'pre-wrap' }}>{entry.treatment || 'N/A'}</p>
+                </div>
+                {(entry.weight != null || entry.temperature != null) && (
+                  <div>
+                    {entry.weight != null && <span style={{ marginRight: '15px' }}>Weight: {entry.weight} kg</span>}
+                    {entry.temperature != null && <span>Temperature: {entry.temperature} °C</span>}
+                  </div>
+                )}
+              </>
+            ) : (
+              <>
+                <div style={{ marginBottom: '8px' }}>
+                  <strong>{entry.type || 'Visit'}</strong> · {entry.status}
+                  {entry.vetName && <span> · {entry.vetName}</span>}
+                </div>
+                {entry.reason && (
+                  <p style={{ margin: '5px 0', whiteSpace: 'pre-wrap' }}>{entry.reason}</p>
+                )}
+              </>
+            )}
           </div>
         ))}
       </div>
+
+      {error && <div style={{ color: 'red', marginTop: '10px' }}>{error}</div>}
+      {loading && <div style={{ marginTop: '10px' }}>Loading history...</div>}
+      <div ref={sentinelRef} style={{ height: '1px' }} />
     </div>
   );
 };
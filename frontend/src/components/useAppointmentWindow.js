@@ -0,0 +1,136 @@
+import { useState, useEffect, useCallback, useRef } from 'react';
+import api from '../context/axiosConfig';
+
+// The backend takes LocalDateTime, so send wall-clock time without a zone suffix
+export const toLocalDateTimeParam = (date) => {
+    const offset = date.getTimezoneOffset() * 60000;
+    return new Date(date.getTime() - offset).toISOString().slice(0, 19);
+};
+
+// One EventSource per tab, shared by every mounted window
+const changeListeners = new Set();
+let changeSource = null;
+
+const subscribeToAppointmentChanges = (listener) => {
+    const token = localStorage.getItem('token');
+    if (!token) return () => {};
+    changeListeners.add(listener);
+    if (!changeSource) {
+        // EventSource cannot send an Authorization header, so the stream takes the token in the URL
+        changeSource = new EventSource(
+            `${api.defaults.baseURL}/api/appointments/stream?access_token=${encodeURIComponent(token)}`);
+        ['created', 'updated', 'deleted'].forEach(name => {
+            changeSource.addEventListener(name, (e) => {
+                const change = JSON.parse(e.data);
+                changeListeners.forEach(notify => notify(change));
+            });
+        });
+        // Sent on connect and whenever the server no longer has the missed events
+        changeSource.addEventListener('reset', () => {
+            changeListeners.forEach(notify => notify({ type: 'RESET' }));
+        });
+    }
+    return () => {
+        changeListeners.delete(listener);
+        if (changeListeners.size === 0 && changeSource) {
+            changeSource.close();
+            changeSource = null;
+        }
+    };
+};
+
+const inWindow = (item, range, vetId) => {
+    const start = new Date(item.startTime);
+    return start >= range.start && start < range.end && (!vetId || item.vetId === vetId);
+};
+
+/**
+ * Flat calendar items for one date window, loaded from GET /api/appointments?from=&to=.
+ * Pass onDatesSet to FullCalendar's datesSet so only the visible range is requested,
+ * or call setRange directly for a fixed window. Changes from the appointment stream are
+ * applied in place; anything the delta cannot place reloads the window.
+ */
+const useAppointmentWindow = ({ vetId = null, enabled = true } = {}) => {
+    const [range, setRangeState] = useState(null);
+    const [items, setItems] = useState([]);
+    // Only the newest request may write, so a slow response cannot replace a later window
+    const latestRequest = useRef(0);
+
+    const reload = useCallback(async () => {
+        if (!range || !enabled) return;
+        const requestId = ++latestRequest.current;
+        try {
+            const params = {
+                from: toLocalDateTimeParam(range.start),
+                to: toLocalDateTimeParam(range.end)
+            };
+            if (vetId) params.vetId = vetId;
+            const response = await api.get('/api/appointments', { params });
+            if (requestId === latestRequest.current) {
+                setItems(response.data || []);
+            }
+        } catch (error) {
+            console.error('Error fetching appointments:', error);
+        }
+    }, [range, vetId, enabled]);
+
+    useEffect(() => {
+        reload();
+    }, [reload]);
+
+    // The stream listener outlives renders, so it reads the current window through refs
+    const current = useRef({ range, vetId, reload, items });
+    current.current = { range, vetId, reload, items };
+
+    useEffect(() => {
+        if (!enabled) return undefined;
+        return subscribeToAppointmentChanges((change) => {
+            const { range: visible, vetId: windowVetId, reload: reloadWindow, items: shown } = current.current;
+            if (!visible) return;
+            if (change.type === 'RESET') {
+                reloadWindow();
+                return;
+            }
+            if (change.type === 'DELETED') {
+                setItems(prev => prev.filter(item => item.id !== change.id));
+                return;
+            }
+            if (change.type === 'CREATED') {
+                const created = { id: change.id, ...change.fields };
+                if (inWindow(created, visible, windowVetId)) {
+                    setItems(prev => [...prev.filter(item => item.id !== change.id), created]);
+                }
+                return;
+            }
+            // UPDATED carries only the changed fields
+            if (!shown.some(item => item.id === change.id)) {
+                // A move into this window from outside it: the delta alone lacks the other fields
+                if ('startTime' in change.fields || 'vetId' in change.fields) {
+                    reloadWindow();
+                }
+                return;
+            }
+            setItems(prev => {
+                const existing = prev.find(item => item.id === change.id);
+                if (!existing) return prev;
+                const updated = { ...existing, ...change.fields };
+                const rest = prev.filter(item => item.id !== change.id);
+                return inWindow(updated, visible, windowVetId) ? [...rest, updated] : rest;
+            });
+        });
+    }, [enabled]);
+
+    const setRange = useCallback((start, end) => {
+        setRangeState(prev => (
+            prev && prev.start.getTime() === start.getTime() && prev.end.getTime() === end.getTime()
+                ? prev
+                : { start, end }
+        ));
+    }, []);
+
+    const onDatesSet = useCallback((info) => setRange(info.start, info.end), [setRange]);
+
+    return { items, range, setRange, onDatesSet, reload };
+};
+
+export default useAppointmentWindow;
@@ -1,12 +1,15 @@
-import { useState, useEffect, useCallback, useRef } from 'react';
+import { useState, useEffect, useCallback, useMemo } from 'react';
 import FullCalendar from '@fullcalendar/react';
 import dayGridPlugin from '@fullcalendar/daygrid';
 import timeGridPlugin from '@fullcalendar/timegrid';
 import interactionPlugin from '@fullcalendar/interaction';
 import api from '../context/axiosConfig';
 import { useAuth } from '../context/AuthContext';
+import useAppointmentWindow from '../components/useAppointmentWindow';
+import ClientSearchDropdown from '../components/ClientSearchDropdown';
 
 const API_BASE_URL = 'http://localhost:8080/api';
+const SEARCH_PAGE_SIZE = 50;
 
 const APPOINTMENT_TYPES = [
     { value: 'EXAM', label: 'Exam', color: '#3b82f6' },
@@ -19,8 +22,7 @@ const APPOINTMENT_TYPES = [
 
 const APPOINTMENT_STATUSES = [
     { value: 'SCHEDULED', label: 'Scheduled', buttonClass: 'bg-blue-600 hover:bg-blue-700' },
-    { value: 'CONFIRMED', label: 'Confirmed', buttonClass: 'bg-indigo-600 hover:bg-indigo-700' },
-    { value: 'IN_PROGRESS', label: 'In Progress', buttonClass: 'bg-orange-600 hover:bg-orange-700' },
+    { value: 'CHECKED_IN', label: 'Checked In', buttonClass: 'bg-orange-600 hover:bg-orange-700' },
     { value: 'COMPLETED', label: 'Completed', buttonClass: 'bg-green-600 hover:bg-green-700' },
     { value: 'CANCELLED', label: 'Cancelled', buttonClass: 'bg-red-600 hover:bg-red-700' },
     { value: 'NO_SHOW', label: 'No Show', buttonClass: 'bg-gray-600 hover:bg-gray-700' },
@@ -33,142 +35,6 @@ const toLocalISOString = (date) => {
     return new Date(date.getTime() - offset).toISOString().slice(0, 19);
 };
 
-// ============================================
-// SEARCHABLE CLIENT DROPDOWN COMPONENT
-// ============================================
-const ClientSearchDropdown = ({ clients, selectedClient, onSelect, disabled }) => {
-    const [searchTerm, setSearchTerm] = useState('');
-    const [isOpen, setIsOpen] = useState(false);
-    const [filteredClients, setFilteredClients] = useState([]);
-    const dropdownRef = useRef(null);
-    const inputRef = useRef(null);
-
-    useEffect(() => {
-        if (!searchTerm.trim()) {
-            setFilteredClients(clients.slice(0, 10));
-            return;
-        }
-        const searchLower = searchTerm.toLowerCase();
-        const filtered = clients.filter(client => {
-            const firstName = (client.firstName || '').toLowerCase();
-            const lastName = (client.lastName || '').toLowerCase();
-            const fullName = `${firstName} ${lastName}`;
-            const phone = client.phoneNumber || client.phone || '';
-            return (
-                firstName.includes(searchLower) ||
-                lastName.includes(searchLower) ||
-                fullName.includes(searchLower) ||
-                phone.includes(searchTerm)
-            );
-        });
-        setFilteredClients(filtered.slice(0, 10));
-    }, [searchTerm, clients]);
-
-    useEffect(() => {
-        const handleClickOutside = (event) => {
-            if (dropdownRef.current && !dropdownRef.current.contains(event.target)) {
-                setIsOpen(false);
-            }
-        };
-        document.addEventListener('mousedown', handleClickOutside);
-        return () => document.removeEventListener('mousedown', handleClickOutside);
-    }, []);
-
-    const handleSelect = (client) => {
-        onSelect(client);
-        setSearchTerm('');
-        setIsOpen(false);
-    };
-
-    const handleClear = () => {
-        onSelect(null);
-        setSearchTerm('');
-        inputRef.current?.focus();
-    };
-
-    const getClientDisplayName = (client) => {
-        if (!client) return '';
-        const phone = client.phoneNumber || client.phone || '';
-        return `${client.firstName} ${client.lastName}${phone ? ` (${phone})` : ''}`;
-    };
-
-    if (disabled && selectedClient) {
-        return (
-            <div className="w-full border border-gray-300 rounded-md px-4 py-2 bg-gray-100 text-gray-600 cursor-not-allowed">
-                {getClientDisplayName(selectedClient)}
-            </div>
-        );
-    }
-
-    return (
-        <div className="relative" ref={dropdownRef}>
-            {selectedClient ? (
-                <div className="flex items-center justify-between w-full border border-gray-300 rounded-md px-4 py-2 bg-blue-50">
-                    <span className="text-blue-700 font-medium">
-                        {getClientDisplayName(selectedClient)}
-                    </span>
-                    {!disabled && (
-                        <button
-                            type="button"
-                            onClick={handleClear}
-                            className="text-gray-400 hover:text-gray-600 ml-2"
-                        >
-                            ✕
-                        </button>
-                    )}
-                </div>
-            ) : (
-                <>
-                    <div className="relative">
-                        <input
-                            ref={inputRef}
-                            type="text"
-                            value={searchTerm}
-                            onChange={(e) => {
-                                setSearchTerm(e.target.value);
-                                setIsOpen(true);
-                            }}
-                            onFocus={() => setIsOpen(true)}
-                            placeholder="Search Client by Name or Phone..."
-                            disabled={disabled}
-                            className="w-full border border-gray-300 rounded-md px-4 py-2 pr-10 focus:outline-none focus:ring-2 focus:ring-blue-500 disabled:bg-gray-100 disabled:cursor-not-allowed"
-                        />
-                        <div className="absolute right-3 top-1/2 -translate-y-1/2 text-gray-400">
-                            <svg className="w-5 h-5" fill="none" stroke="currentColor" viewBox="0 0 24 24">
-                                <path strokeLinecap="round" strokeLinejoin="round" strokeWidth={2} d="M21 21l-6-6m2-5a7 7 0 11-14 0 7 7 0 0114 0z" />
-                            </svg>
-                        </div>
-                    </div>
-                    {isOpen && filteredClients.length > 0 && (
-                        <div className="absolute z-50 w-full mt-1 bg-white border border-gray-200 rounded-md shadow-lg max-h-60 overflow-y-auto">
-                            {filteredClients.map((client) => (
-                                <div
-                                    key={client.id}
-                                    onClick={() => handleSelect(client)}
-                                    className="px-4 py-3 hover:bg-blue-50 cursor-pointer border-b border-gray-100 last:border-b-0"
-                                >
-                                    <div className="font-medium text-gray-900">
-                                        {client.firstName} {client.lastName}
-                                    </div>
-                                    <div className="text-sm text-gray-500">
-                                        📞 {client.phoneNumber || client.phone || 'No phone'}
-                                        {client.email && ` • ${client.email}`}
-                                    </div>
-                                </div>
-                            ))}
-                        </div>
-                    )}
-                    {isOpen && searchTerm && filteredClients.length === 0 && (
-                        <div className="absolute z-50 w-full mt-1 bg-white border border-gray-200 rounded-md shadow-lg p-4 text-center text-gray-500">
-                            No clients found matching "{searchTerm}"
-                        </div>
-                    )}
-                </>
-            )}
-        </div>
-    );
-};
-
 // ============================================
 // STATUS BUTTON COMPONENT (Clickable Action Button)
 // ============================================
@@ -435,8 +301,7 @@ const AppointmentsPage = () => {
     const { user, token } = useAuth();
 
     // Data State
-    const [events, setEvents] = useState([]);
-    const [clients, setClients] = useState([]);
+    const { items: calendarItems, onDatesSet, reload: fetchAppointments } = useAppointmentWindow();
     const [patients, setPatients] = useState([]);
     const [vets, setVets] = useState([]);
     const [loading, setLoading] = useState(true);
@@ -448,34 +313,80 @@ const AppointmentsPage = () => {
     const [isSearching, setIsSearching] = useState(false);
     const [showSearchResults, setShowSearchResults] = useState(false);
 
-    // Instant Search Logic
+    // Calendar events for the visible window; full details are loaded when one is opened
+    const events = useMemo(() => {
+        return calendarItems.map(appt => {
+            const typeConfig = APPOINTMENT_TYPES.find(t => t.value === appt.type) || APPOINTMENT_TYPES[0];
+
+            // Determine color based on status first, then type
+            let backgroundColor = typeConfig.color;
+            let borderColor = typeConfig.color;
+
+            const start = new Date(appt.startTime);
+            const end = appt.endTime ? new Date(appt.endTime) : new Date(start.getTime() + 30 * 60000);
+            const isExpired = end < new Date() && appt.status === 'SCHEDULED';
+
+            if (appt.status === 'COMPLETED') {
+                backgroundColor = '#16a34a'; // Green
+                borderColor = '#16a34a';
+            } else if (isExpired) {
+                backgroundColor = '#6b7280'; // Gray
+                borderColor = '#6b7280';
+            }
+
+            return {
+                id: appt.id,
+                title: `${appt.clientName || ''} - ${appt.patientName || ''} (Vet: ${appt.vetName || '?'})${isExpired ? ' (No Show)' : ''}`,
+                start: toLocalISOString(start),
+                end: toLocalISOString(end),
+                allDay: false,
+                backgroundColor: backgroundColor,
+                borderColor: borderColor,
+                extendedProps: {
+                    clientId: appt.clientId,
+                    clientName: appt.clientName,
+                    patientId: appt.patientId,
+                    patientName: appt.patientName,
+                    vetId: appt.vetId,
+                    vetName: appt.vetName,
+                    type: appt.type,
+                    status: appt.status,
+                    reason: appt.reason
+                }
+            };
+        });
+    }, [calendarItems]);
+
+    // Search runs on the server so it covers every appointment, not just the visible window
     useEffect(() => {
-        if (searchTerm.trim().length > 0) {
-            const term = searchTerm.toLowerCase();
-            const results = events.filter(event => {
-                const props = event.extendedProps || {};
-                const clientName = `${props.client?.firstName || ''} ${props.client?.lastName || ''}`.toLowerCase();
-                const patientName = (props.patient?.name || '').toLowerCase();
-                const phone = (props.client?.phone || props.client?.phoneNumber || '').toLowerCase();
-                return clientName.includes(term) || patientName.includes(term) || phone.includes(term);
-            }).map(event => ({
-                id: event.id,
-                startTime: event.start,
-                endTime: event.end,
-                client: event.extendedProps.client,
-                patient: event.extendedProps.patient,
-                vet: event.extendedProps.vet,
-                type: event.extendedProps.type,
-                status: event.extendedProps.status,
-                notes: event.extendedProps.notes
-            }));
-            setSearchResults(results);
-            setShowSearchResults(true);
-        } else {
+        const term = searchTerm.trim();
+        if (term.length === 0) {
             setShowSearchResults(false);
             setSearchResults([]);
+            return;
         }
-    }, [searchTerm, events]);
+        let cancelled = false;
+        const timer = setTimeout(async () => {
+            setIsSearching(true);
+            try {
+                const response = await api.get(`${API_BASE_URL}/appointments/search`, {
+                    params: { query: term, limit: SEARCH_PAGE_SIZE }
+                });
+                if (!cancelled) {
+                    setSearchResults(response.data.items || []);
+                    setShowSearchResults(true);
+                }
+            } catch (error) {
+                console.error('Error searching appointments:', error);
+            } finally {
+                if (!cancelled) setIsSearching(false);
+            }
+        }, 300);
+        return () => {
+            cancelled = true;
+            clearTimeout(timer);
+        };
+    }, [searchTerm]);
 
     // Modal State
     const [showModal, setShowModal] = useState(false);
@@ -517,66 +428,6 @@ const AppointmentsPage = () => {
     // ============================================
     // DATA FETCHING
     // ============================================
-    const fetchAppointments = useCallback(async () => {
-        try {
-            const config = { headers: { Authorization: `Bearer ${token}` } };
-            const response = await api.get(`${API_BASE_URL}/appointments`, config);
-            const formattedEvents = response.data.map(appt => {
-                const typeConfig = APPOINTMENT_TYPES.find(t => t.value === appt.type) || APPOINTMENT_TYPES[0];
-
-                // Determine color based on status first, then type
-                let backgroundColor = typeConfig.color;
-                let borderColor = typeConfig.color;
-
-                const start = new Date(appt.startTime);
-                const end = appt.endTime ? new Date(appt.endTime) : new Date(start.getTime() + 30 * 60000);
-                const isExpired = end < new Date() && appt.status === 'SCHEDULED';
-
-                if (appt.status === 'COMPLETED') {
-                    backgroundColor = '#16a34a'; // Green
-                    borderColor = '#16a34a';
-                } else if (isExpired) {
-                    backgroundColor = '#6b7280'; // Gray
-                    borderColor = '#6b7280';
-                }
-
-                return {
-                    id: appt.id,
-                    title: `${appt.client?.firstName || ''} ${appt.client?.lastName || ''} - ${appt.patient?.name || ''} (Vet: ${appt.vet?.firstName || appt.vet?.username || '?'})${isExpired ? ' (No Show)' : ''}`,
-                    start: toLocalISOString(start),
-                    end: toLocalISOString(end),
-                    allDay: false,
-                    backgroundColor: backgroundColor,
-                    borderColor: borderColor,
-                    extendedProps: {
-                        client: appt.client,
-                        patient: appt.patient,
-                        vet: appt.vet,
-                        type: appt.type,
-                        status: appt.status,
-                        notes: appt.notes,
-                        reason: appt.reason
-                    }
-                };
-            });
-            setEvents(formattedEvents);
-        } catch (error) {
-            setEvents([]);
-        } finally {
-            setLoading(false);
-        }
-    }, [token]);
-
-    const fetchClients = useCallback(async () => {
-        try {
-            const config = { headers: { Authorization: `Bearer ${token}` } };
-            const response = await api.get(`${API_BASE_URL}/clients`, config);
-            setClients(response.data);
-        } catch (error) {
-            setClients([]);
-        }
-    }, [token]);
-
     const fetchVets = useCallback(async () => {
         try {
             const config = { headers: { Authorization: `Bearer ${token}` } };
@@ -584,16 +435,17 @@ const AppointmentsPage = () => {
             setVets(response.data);
         } catch (error) {
             setVets([]);
+        } finally {
+            // The calendar loads its own window once it has mounted
+            setLoading(false);
         }
     }, [token]);
 
     useEffect(() => {
         if (token) {
-            fetchAppointments();
-            fetchClients();
             fetchVets();
         }
-    }, [token, fetchAppointments, fetchClients, fetchVets]);
+    }, [token, fetchVets]);
 
     // ============================================
     // EFFECTS: DATA SYNC & PARSING
@@ -712,12 +564,26 @@ const AppointmentsPage = () => {
         setPatients([]);
     };
 
+    // Calendar items carry no notes or nested objects, so open the modal on the full appointment
+    const openAppointment = async (id) => {
+        try {
+            const response = await api.get(`${API_BASE_URL}/appointments/${id}`);
+            const appointment = response.data;
+            setShowModal(true);
+            setIsEditMode(true);
+            setSelectedAppointment(appointment);
+            setSelectedSlot({
+                start: new Date(appointment.startTime),
+                end: appointment.endTime ? new Date(appointment.endTime) : null
+            });
+        } catch (error) {
+            console.error('Error loading appointment:', error);
+            alert('Failed to load appointment.');
+        }
+    };
+
     const handleEventClick = (clickInfo) => {
-        console.log("Event clicked:", clickInfo.event);
-        setShowModal(true);
-        setIsEditMode(true);
-        setSelectedAppointment(clickInfo.event);
-        setSelectedSlot({ start: clickInfo.event.start, end: clickInfo.event.end });
+        openAppointment(clickInfo.event.id);
     };
 
     const handleNewAppointment = () => {
@@ -769,7 +635,6 @@ const AppointmentsPage = () => {
             patientId,
             vetId,
             type: props.type,
-            status: props.status,
             notes: props.notes,
             startTime,
             endTime,
@@ -798,18 +663,10 @@ const AppointmentsPage = () => {
             newEnd = new Date(newStart.getTime() + duration);
         }
 
-        // Drag & Drop Logic: Reactivate if moving to future
-        const isFuture = newStart > new Date();
-        let statusOverride = undefined;
-        if (isFuture && event.extendedProps.status === 'SCHEDULED') {
-            statusOverride = 'SCHEDULED';
-        }
-
         // Use helper to construct payload with flat IDs
         const payload = formatPayload(event, {
             startTime: newStart,
-            endTime: newEnd,
-            status: statusOverride
+            endTime: newEnd
         });
 
         try {
@@ -857,13 +714,7 @@ const AppointmentsPage = () => {
     };
 
     const handleSearchResultClick = (appointment) => {
-        setShowModal(true);
-        setIsEditMode(true);
-        setSelectedAppointment(appointment);
-        setSelectedSlot({
-            start: new Date(appointment.startTime),
-            end: appointment.endTime ? new Date(appointment.endTime) : null
-        });
+        openAppointment(appointment.id);
     };
 
     const formatDisplayDateTime = (dateString) => {
@@ -893,7 +744,6 @@ const AppointmentsPage = () => {
             patientId: formData.patientId,
             vetId: formData.vetId,
             type: formData.type,
-            status: formData.status,
             notes: formData.notes,
             startTime: new Date(formData.startTime).toISOString(),
             endTime: formData.endTime ? new Date(formData.endTime).toISOString() : null
@@ -905,6 +755,11 @@ const AppointmentsPage = () => {
             if (selectedAppointment?.id) {
                 // Update existing
                 await api.put(`${API_BASE_URL}/appointments/${selectedAppointment.id}`, payload, config);
+                // The update ignores status; status moves go through the state machine endpoint
+                if (formData.status !== selectedAppointment.status) {
+                    await api.patch(`${API_BASE_URL}/appointments/${selectedAppointment.id}/status`,
+                        { status: formData.status }, config);
+                }
             } else {
                 // Create new
                 await api.post(`${API_BASE_URL}/appointments`, payload, config);
@@ -915,6 +770,12 @@ const AppointmentsPage = () => {
             fetchAppointments();
         } catch (error) {
             console.error('Error saving appointment:', error);
+            // 409: the slot is taken or the status change is not allowed
+            if (error.response?.status === 409) {
+                alert(error.response.data);
+                fetchAppointments();
+                return;
+            }
             alert('Failed to save appointment. Please try again.');
         }
     };
@@ -944,9 +805,11 @@ const AppointmentsPage = () => {
         try {
             const config = { headers: { Authorization: `Bearer ${token}` } };
 
-            // Step 1: Call generic API to update status to IN_PROGRESS
-            const payload = formatPayload(selectedAppointment, { status: 'IN_PROGRESS' });
-            await api.put(`${API_BASE_URL}/appointments/${selectedAppointment.id}`, payload, config);
+            // Step 1: Check the patient in, unless an exam on this appointment is being resumed
+            if (selectedAppointment.status !== 'CHECKED_IN') {
+                await api.patch(`${API_BASE_URL}/appointments/${selectedAppointment.id}/status`,
+                    { status: 'CHECKED_IN' }, config);
+            }
 
             // Step 2 & 3: Close AppointmentModal and Open ExamModal
             setExamInitialData(null);
@@ -1196,7 +1059,7 @@ const AppointmentsPage = () => {
                                         Date/Time
                                     </th>
                                     <th className="px-6 py-4 text-xs font-medium text-gray-500 uppercase tracking-wider">
-                                        Owner (Phone)
+                                        Owner
                                     </th>
                                     <th className="px-6 py-4 text-xs font-medium text-gray-500 uppercase tracking-wider">
                                         Pet
@@ -1223,25 +1086,19 @@ const AppointmentsPage = () => {
                                         </td>
                                         <td className="px-6 py-4">
                                             <div className="font-semibold text-gray-900">
-                                                {appointment.client?.firstName} {appointment.client?.lastName}
-                                            </div>
-                                            <div className="text-sm text-gray-500">
-                                                {appointment.client?.phone || appointment.client?.phoneNumber || 'No phone'}
+                                                {appointment.clientName}
                                             </div>
                                         </td>
                                         <td className="px-6 py-4">
                                             <div className="font-semibold text-gray-900">
-                                                🐾 {appointment.patient?.name || 'Unknown'}
-                                            </div>
-                                            <div className="text-sm text-gray-500">
-                                                {appointment.patient?.species || ''}
+                                                🐾 {appointment.patientName || 'Unknown'}
                                             </div>
                                         </td>
                                         <td className="px-6 py-4">
                                             <div className="text-gray-900">{appointment.type}</div>
-                                            {appointment.notes && (
+                                            {appointment.reason && (
                                                 <div className="text-sm text-gray-500 truncate max-w-xs">
-                                                    {appointment.notes}
+                                                    {appointment.reason}
                                                 </div>
                                             )}
                                         </td>
@@ -1271,6 +1128,7 @@ const AppointmentsPage = () => {
                             right: 'dayGridMonth,timeGridWeek,timeGridDay'
                         }}
                         events={events}
+                        datesSet={onDatesSet}
                         selectable={true}
                         selectMirror={true}
                         dayMaxEvents={true}
@@ -1378,7 +1236,6 @@ const AppointmentsPage = () => {
                                         Client <span className="text-red-500">*</span>
                                     </label>
                                     <ClientSearchDropdown
-                                        clients={clients}
                                         selectedClient={selectedClient}
                                         onSelect={handleClientSelect}
                                         disabled={isEditMode || isLocked}
@@ -7,11 +7,20 @@ import MedicalRecordModal from '../components/MedicalRecordModal';
 // ============================================
 // MAIN COMPONENT: ClientsPage
 // ============================================
+const PAGE_SIZE = 20;
+const SEARCH_LIMIT = 50;
+const SEARCH_DEBOUNCE_MS = 200;
+
 const ClientsPage = () => {
     const { token } = useAuth();
     const [clients, setClients] = useState([]);
+    const [page, setPage] = useState(0);
+    const [totalPages, setTotalPages] = useState(0);
+    const [totalElements, setTotalElements] = useState(0);
     const [loading, setLoading] = useState(true);
     const [searchTerm, setSearchTerm] = useState('');
+    const [searchResults, setSearchResults] = useState(null);
+    const [reloadKey, setReloadKey] = useState(0);
     const [showClientModal, setShowClientModal] = useState(false);
     const [showPetModal, setShowPetModal] = useState(false);
     const [showHistoryModal, setShowHistoryModal] = useState(false);
@@ -19,15 +28,24 @@ const ClientsPage = () => {
     const [isReadOnly, setIsReadOnly] = useState(false);
 
     useEffect(() => {
-        fetchClients();
-    }, []);
+        fetchClients(page);
+    }, [page, reloadKey]);
 
-    const fetchClients = async () => {
+    const fetchClients = async (pageToLoad) => {
         try {
             const response = await api.get('http://localhost:8080/api/clients', {
+                params: { page: pageToLoad, size: PAGE_SIZE },
                 headers: { Authorization: `Bearer ${token}` }
             });
-            setClients(response.data || []);
+            const data = response.data || {};
+            // A delete can empty the last page; step back instead of showing nothing
+            if (pageToLoad > 0 && (data.content || []).length === 0) {
+                setPage(pageToLoad - 1);
+                return;
+            }
+            setClients(data.content || []);
+            setTotalPages(data.totalPages || 0);
+            setTotalElements(data.totalElements || 0);
         } catch (error) {
             console.error('Error fetching clients:', error);
             // Suppress alert to prevent blocking UI. Allow empty state to render so user can Add Owner.
@@ -36,23 +54,62 @@ const ClientsPage = () => {
         }
     };
 
+    // Searching goes to the suggest index, so matches are not limited to the page on screen
+    useEffect(() => {
+        if (!searchTerm.trim()) {
+            setSearchResults(null);
+            return undefined;
+        }
+        let cancelled = false;
+        const timer = setTimeout(async () => {
+            try {
+                const response = await api.get('http://localhost:8080/api/clients/suggest', {
+                    params: { q: searchTerm, limit: SEARCH_LIMIT },
+                    headers: { Authorization: `Bearer ${token}` }
+                });
+                if (!cancelled) {
+                    setSearchResults((response.data || []).map(client => ({
+                        ...client,
+                        petCount: client.petNames?.length ?? 0
+                    })));
+                }
+            } catch (error) {
+                console.error('Error searching clients:', error);
+                if (!cancelled) setSearchResults([]);
+            }
+        }, SEARCH_DEBOUNCE_MS);
+        return () => {
+            cancelled = true;
+            clearTimeout(timer);
+        };
+    }, [searchTerm, reloadKey]);
+
+    const refreshClients = () => setReloadKey(key => key + 1);
+
     const openCreateClientModal = () => {
         setSelectedClient(null);
         setIsReadOnly(false);
         setShowClientModal(true);
     };
 
-    const openEditClientModal = (client) => {
-        setSelectedClient(client);
-        setIsReadOnly(false);
-        setShowClientModal(true);
+    // List rows are summaries; the owner form needs the full client record
+    const openClientModal = async (client, readOnly) => {
+        try {
+            const response = await api.get(`http://localhost:8080/api/clients/${client.id}/overview`, {
+                headers: { Authorization: `Bearer ${token}` }
+            });
+            setSelectedClient(response.data.client);
+            setIsReadOnly(readOnly);
+            setShowClientModal(true);
+        } catch (error) {
+            console.error('Error loading client:', error);
+            alert('Failed to load pet owner. Please try again.');
+        }
     };
 
-    const openViewClientModal = (client) => {
-        setSelectedClient(client);
-        setIsReadOnly(true);
-        setShowClientModal(true);
-    };
+    const openEditClientModal = (client) => openClientModal(client, false);
+
+    const openViewClientModal = (client) => openClientModal(client, true);
 
     const openPetManagerModal = (client) => {
         setSelectedClient(client);
@@ -73,7 +130,7 @@ const ClientsPage = () => {
     };
 
     const handleSaveClient = () => {
-        fetchClients();
+        refreshClients();
         closeModals();
     };
 
@@ -84,31 +141,18 @@ const ClientsPage = () => {
             await api.delete(`http://localhost:8080/api/clients/${id}`, {
                 headers: { Authorization: `Bearer ${token}` }
             });
-            fetchClients();
+            refreshClients();
         } catch (error) {
             console.error('Error deleting client:', error);
-            alert('Failed to delete pet owner. Please try again.');
+            if (error.response?.status === 409) {
+                alert(`Cannot delete this pet owner: ${error.response.data}.`);
+            } else {
+                alert('Failed to delete pet owner. Please try again.');
+            }
         }
     };
 
-    const filteredClients = clients.filter(client => {
-        const searchLower = searchTerm.toLowerCase();
-        const fullName = `${client.firstName} ${client.lastName}`.toLowerCase();
-        const email = client.email ? client.email.toLowerCase() : '';
-        const phone = client.phoneNumber ? client.phoneNumber : '';
-
-        // Check if ANY pet matches
-        const hasMatchingPet = client.pets && client.pets.some(pet =>
-            pet.name?.toLowerCase().includes(searchLower)
-        );
-
-        return (
-            fullName.includes(searchLower) ||
-            email.includes(searchLower) ||
-            phone.includes(searchLower) ||
-            hasMatchingPet
-        );
-    });
+    const displayedClients = searchResults ?? clients;
 
     return (
         <div className="p-8">
@@ -158,14 +202,14 @@ const ClientsPage = () => {
                             </tr>
                         </thead>
                         <tbody className="bg-white divide-y divide-gray-100">
-                            {filteredClients.length === 0 ? (
+                            {displayedClients.length === 0 ? (
                                 <tr>
                                     <td colSpan="5" className="px-6 py-12 text-center text-gray-400">
                                         {searchTerm ? 'No pet owners found' : 'No pet owners yet'}
                                     </td>
                                 </tr>
                             ) : (
-                                filteredClients.map((client) => (
+                                displayedClients.map((client) => (
                                     <tr key={client.id} className="hover:bg-gray-50 transition-colors">
                                         <td className="px-6 py-4">
                                             <div
@@ -227,6 +271,31 @@ const ClientsPage = () => {
                 )}
             </div>
 
+            {/* Pagination */}
+            {!searchResults && totalPages > 1 && (
+                <div className="flex justify-between items-center mt-4 text-sm text-gray-600">
+                    <span>
+                        Page {page + 1} of {totalPages} • {totalElements} pet owners
+                    </span>
+                    <div className="flex gap-2">
+                        <button
+                            onClick={() => setPage(p => p - 1)}
+                            disabled={page === 0}
+                            className="px-4 py-2 bg-gray-200 hover:bg-gray-300 rounded-md font-medium disabled:opacity-50"
+                        >
+                            Previous
+                        </button>
+                        <button
+                            onClick={() => setPage(p => p + 1)}
+                            disabled={page + 1 >= totalPages}
+                            className="px-4 py-2 bg-gray-200 hover:bg-gray-300 rounded-md font-medium disabled:opacity-50"
+                        >
+                            Next
+                        </button>
+                    </div>
+                </div>
+            )}
+
             {/* Modals */}
             {showClientModal && (
                 <ClientModal
@@ -241,7 +310,6 @@ const ClientsPage = () => {
             {showPetModal && (
                 <PetManagerModal
                     client={selectedClient}
-                    allClients={clients}
                     onClose={closeModals}
                     token={token}
                 />
@@ -318,7 +386,21 @@ const ClientModal = ({ client, onClose, onSave, token, readOnly = false }) => {
                     config
                 );
             } else {
-                await api.post('http://localhost:8080/api/clients', formData, config);
+                try {
+                    await api.post('http://localhost:8080/api/clients?checkDuplicates=true', formData, config);
+                } catch (error) {
+                    const duplicates = error.response?.status === 409 && Array.isArray(error.response.data)
+                        ? error.response.data
+                        : null;
+                    if (!duplicates) throw error;
+                    const names = duplicates
+                        .map(d => `- ${d.firstName} ${d.lastName} (${d.email || d.phoneNumber || 'no contact'})`)
+                        .join('\n');
+                    if (!window.confirm(`This pet owner may already exist:\n${names}\n\nCreate a new record anyway?`)) {
+                        return;
+                    }
+                    await api.post('http://localhost:8080/api/clients', formData, config);
+                }
             }
 
             onSave();
@@ -495,7 +577,7 @@ const ClientModal = ({ client, onClose, onSave, token, readOnly = false }) => {
 // ============================================
 // PET MANAGER MODAL - Full CRUD
 // ============================================
-const PetManagerModal = ({ client, allClients, onClose, token }) => {
+const PetManagerModal = ({ client, onClose, token }) => {
     const [pets, setPets] = useState([]);
     const [loading, setLoading] = useState(true);
     const [editingPetId, setEditingPetId] = useState(null);
@@ -588,10 +670,10 @@ const PetManagerModal = ({ client, allClients, onClose, token }) => {
         setLoading(true);
         try {
             const response = await api.get(
-                `http://localhost:8080/api/patients/owner/${client.id}`,
+                `http://localhost:8080/api/clients/${client.id}/overview`,
                 { headers: { Authorization: `Bearer ${token}` } }
             );
-            setPets(response.data || []);
+            setPets(response.data?.pets || []);
         } catch (error) {
             console.error('Error fetching pets:', error);
             alert('Failed to load pets. Please try again.');
@@ -628,7 +710,7 @@ const PetManagerModal = ({ client, allClients, onClose, token }) => {
             species: pet.species || '',
             breed: pet.breed || '',
             sex: pet.sex || '',
-            microchip: pet.microchip || '',
+            microchip: pet.microchipNumber || '',
             birthDate: pet.birthDate ? pet.birthDate.split('T')[0] : '',
             isDateOfBirthApproximate: pet.isDateOfBirthApproximate || false
         });
@@ -687,7 +769,11 @@ const PetManagerModal = ({ client, allClients, onClose, token }) => {
             await fetchPets();
         } catch (error) {
             console.error('Error deleting pet:', error);
-            alert('Failed to delete pet. Please try again.');
+            if (error.response?.status === 409) {
+                alert(`Cannot delete this pet: ${error.response.data}.`);
+            } else {
+                alert('Failed to delete pet. Please try again.');
+            }
         }
     };
 
@@ -915,9 +1001,9 @@ const PetManagerModal = ({ client, allClients, onClose, token }) => {
                                                         {pet.species} • {pet.breed || 'Unknown Breed'} • {pet.sex || 'Unknown Sex'}
                                                         {age && ` • ${age} old`}
                                                     </div>
-                                                    {pet.microchip && (
+                                                    {pet.microchipNumber && (
                                                         <div className="text-xs text-gray-500 mt-1 font-mono bg-gray-100 inline-block px-1 rounded">
-                                                            MC: {pet.microchip}
+                                                            MC: {pet.microchipNumber}
                                                         </div>
                                                     )}
                                                 </div>
@@ -1030,11 +1116,12 @@ const ClientHistoryModal = ({ client, onClose, token }) => {
     const fetchRecords = async () => {
         setLoading(true);
         try {
+            // The overview carries the most recent records only
             const response = await api.get(
-                `http://localhost:8080/api/medical-records/client/${client.id}`,
+                `http://localhost:8080/api/clients/${client.id}/overview`,
                 { headers: { Authorization: `Bearer ${token}` } }
             );
-            setRecords(response.data || []);
+            setRecords(response.data?.recentMedicalRecords || []);
         } catch (error) {
             console.error('Error fetching visit history:', error);
             alert('Failed to load visit history. Please try again.');
@@ -1110,13 +1197,13 @@ const ClientHistoryModal = ({ client, onClose, token }) => {
                                         {records.map((record) => (
                                             <tr key={record.id} className="hover:bg-gray-50 transition-colors">
                                                 <td className="px-4 py-3 text-sm text-gray-900">
-                                                    {formatDate(record.appointment?.startTime || record.visitDate || record.createdAt)}
+                                                    {formatDate(record.createdAt)}
                                                 </td>
                                                 <td className="px-4 py-3 text-sm font-medium text-gray-900">
-                                                    {record.patient?.name || 'Unknown'}
+                                                    {record.patientName || 'Unknown'}
                                                 </td>
                                                 <td className="px-4 py-3 text-sm text-gray-600">
-                                                    {record.appointment?.type || record.appointmentType || 'Visit'}
+                                                    {record.appointmentType || 'Visit'}
                                                 </td>
                                                 <td className="px-4 py-3 text-sm text-gray-700 truncate max-w-xs">
                                                     {record.diagnosis || 'No diagnosis'}
@@ -3,11 +3,12 @@ import FullCalendar from '@fullcalendar/react';
 import dayGridPlugin from '@fullcalendar/daygrid';
 import timeGridPlugin from '@fullcalendar/timegrid';
 import interactionPlugin from '@fullcalendar/interaction';
-import { isToday, isThisWeek } from 'date-fns';
+import { isToday, startOfWeek, addWeeks } from 'date-fns';
 import api from '../context/axiosConfig';
 import { useAuth } from '../context/AuthContext';
 import PatientHistoryModal from '../components/PatientHistoryModal';
 import ClientSearchDropdown from '../components/ClientSearchDropdown';
+import useAppointmentWindow from '../components/useAppointmentWindow';
 
 const API_BASE_URL = 'http://localhost:8080/api';
 
@@ -25,8 +26,7 @@ const APPOINTMENT_TYPES = [
 
 const APPOINTMENT_STATUSES = [
     { value: 'SCHEDULED', label: 'Scheduled', buttonClass: 'bg-blue-600 hover:bg-blue-700' },
-    { value: 'CONFIRMED', label: 'Confirmed', buttonClass: 'bg-indigo-600 hover:bg-indigo-700' },
-    { value: 'IN_PROGRESS', label: 'In Progress', buttonClass: 'bg-orange-600 hover:bg-orange-700' },
+    { value: 'CHECKED_IN', label: 'Checked In', buttonClass: 'bg-orange-600 hover:bg-orange-700' },
     { value: 'COMPLETED', label: 'Completed', buttonClass: 'bg-green-600 hover:bg-green-700' },
     { value: 'CANCELLED', label: 'Cancelled', buttonClass: 'bg-red-600 hover:bg-red-700' },
     { value: 'NO_SHOW', label: 'No Show', buttonClass: 'bg-gray-600 hover:bg-gray-700' },
@@ -182,13 +182,22 @@ const DashboardPage = () => {
     const { user, token } = useAuth();
 
     // Data State
-    const [rawAppointments, setRawAppointments] = useState([]);
     const [dashboardStats, setDashboardStats] = useState({ totalPatients: 0 });
-    const [clients, setClients] = useState([]);
     const [patients, setPatients] = useState([]);
     const [vets, setVets] = useState([]);
     const [loading, setLoading] = useState(true);
     const [patientsLoading, setPatientsLoading] = useState(false);
+    const [nextAppointment, setNextAppointment] = useState(null);
+
+    // The dashboard only shows the signed-in vet's own schedule
+    const currentVetId = useMemo(
+        () => (user && vets.find(v => v.username === user.username)?.id) || null,
+        [user, vets]
+    );
+    const { items: calendarItems, onDatesSet, reload: reloadCalendar } =
+        useAppointmentWindow({ vetId: currentVetId, enabled: Boolean(currentVetId) });
+    const { items: weekItems, setRange: setWeekRange, reload: reloadWeek } =
+        useAppointmentWindow({ vetId: currentVetId, enabled: Boolean(currentVetId) });
 
     // Modal & Form State
     const [showModal, setShowModal] = useState(false);
@@ -239,20 +248,35 @@ const DashboardPage = () => {
     // DATA FETCHING
     // ============================================
 
-    // Fetch Appointments (Fetches ALL, filtering happens in useMemo)
-    const fetchAppointments = useCallback(async () => {
+    // Next appointment of the signed-in vet (204 when there is none)
+    const fetchNextAppointment = useCallback(async () => {
         if (!token) return;
         try {
-            const config = {
-                headers: { Authorization: `Bearer ${token}` }
-            };
-            const response = await api.get(`${API_BASE_URL}/appointments`, config);
-            setRawAppointments(response.data || []);
+            const response = await api.get(`${API_BASE_URL}/appointments/next`);
+            setNextAppointment(response.status === 204 ? null : response.data);
         } catch (error) {
-            console.error('Error fetching appointments:', error);
+            console.error('Error fetching next appointment:', error);
         }
     }, [token]);
 
+    // Reload everything that shows appointments after a change made from this page
+    const fetchAppointments = useCallback(() => {
+        reloadCalendar();
+        reloadWeek();
+        fetchNextAppointment();
+    }, [reloadCalendar, reloadWeek, fetchNextAppointment]);
+
+    // Stream deltas land in the week window; re-read the next appointment when it changes
+    useEffect(() => {
+        fetchNextAppointment();
+    }, [weekItems, fetchNextAppointment]);
+
+    // Today's and this week's cards read a fixed Monday-based window, independent of the calendar view
+    useEffect(() => {
+        const weekStart = startOfWeek(new Date(), { weekStartsOn: 1 });
+        setWeekRange(weekStart, addWeeks(weekStart, 1));
+    }, [setWeekRange]);
+
     // Fetch Patients for Client
     const fetchPatientsForClient = useCallback(async (clientId) => {
         if (!clientId) {
@@ -282,21 +306,18 @@ const DashboardPage = () => {
                 setLoading(true);
                 const config = { headers: { Authorization: `Bearer ${token}` } };
 
-                // Fetch Stats, Clients, Vets in parallel
-                const [statsRes, clientsRes, vetsRes] = await Promise.all([
+                // Fetch Stats and Vets in parallel; the client picker searches on demand
+                const [statsRes, vetsRes] = await Promise.all([
                     api.get(`${API_BASE_URL}/dashboard/stats`, config),
-                    api.get(`${API_BASE_URL}/clients`, config),
                     api.get(`${API_BASE_URL}/users/vets`, config).catch(() => ({ data: [] }))
                 ]);
 
                 setDashboardStats({
                     totalPatients: statsRes.data.totalPatients || 0,
                 });
-                setClients(clientsRes.data || []);
                 setVets(vetsRes.data || []);
 
-                // Fetch Appointments
-                await fetchAppointments();
+                await fetchNextAppointment();
 
             } catch (error) {
                 console.error('Error loading dashboard data:', error);
@@ -306,32 +327,21 @@ const DashboardPage = () => {
         };
 
         loadDashboardData();
-    }, [token, fetchAppointments]); // Intentionally excludes 'user' to prevent loops
+    }, [token, fetchNextAppointment]); // Intentionally excludes 'user' to prevent loops
 
     // ============================================
     // FILTERING & DERIVED STATE
     // ============================================
 
-    // Robust Filtering: Compare Usernames (Handles missing user.id)
-    const myAppointments = useMemo(() => {
-        if (!user || !rawAppointments.length) return [];
-        // robust check: compare usernames as strings
-        return rawAppointments.filter(appt =>
-            appt.vet?.username && user.username &&
-            appt.vet.username === user.username
-        );
-    }, [user, rawAppointments]);
-
-    // Calculate Stats from Filtered List
+    // Calculate Stats from the current week's window
     const todaysAppointmentsList = useMemo(() => {
-        return myAppointments.filter(appt => isToday(new Date(appt.startTime)))
+        return weekItems.filter(appt => isToday(new Date(appt.startTime)))
             .sort((a, b) => new Date(a.startTime) - new Date(b.startTime));
-    }, [myAppointments]);
+    }, [weekItems]);
 
     const weeksAppointmentsList = useMemo(() => {
-        return myAppointments.filter(appt => isThisWeek(new Date(appt.startTime), { weekStartsOn: 1 }))
-            .sort((a, b) => new Date(a.startTime) - new Date(b.startTime));
-    }, [myAppointments]);
+        return [...weekItems].sort((a, b) => new Date(a.startTime) - new Date(b.startTime));
+    }, [weekItems]);
 
     const stats = useMemo(() => {
         const todayCount = todaysAppointmentsList.length;
@@ -341,7 +351,7 @@ const DashboardPage = () => {
             todayAppointments: todayCount,
             weekAppointments: weekCount,
         };
-    }, [myAppointments, todaysAppointmentsList, dashboardStats]);
+    }, [todaysAppointmentsList, weeksAppointmentsList]);
 
     // Clock Effect
     useEffect(() => {
@@ -349,17 +359,9 @@ const DashboardPage = () => {
         return () => clearInterval(timer);
     }, []);
 
-    // Get Next Appointment
-    const nextAppointment = useMemo(() => {
-        const now = new Date();
-        return myAppointments
-            .filter(appt => new Date(appt.startTime) > now && appt.status !== 'CANCELLED')
-            .sort((a, b) => new Date(a.startTime) - new Date(b.startTime))[0];
-    }, [myAppointments, currentTime]); // Re-evaluate as time passes (optional, but good for immediate updates)
-
     // Format Events for Calendar
     const events = useMemo(() => {
-        return myAppointments.map(appt => {
+        return calendarItems.map(appt => {
             const typeConfig = APPOINTMENT_TYPES.find(t => t.value === appt.type) || APPOINTMENT_TYPES[0];
 
             // Determine color based on status first, then type
@@ -380,23 +382,23 @@ const DashboardPage = () => {
 
             return {
                 id: appt.id,
-                title: `${appt.client?.firstName || ''} ${appt.client?.lastName || ''} - ${appt.patient?.name || ''} (Vet: ${appt.vet?.firstName || appt.vet?.username || '?'})${isExpired ? ' (No Show)' : ''}`,
+                title: `${appt.clientName || ''} - ${appt.patientName || ''} (Vet: ${appt.vetName || '?'})${isExpired ? ' (No Show)' : ''}`,
                 start: toLocalISOString(start),
                 end: toLocalISOString(end),
                 allDay: false,
                 backgroundColor,
                 borderColor,
                 extendedProps: {
-                    client: appt.client,
-                    patient: appt.patient,
-                    vet: appt.vet,
+                    clientId: appt.clientId,
+                    patientId: appt.patientId,
+                    vetId: appt.vetId,
                     type: appt.type,
                     status: appt.status,
-                    notes: appt.notes
+                    reason: appt.reason
                 }
             };
         });
-    }, [myAppointments]);
+    }, [calendarItems]);
 
     // Auto-select current vet in form when user is available
     useEffect(() => {
@@ -513,11 +515,26 @@ const DashboardPage = () => {
         setPatients([]);
     };
 
+    // Calendar items carry no notes or nested objects, so open the modal on the full appointment
+    const openAppointment = async (id) => {
+        try {
+            const response = await api.get(`${API_BASE_URL}/appointments/${id}`);
+            const appointment = response.data;
+            setShowModal(true);
+            setIsEditMode(true);
+            setSelectedAppointment(appointment);
+            setSelectedSlot({
+                start: new Date(appointment.startTime),
+                end: appointment.endTime ? new Date(appointment.endTime) : null
+            });
+        } catch (error) {
+            console.error('Error loading appointment:', error);
+            alert('Failed to load appointment.');
+        }
+    };
+
     const handleEventClick = (clickInfo) => {
-        setShowModal(true);
-        setIsEditMode(true);
-        setSelectedAppointment(clickInfo.event);
-        setSelectedSlot({ start: clickInfo.event.start, end: clickInfo.event.end });
+        openAppointment(clickInfo.event.id);
     };
 
     // Helper to format payload
@@ -540,7 +557,6 @@ const DashboardPage = () => {
             patientId,
             vetId,
             type: props.type,
-            status: props.status,
             notes: props.notes,
             startTime,
             endTime,
@@ -561,17 +577,9 @@ const DashboardPage = () => {
             newEnd = new Date(newStart.getTime() + duration);
         }
 
-        // Reactivate if moving to future
-        const isFuture = newStart > new Date();
-        let statusOverride = undefined;
-        if (isFuture && event.extendedProps.status === 'SCHEDULED') {
-            statusOverride = 'SCHEDULED';
-        }
-
         const payload = formatPayload(event, {
             startTime: newStart,
-            endTime: newEnd,
-            status: statusOverride
+            endTime: newEnd
         });
 
         try {
@@ -596,7 +604,6 @@ const DashboardPage = () => {
             patientId: formData.patientId,
             vetId: formData.vetId,
             type: formData.type,
-            status: formData.status,
             notes: formData.notes,
             startTime: new Date(formData.startTime).toISOString(),
             endTime: formData.endTime ? new Date(formData.endTime).toISOString() : null
@@ -606,6 +613,11 @@ const DashboardPage = () => {
             const config = { headers: { Authorization: `Bearer ${token}` } };
             if (selectedAppointment?.id) {
                 await api.put(`${API_BASE_URL}/appointments/${selectedAppointment.id}`, payload, config);
+                // The update ignores status; status moves go through the state machine endpoint
+                if (formData.status !== selectedAppointment.status) {
+                    await api.patch(`${API_BASE_URL}/appointments/${selectedAppointment.id}/status`,
+                        { status: formData.status }, config);
+                }
             } else {
                 await api.post(`${API_BASE_URL}/appointments`, payload, config);
             }
@@ -614,6 +626,12 @@ const DashboardPage = () => {
             fetchAppointments();
         } catch (error) {
             console.error('Error saving appointment:', error);
+            // 409: the slot is taken or the status change is not allowed
+            if (error.response?.status === 409) {
+                alert(error.response.data);
+                fetchAppointments();
+                return;
+            }
             alert('Failed to save appointment.');
         }
     };
@@ -638,8 +656,11 @@ const DashboardPage = () => {
         if (!selectedAppointment?.id) return;
         try {
             const config = { headers: { Authorization: `Bearer ${token}` } };
-            const payload = formatPayload(selectedAppointment, { status: 'IN_PROGRESS' });
-            await api.put(`${API_BASE_URL}/appointments/${selectedAppointment.id}`, payload, config);
+            // Check the patient in, unless an exam on this appointment is being resumed
+            if (selectedAppointment.status !== 'CHECKED_IN') {
+                await api.patch(`${API_BASE_URL}/appointments/${selectedAppointment.id}/status`,
+                    { status: 'CHECKED_IN' }, config);
+            }
 
             setExamInitialData(null);
             setIsExamReadOnly(false);
@@ -827,9 +848,7 @@ const DashboardPage = () => {
                 <div
                     onClick={() => {
                         if (nextAppointment) {
-                            setSelectedAppointment(nextAppointment);
-                            setIsEditMode(true);
-                            setShowModal(true);
+                            openAppointment(nextAppointment.id);
                         }
                     }}
                     className={`bg-white rounded-lg shadow p-6 border-l-4 border-purple-500 transition-colors group h-full ${nextAppointment ? 'cursor-pointer hover:bg-purple-50' : ''}`}
@@ -852,10 +871,10 @@ const DashboardPage = () => {
                             {nextAppointment ? (
                                 <div>
                                     <p className="text-lg font-bold text-purple-700 group-hover:text-purple-900 truncate">
-                                        {nextAppointment.patient?.name}
+                                        {nextAppointment.patientName}
                                     </p>
                                     <p className="text-sm text-gray-600 truncate">
-                                        Owner: {nextAppointment.client?.firstName} {nextAppointment.client?.lastName}
+                                        Owner: {nextAppointment.clientName}
                                     </p>
                                     <p className="text-xs text-blue-600 mt-1 font-medium bg-blue-50 inline-block px-1.5 py-0.5 rounded">
                                         {new Date(nextAppointment.startTime).toLocaleTimeString('en-US', { hour: '2-digit', minute: '2-digit', hour12: false })}
@@ -882,6 +901,7 @@ const DashboardPage = () => {
                             right: 'dayGridMonth,timeGridWeek,timeGridDay'
                         }}
                         events={events}
+                        datesSet={onDatesSet}
                         selectable={true}
                         selectMirror={true}
                         dayMaxEvents={true}
@@ -932,15 +952,15 @@ const DashboardPage = () => {
                                                     </span>
                                                 </div>
                                                 <div className="text-gray-900 font-medium">
-                                                    {appt.patient?.name} <span className="text-gray-500 font-normal">({appt.patient?.species})</span>
+                                                    {appt.patientName}
                                                 </div>
                                                 <div className="text-sm text-gray-500">
-                                                    Owner: {appt.client?.firstName} {appt.client?.lastName}
+                                                    Owner: {appt.clientName}
                                                 </div>
                                             </div>
                                             <div className="text-right">
                                                 <span className={`px-3 py-1 rounded-full text-xs font-bold uppercase ${appt.status === 'COMPLETED' ? 'bg-green-100 text-green-800' :
-                                                    appt.status === 'IN_PROGRESS' ? 'bg-orange-100 text-orange-800' :
+                                                    appt.status === 'CHECKED_IN' ? 'bg-orange-100 text-orange-800' :
                                                         appt.status === 'CANCELLED' ? 'bg-red-100 text-red-800' :
                                                             'bg-blue-100 text-blue-800'
                                                     }`}>
@@ -993,15 +1013,15 @@ const DashboardPage = () => {
                                                     </span>
                                                 </div>
                                                 <div className="text-gray-900 font-medium">
-                                                    {appt.patient?.name} <span className="text-gray-500 font-normal">({appt.patient?.species})</span>
+                                                    {appt.patientName}
                                                 </div>
                                                 <div className="text-sm text-gray-500">
-                                                    Owner: {appt.client?.firstName} {appt.client?.lastName}
+                                                    Owner: {appt.clientName}
                                                 </div>
                                             </div>
                                             <div className="text-right">
                                                 <span className={`px-3 py-1 rounded-full text-xs font-bold uppercase ${appt.status === 'COMPLETED' ? 'bg-green-100 text-green-800' :
-                                                    appt.status === 'IN_PROGRESS' ? 'bg-orange-100 text-orange-800' :
+                                                    appt.status === 'CHECKED_IN' ? 'bg-orange-100 text-orange-800' :
                                                         appt.status === 'CANCELLED' ? 'bg-red-100 text-red-800' :
                                                             'bg-blue-100 text-blue-800'
                                                     }`}>
@@ -1070,7 +1090,7 @@ const DashboardPage = () => {
                                 </div>
                                 <div>
                                     <label className="block text-sm font-medium text-gray-700 mb-2">Client <span className="text-red-500">*</span></label>
-                                    <ClientSearchDropdown clients={clients} selectedClient={selectedClient} onSelect={handleClientSelect} disabled={isEditMode || isLocked} />
+                                    <ClientSearchDropdown selectedClient={selectedClient} onSelect={handleClientSelect} disabled={isEditMode || isLocked} />
                                 </div>
                                 <div>
                                     <label className="block text-sm font-medium text-gray-700 mb-2">Patient <span className="text-red-500">*</span> {patientsLoading && <span className="text-blue-500 ml-2">(Loading...)</span>}</label>
@@ -4,92 +4,71 @@ import { useAuth } from '../context/AuthContext';
 import PatientHistoryModal from '../components/PatientHistoryModal';
 import MedicalRecordModal from '../components/MedicalRecordModal';
 
+const PAGE_SIZE = 25;
+
 // ============================================
 // MAIN COMPONENT: PatientsPage
 // ============================================
 const PatientsPage = () => {
     const { token } = useAuth();
     const [patients, setPatients] = useState([]);
-    const [filteredPatients, setFilteredPatients] = useState([]);
     const [loading, setLoading] = useState(true);
     const [searchTerm, setSearchTerm] = useState('');
+    const [debouncedSearch, setDebouncedSearch] = useState('');
+    const [filters, setFilters] = useState({ species: '', sex: '', deceased: '', sterilized: '' });
+    const [page, setPage] = useState(0);
+    const [totalPages, setTotalPages] = useState(0);
+    const [totalElements, setTotalElements] = useState(0);
 
     const [selectedPatient, setSelectedPatient] = useState(null);
     const [showHistoryModal, setShowHistoryModal] = useState(false);
     const [selectedRecord, setSelectedRecord] = useState(null);
     const [isEditRecordModalOpen, setIsEditRecordModalOpen] = useState(false);
 
+    // Search runs on the server; wait for a pause in typing before asking
     useEffect(() => {
-        fetchPatients();
-    }, []);
+        const timer = setTimeout(() => {
+            setDebouncedSearch(searchTerm.trim());
+            setPage(0);
+        }, 300);
+        return () => clearTimeout(timer);
+    }, [searchTerm]);
 
     useEffect(() => {
-        if (!searchTerm.trim()) {
-            setFilteredPatients(patients);
-            return;
-        }
-
-        const searchLower = searchTerm.toLowerCase();
-
-        const filtered = patients.filter(patient => {
-            const petName = (patient.name || '').toLowerCase();
-            const species = (patient.species || '').toLowerCase();
-            const breed = (patient.breed || '').toLowerCase();
-            const ownerName = (patient.ownerName || '').toLowerCase();
-            const ownerPhone = (patient.ownerPhone || '').toLowerCase();
-
-            return (
-                petName.includes(searchLower) ||
-                species.includes(searchLower) ||
-                breed.includes(searchLower) ||
-                ownerName.includes(searchLower) ||
-                ownerPhone.includes(searchLower)
-            );
-        });
-
-        setFilteredPatients(filtered);
-    }, [searchTerm, patients]);
+        fetchPatients();
+    }, [page, debouncedSearch, filters]);
 
     const fetchPatients = async () => {
+        setLoading(true);
         try {
-            // NOTE: We don't have a direct /api/patients endpoint that returns ALL patients with owner info clearly flattened.
-            // We have /api/clients which includes pets.
-            // It might be better to fetch clients and flatten the list of pets from there 
-            // OR use /api/patients if it exists.
-
-            // Let's try to fetch clients and extract pets to ensure we have owner info which is crucial for search.
-            const response = await api.get('http://localhost:8080/api/clients', {
-                headers: { Authorization: `Bearer ${token}` }
+            const params = { page, size: PAGE_SIZE };
+            if (debouncedSearch) params.q = debouncedSearch;
+            Object.entries(filters).forEach(([key, value]) => {
+                if (value !== '') params[key] = value;
             });
 
-            const clients = response.data || [];
-            const allPatients = [];
-
-            clients.forEach(client => {
-                if (client.pets && Array.isArray(client.pets)) {
-                    client.pets.forEach(pet => {
-                        allPatients.push({
-                            ...pet,
-                            ownerId: client.id,
-                            ownerName: `${client.firstName} ${client.lastName}`,
-                            ownerPhone: client.phoneNumber || client.phone
-                        });
-                    });
-                }
+            const response = await api.get('http://localhost:8080/api/patients', {
+                params,
+                headers: { Authorization: `Bearer ${token}` }
             });
 
-            setPatients(allPatients);
-            setFilteredPatients(allPatients);
-
+            const data = response.data || {};
+            setPatients(data.content || []);
+            setTotalPages(data.totalPages || 0);
+            setTotalElements(data.totalElements || 0);
         } catch (error) {
             console.error('Error fetching patients:', error);
-            // Try fallback to /api/patients if clients fail? 
-            // For now, assuming Clients -> Pets is the source of truth as seen in ClientsPage.
         } finally {
             setLoading(false);
         }
     };
 
+    const handleFilterChange = (e) => {
+        const { name, value } = e.target;
+        setFilters(prev => ({ ...prev, [name]: value }));
+        setPage(0);
+    };
+
     const handleViewHistory = (patient) => {
         setSelectedPatient(patient);
         setShowHistoryModal(true);
@@ -149,6 +128,37 @@ const PatientsPage = () => {
                 </div>
             </div>
 
+            {/* Filters */}
+            <div className="flex gap-3 mb-4">
+                <select name="species" value={filters.species} onChange={handleFilterChange}
+                    className="border border-gray-300 rounded-md px-3 py-2 text-sm">
+                    <option value="">All species</option>
+                    <option value="DOG">Dog</option>
+                    <option value="CAT">Cat</option>
+                    <option value="RABBIT">Rabbit</option>
+                    <option value="BIRD">Bird</option>
+                    <option value="OTHER">Other</option>
+                </select>
+                <select name="sex" value={filters.sex} onChange={handleFilterChange}
+                    className="border border-gray-300 rounded-md px-3 py-2 text-sm">
+                    <option value="">Any sex</option>
+                    <option value="MALE">Male</option>
+                    <option value="FEMALE">Female</option>
+                </select>
+                <select name="sterilized" value={filters.sterilized} onChange={handleFilterChange}
+                    className="border border-gray-300 rounded-md px-3 py-2 text-sm">
+                    <option value="">Sterilized or not</option>
+                    <option value="true">Sterilized</option>
+                    <option value="false">Not sterilized</option>
+                </select>
+                <select name="deceased" value={filters.deceased} onChange={handleFilterChange}
+                    className="border border-gray-300 rounded-md px-3 py-2 text-sm">
+                    <option value="">Living and deceased</option>
+                    <option value="false">Living</option>
+                    <option value="true">Deceased</option>
+                </select>
+            </div>
+
             {/* Data Table */}
             <div className="bg-white rounded-lg shadow-md overflow-hidden">
                 {loading ? (
@@ -175,14 +185,14 @@ const PatientsPage = () => {
                             </tr>
                         </thead>
                         <tbody className="bg-white divide-y divide-gray-100">
-                            {filteredPatients.length === 0 ? (
+                            {patients.length === 0 ? (
                                 <tr>
                                     <td colSpan="5" className="px-6 py-12 text-center text-gray-400">
                                         {searchTerm ? 'No patients found matching your search' : 'No patients registered yet'}
                                     </td>
                                 </tr>
                             ) : (
-                                filteredPatients.map((patient) => (
+                                patients.map((patient) => (
                                     <tr key={patient.id} className="hover:bg-gray-50 transition-colors">
                                         <td className="px-6 py-4">
                                             <div className="font-semibold text-gray-900">{patient.name}</div>
@@ -230,6 +240,30 @@ const PatientsPage = () => {
                 )}
             </div>
 
+            {/* Pagination */}
+            {totalPages > 1 && (
+                <div className="flex justify-between items-center mt-4 text-sm text-gray-600">
+                    <span>{totalElements} patients</span>
+                    <div className="flex items-center gap-3">
+                        <button
+                            onClick={() => setPage(p => p - 1)}
+                            disabled={page === 0 || loading}
+                            className="px-3 py-1 border border-gray-300 rounded-md disabled:opacity-50"
+                        >
+                            Previous
+                        </button>
+                        <span>Page {page + 1} of {totalPages}</span>
+                        <button
+                            onClick={() => setPage(p => p + 1)}
+                            disabled={page + 1 >= totalPages || loading}
+                            className="px-3 py-1 border border-gray-300 rounded-md disabled:opacity-50"
+                        >
+                            Next
+                        </button>
+                    </div>
+                </div>
+            )}
+
             {/* History Modal */}
             {showHistoryModal && selectedPatient && (
                 <PatientHistoryModal
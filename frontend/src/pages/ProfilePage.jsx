@@ -19,6 +19,7 @@ const ProfilePage = () => {
     const [loading, setLoading] = useState(true);
     const [saving, setSaving] = useState(false);
     const [message, setMessage] = useState({ type: '', text: '' });
+    const [feedUrl, setFeedUrl] = useState('');
 
     useEffect(() => {
         if (user) {
@@ -95,6 +96,30 @@ const ProfilePage = () => {
         }
     };
 
+    // The token is only shown once; issuing a new one revokes every existing subscription
+    const handleIssueFeedLink = async () => {
+        try {
+            const response = await api.post(`/api/users/${user.id}/calendar-token`);
+            setFeedUrl(`${api.defaults.baseURL}/api/users/${user.id}/calendar.ics?token=${response.data.token}`);
+        } catch (err) {
+            console.error("Error issuing calendar link:", err);
+            alert("Failed to create calendar link.");
+        }
+    };
+
+    const handleRevokeFeedLink = async () => {
+        if (!window.confirm("Calendars subscribed with the current link will stop updating. Continue?")) {
+            return;
+        }
+        try {
+            await api.delete(`/api/users/${user.id}/calendar-token`);
+            setFeedUrl('');
+        } catch (err) {
+            console.error("Error revoking calendar link:", err);
+            alert("Failed to revoke calendar link.");
+        }
+    };
+
     if (loading) return <div className="p-8">Loading profile...</div>;
 
     return (
@@ -181,6 +206,34 @@ const ProfilePage = () => {
                 </form>
             </div>
 
+            <div className="bg-white rounded-lg shadow-md p-8 mt-8">
+                <h3 className="text-lg font-medium text-gray-900 mb-2">Calendar Subscription</h3>
+                <p className="text-gray-600 mb-4">Subscribe to your appointments from a phone or desktop calendar app.</p>
+                {feedUrl && (
+                    <input
+                        type="text"
+                        readOnly
+                        value={feedUrl}
+                        onFocus={(e) => e.target.select()}
+                        className="w-full border border-gray-300 rounded-md px-3 py-2 mb-4 text-sm bg-gray-50"
+                    />
+                )}
+                <div className="flex gap-3">
+                    <button
+                        onClick={handleIssueFeedLink}
+                        className="bg-blue-600 hover:bg-blue-700 text-white px-6 py-2 rounded-md font-semibold transition-colors"
+                    >
+                        {feedUrl ? 'Create New Link' : 'Create Calendar Link'}
+                    </button>
+                    <button
+                        onClick={handleRevokeFeedLink}
+                        className="bg-gray-100 hover:bg-gray-200 text-gray-700 px-6 py-2 rounded-md font-semibold transition-colors"
+                    >
+                        Revoke Link
+                    </button>
+                </div>
+            </div>
+
             <div className="mt-12 pt-8 border-t border-gray-200">
                 <h3 className="text-xl font-bold text-red-600 mb-2">Danger Zone</h3>
                 <p className="text-gray-600 mb-4">Once you delete your account, there is no going back. Please be certain.</p>